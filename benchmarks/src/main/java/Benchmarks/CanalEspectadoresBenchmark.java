@@ -0,0 +1,83 @@
+package Benchmarks;
+
+import Modelo.GestorPuntuacionesConcurrente;
+import Modelo.IGestorPuntuaciones;
+import Servidor.CanalEspectadores;
+import Servidor.PoliticaDesborde;
+import Servidor.SuscripcionEspectador;
+import Servidor.VistaTransmitida;
+import Vista.MenuAutomatico;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Costo que la difusión agrega al bucle de turnos según cuántos espectadores haya, y costo de
+// entregarles un cuadro del lado del selector. En publicarCuadro nadie toma nada: es el caso de
+// espectadores lentos, el que no debe frenar la partida
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CanalEspectadoresBenchmark {
+
+    private static final int CAPACIDAD_COLA = 8;
+    private static final int LOTE = 16;
+
+    @Param({"1", "100", "10000"})
+    private int espectadores;
+
+    @Param({"DESCARTAR_ANTIGUO", "COALESCER"})
+    private PoliticaDesborde politica;
+
+    private CanalEspectadores canal;
+    private SuscripcionEspectador[] suscripciones;
+    private final ByteBuffer[] tomados = new ByteBuffer[LOTE];
+    private ByteBuffer cuadro;
+    private IPuenteJuego juego;
+    private IGestorPuntuaciones gestor;
+    private MenuAutomatico menu;
+    private VistaTransmitida vista;
+    private long semilla;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        canal = new CanalEspectadores();
+        suscripciones = new SuscripcionEspectador[espectadores];
+        for (int i = 0; i < espectadores; i++) {
+            suscripciones[i] = canal.suscribir(CAPACIDAD_COLA, politica);
+        }
+        cuadro = ByteBuffer.allocateDirect(512);
+        juego = IPuenteJuego.crear();
+        gestor = new GestorPuntuacionesConcurrente();
+        menu = new MenuAutomatico(new SplittableRandom(42));
+        vista = new VistaTransmitida(canal);
+    }
+
+    // Solo el reparto de un cuadro ya codificado
+    @Benchmark
+    public long publicarCuadro() {
+        canal.publicar(cuadro);
+        return canal.getPublicados();
+    }
+
+    // Un cuadro publicado y tomado por cada espectador, como lo hace el selector al escribirles
+    @Benchmark
+    public int repartirCuadro() {
+        canal.publicar(cuadro);
+        int total = 0;
+        for (SuscripcionEspectador suscripcion : suscripciones) {
+            total += suscripcion.tomar(tomados, 0, LOTE);
+        }
+        return total;
+    }
+
+    // Partida completa por ControladorJuego, codificando y repartiendo cada turno
+    @Benchmark
+    public int partidaTransmitida() {
+        return juego.jugarPartida("CLASICO", semilla++, vista, menu, gestor);
+    }
+}
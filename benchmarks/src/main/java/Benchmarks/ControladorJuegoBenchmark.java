@@ -0,0 +1,54 @@
+package Benchmarks;
+
+import Modelo.GestorPuntuacionesConcurrente;
+import Modelo.IGestorPuntuaciones;
+import Vista.MenuAutomatico;
+import Vista.VistaGrabadora;
+import Vista.VistaNula;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Partidas completas por el bucle de ControladorJuego, sin terminal: mide el costo del controlador
+// y la tabla de puntuaciones alrededor del motor, que PartidaBenchmark no incluye
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ControladorJuegoBenchmark {
+
+    @Param({"CLASICO", "SOLO"})
+    private String modo;
+
+    private IPuenteJuego juego;
+    private IGestorPuntuaciones gestor;
+    private MenuAutomatico menu;
+    private VistaNula vistaNula;
+    private VistaGrabadora grabadora;
+    private long semilla;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        juego = IPuenteJuego.crear();
+        // En memoria: las partidas no tocan el disco
+        gestor = new GestorPuntuacionesConcurrente();
+        menu = new MenuAutomatico(new SplittableRandom(42), modo);
+        vistaNula = new VistaNula();
+        grabadora = new VistaGrabadora();
+    }
+
+    @Benchmark
+    public int partidaConVistaNula() {
+        return juego.jugarPartida(modo, semilla++, vistaNula, menu, gestor);
+    }
+
+    @Benchmark
+    public int partidaConVistaGrabadora() {
+        grabadora.reiniciar();
+        juego.jugarPartida(modo, semilla++, grabadora, menu, gestor);
+        return grabadora.getCantidad();
+    }
+}
@@ -0,0 +1,62 @@
+package Benchmarks;
+
+import EfectosEspeciales.CategoriaEfecto;
+import EfectosEspeciales.EfectoEspecial;
+import EfectosEspeciales.GestorEfectos;
+import EfectosEspeciales.TipoEfecto;
+import Jugador.Jugador;
+import Jugador.Revolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EfectosBenchmark {
+
+    @Param({"VIDA_EXTRA", "VAMPIRO", "DESARMAR", "BALA_LOCA", "SABOTAJE", "CAOS"})
+    private String tipo;
+
+    // Los efectos neutrales ignoran la categoría
+    @Param({"POSITIVA", "NEGATIVA"})
+    private String categoria;
+
+    private EfectoEspecial efecto;
+    private CategoriaEfecto categoriaEfecto;
+    private RandomGenerator random;
+    private Jugador jugador1;
+    private Jugador jugador2;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        TipoEfecto tipoEfecto = TipoEfecto.valueOf(tipo);
+        efecto = EfectoEspecial.obtener(tipoEfecto);
+        categoriaEfecto = GestorEfectos.esEfectoNeutral(tipoEfecto) ? CategoriaEfecto.NEUTRAL : CategoriaEfecto.valueOf(categoria);
+        random = RandomGeneratorFactory.of("L64X128MixRandom").create(42L);
+    }
+
+    // Vidas y balas se restauran en cada iteración para que VAMPIRO o BALA_LOCA no queden saturados
+    @Setup(Level.Iteration)
+    public void prepararJugadores() {
+        jugador1 = new Jugador("J1", new Revolver(random), 5);
+        jugador2 = new Jugador("J2", new Revolver(random), 5);
+        jugador1.getRevolver().setBalas(3);
+        jugador2.getRevolver().setBalas(3);
+    }
+
+    @Benchmark
+    public String aplicar() {
+        return efecto.aplicar(jugador1, jugador2, categoriaEfecto, random);
+    }
+
+    @Benchmark
+    public int ejecutar() {
+        return efecto.ejecutar(jugador1, jugador2, categoriaEfecto, random);
+    }
+}
@@ -0,0 +1,24 @@
+package Benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Punto de entrada del jar de benchmarks: acepta las opciones normales de JMH
+// y siempre agrega el perfilador de GC para reportar la tasa de asignación junto al throughput.
+public class EjecutarBenchmarks {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions opcionesLinea = new CommandLineOptions(args);
+        OptionsBuilder opciones = new OptionsBuilder();
+        opciones.parent(opcionesLinea);
+        if (opcionesLinea.getIncludes().isEmpty()) {
+            opciones.include(EjecutarBenchmarks.class.getPackageName() + "\\..*Benchmark");
+        }
+        opciones.addProfiler(GCProfiler.class);
+        new Runner(opciones.build()).run();
+    }
+}
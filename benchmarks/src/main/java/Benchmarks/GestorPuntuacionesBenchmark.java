@@ -0,0 +1,65 @@
+package Benchmarks;
+
+import Modelo.GestorPuntuaciones;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GestorPuntuacionesBenchmark {
+
+    private GestorPuntuaciones gestor;
+    private Path directorio;
+    private Path archivo;
+    private int puntaje;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        // Junto al .json quedan el registro (.log) y el archivo de bloqueo: se borra la carpeta entera
+        directorio = Files.createTempDirectory("highscores_bench");
+        archivo = directorio.resolve("highscores.json");
+        Files.writeString(archivo, "[{\"nombre\":\"morena\",\"puntaje\":13},{\"nombre\":\"Santino\",\"puntaje\":15},"
+                + "{\"nombre\":\"morena\",\"puntaje\":3},{\"nombre\":\"santino6\",\"puntaje\":3},{\"nombre\":\"martin\",\"puntaje\":2}]");
+        gestor = new GestorPuntuaciones();
+    }
+
+    @TearDown(Level.Trial)
+    public void limpiar() throws IOException {
+        gestor.close();
+        try (Stream<Path> archivos = Files.walk(directorio)) {
+            for (Path camino : archivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(camino);
+            }
+        }
+    }
+
+    // Cada puntaje supera al anterior: siempre entra al top. El disco queda para el hilo de fondo
+    @Benchmark
+    public boolean actualizarPuntuacionQueCalifica() {
+        return gestor.actualizarPuntuacion("bench", ++puntaje, archivo.toString());
+    }
+
+    // Puntaje 0 nunca califica: mide solo la comparación contra la tabla
+    @Benchmark
+    public boolean actualizarPuntuacionQueNoCalifica() {
+        return gestor.actualizarPuntuacion("bench", 0, archivo.toString());
+    }
+
+    // Registro más volcado inmediato: el costo completo con el disco en el camino de la partida
+    @Benchmark
+    public boolean actualizarPuntuacionYGuardar() {
+        boolean entro = gestor.actualizarPuntuacion("bench", ++puntaje, archivo.toString());
+        gestor.guardarPendientes();
+        return entro;
+    }
+}
@@ -0,0 +1,72 @@
+package Benchmarks;
+
+import Modelo.GestorPuntuacionesConcurrente;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Muchos hilos registrando partidas en el mismo gestor. Comparar el throughput con 1 hilo y con
+// todos los núcleos muestra si escala: la mayoría de los puntajes no entra al top y no toma bloqueos.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GestorPuntuacionesConcurrenteBenchmark {
+
+    private static final int JUGADORES = 1024;
+
+    // Mismo modo para todos los hilos: es el caso de más contención
+    @Param({"CLASICO"})
+    public String modo;
+
+    private GestorPuntuacionesConcurrente gestor;
+    private String[] nombres;
+
+    @State(Scope.Thread)
+    public static class Hilo {
+        private static final AtomicInteger SEMILLAS = new AtomicInteger();
+        private final SplittableRandom random = new SplittableRandom(SEMILLAS.incrementAndGet());
+
+        // Rachas con distribución geométrica, como las de una partida real: los puntajes altos son raros
+        int puntaje() {
+            return Integer.numberOfTrailingZeros(random.nextInt() | (1 << 30)) * 3 + random.nextInt(3);
+        }
+
+        int jugador() {
+            return random.nextInt(JUGADORES);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        gestor = new GestorPuntuacionesConcurrente();
+        nombres = new String[JUGADORES];
+        for (int i = 0; i < JUGADORES; i++) {
+            nombres[i] = "jugador" + i;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean registrarUnHilo(Hilo hilo) {
+        return gestor.actualizarPuntuacionDeModo(modo, nombres[hilo.jugador()], hilo.puntaje());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean registrarTodosLosHilos(Hilo hilo) {
+        return gestor.actualizarPuntuacionDeModo(modo, nombres[hilo.jugador()], hilo.puntaje());
+    }
+
+    // Lectores concurrentes con los escritores: el top publicado se lee sin bloqueo
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int leerTopConEscritores(Hilo hilo) {
+        gestor.actualizarPuntuacionDeModo(modo, nombres[hilo.jugador()], hilo.puntaje());
+        return gestor.obtenerTopDeModo(modo).size();
+    }
+}
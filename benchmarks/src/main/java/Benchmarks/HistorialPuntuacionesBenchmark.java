@@ -0,0 +1,94 @@
+package Benchmarks;
+
+import Modelo.EntradaPuntuacion;
+import Modelo.GestorPuntuaciones;
+import Modelo.PosicionRanking;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Top y posiciones desde la memoria (camino JSON) contra el historial binario mapeado,
+// sobre una tabla con muchas partidas ya compactadas
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HistorialPuntuacionesBenchmark {
+
+    private static final int PARTIDAS = 100_000;
+    private static final int TANDA = 1024;
+
+    @Param({"false", "true"})
+    public boolean conHistorial;
+
+    private Path directorio;
+    private String ruta;
+    private GestorPuntuaciones gestor;
+    private int puntaje;
+    private final SplittableRandom azar = new SplittableRandom(7);
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        directorio = Files.createTempDirectory("historial_bench");
+        ruta = directorio.resolve("highscores.json").toString();
+        SplittableRandom random = new SplittableRandom(42);
+        // Cerrar compacta: la instantánea y el .bin quedan con todas las partidas
+        try (GestorPuntuaciones carga = new GestorPuntuaciones(10, Clock.systemDefaultZone(), conHistorial)) {
+            for (int i = 0; i < PARTIDAS; i++) {
+                carga.actualizarPuntuacion("J" + random.nextInt(5_000), random.nextInt(200), ruta);
+            }
+        }
+        gestor = new GestorPuntuaciones(10, Clock.systemDefaultZone(), conHistorial);
+        gestor.obtenerTop(ruta);
+    }
+
+    @TearDown(Level.Trial)
+    public void limpiar() throws IOException {
+        gestor.close();
+        try (Stream<Path> archivos = Files.walk(directorio)) {
+            for (Path archivo : archivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(archivo);
+            }
+        }
+    }
+
+    // Arranque en frío: abrir la tabla y responder una posición. Sin cerrar, para no compactar cada vez
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public PosicionRanking abrirYConsultar() {
+        GestorPuntuaciones nuevo = new GestorPuntuaciones(10, Clock.systemDefaultZone(), conHistorial);
+        return nuevo.obtenerPosicion(100, ruta);
+    }
+
+    @Benchmark
+    public PosicionRanking obtenerPosicion() {
+        puntaje = (puntaje + 7) % 200;
+        return gestor.obtenerPosicion(puntaje, ruta);
+    }
+
+    @Benchmark
+    public List<EntradaPuntuacion> obtenerTop() {
+        return gestor.obtenerTop(ruta);
+    }
+
+    // Una tanda de partidas y el cierre que la compacta: con historial, la tanda se funde en el .bin
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public void compactarTanda() {
+        try (GestorPuntuaciones tanda = new GestorPuntuaciones(10, Clock.systemDefaultZone(), conHistorial)) {
+            for (int i = 0; i < TANDA; i++) {
+                tanda.actualizarPuntuacion("J" + azar.nextInt(5_000), azar.nextInt(200), ruta);
+            }
+        }
+    }
+}
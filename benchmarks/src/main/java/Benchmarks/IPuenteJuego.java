@@ -0,0 +1,33 @@
+package Benchmarks;
+
+import Modelo.IGestorPuntuaciones;
+import Modelo.ResultadoApuesta;
+import Vista.IMenu;
+import Vista.IVista;
+
+// Partida, ModoJuego y TipoApuesta viven en el paquete por defecto y no se pueden importar desde un
+// paquete con nombre (JMH exige uno). PuenteJuego, también en el paquete por defecto, los expone a
+// los benchmarks a través de esta interfaz.
+public interface IPuenteJuego {
+
+    String NOMBRE_IMPLEMENTACION = "PuenteJuego";
+
+    static IPuenteJuego crear() {
+        try {
+            return (IPuenteJuego) Class.forName(NOMBRE_IMPLEMENTACION).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No se pudo crear el puente hacia Partida", e);
+        }
+    }
+
+    void iniciarPartida(String modo, long semilla);
+
+    boolean partidaTerminada();
+
+    ResultadoApuesta procesarApuesta(boolean apuestaMayor);
+
+    long procesarApuestaCompacta(boolean apuestaMayor);
+
+    // Una partida entera a través de ControladorJuego; devuelve cuántos turnos duró
+    int jugarPartida(String modo, long semilla, IVista vista, IMenu menu, IGestorPuntuaciones gestor);
+}
@@ -0,0 +1,52 @@
+package Benchmarks;
+
+import Carta.Carta;
+import Carta.Mazo;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MazoBenchmark {
+
+    // Un mazo estándar tiene 52 cartas: robar 53 fuerza exactamente un rebarajado
+    private static final int ROBOS_CON_REBARAJADO = 53;
+
+    @Param({"0.15", "0.20"})
+    private double probabilidadEspeciales;
+
+    private RandomGenerator random;
+    private Mazo mazo;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        random = RandomGeneratorFactory.of("L64X128MixRandom").create(42L);
+        mazo = Mazo.crearMazoEstandar(probabilidadEspeciales, true, random);
+    }
+
+    @Benchmark
+    public Carta robarCarta() {
+        return mazo.robarCarta();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROBOS_CON_REBARAJADO)
+    public void robarConRebarajado(Blackhole blackhole) {
+        for (int i = 0; i < ROBOS_CON_REBARAJADO; i++) {
+            blackhole.consume(mazo.robarCarta());
+        }
+    }
+
+    @Benchmark
+    public Mazo crearMazoEstandar() {
+        return Mazo.crearMazoEstandar(probabilidadEspeciales, true, random);
+    }
+}
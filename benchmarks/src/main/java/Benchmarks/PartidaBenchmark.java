@@ -0,0 +1,48 @@
+package Benchmarks;
+
+import Modelo.ResultadoApuesta;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PartidaBenchmark {
+
+    @Param({"CLASICO", "SOBRECARGA", "MUERTE_SUBITA", "SOLO"})
+    private String modo;
+
+    private IPuenteJuego juego;
+    private long semilla;
+    private boolean apuestaMayor;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        juego = IPuenteJuego.crear();
+        juego.iniciarPartida(modo, semilla++);
+    }
+
+    // Cuando la partida termina se arranca otra: el costo de reiniciar queda incluido y amortizado
+    private void asegurarPartidaEnCurso() {
+        if (juego.partidaTerminada()) {
+            juego.iniciarPartida(modo, semilla++);
+        }
+        apuestaMayor = !apuestaMayor;
+    }
+
+    @Benchmark
+    public ResultadoApuesta procesarApuesta() {
+        asegurarPartidaEnCurso();
+        return juego.procesarApuesta(apuestaMayor);
+    }
+
+    @Benchmark
+    public long procesarApuestaCompacta() {
+        asegurarPartidaEnCurso();
+        return juego.procesarApuestaCompacta(apuestaMayor);
+    }
+}
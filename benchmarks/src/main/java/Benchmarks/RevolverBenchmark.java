@@ -0,0 +1,41 @@
+package Benchmarks;
+
+import Jugador.Revolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGeneratorFactory;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RevolverBenchmark {
+
+    @Param({"1", "3", "6"})
+    private int balasIniciales;
+
+    private Revolver revolver;
+    private int balas;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        revolver = new Revolver(RandomGeneratorFactory.of("L64X128MixRandom").create(42L));
+        revolver.setBalas(balasIniciales);
+    }
+
+    @Benchmark
+    public boolean girarYDisparar() {
+        return revolver.girarYDisparar();
+    }
+
+    @Benchmark
+    public int setBalas() {
+        // Recorre 0..capacidad para no medir siempre la misma carga
+        balas = balas == revolver.getCapacidad() ? 0 : balas + 1;
+        revolver.setBalas(balas);
+        return balas;
+    }
+}
@@ -0,0 +1,62 @@
+import Benchmarks.IPuenteJuego;
+import Jugador.Jugador;
+import Modelo.IGestorPuntuaciones;
+import Modelo.ResultadoApuesta;
+import Vista.IMenu;
+import Vista.IVista;
+
+public class PuenteJuego implements IPuenteJuego {
+
+    private Partida partida;
+    private boolean esSolo;
+
+    @Override
+    public void iniciarPartida(String modo, long semilla) {
+        ModoJuego modoJuego = ModoJuego.fromString(modo);
+        esSolo = modoJuego == ModoJuego.SOLO;
+        partida = new Partida(modoJuego, new DecisionesAleatorias(GeneradorAleatorio.crear(semilla ^ 0x5DEECE66DL)), semilla);
+        partida.agregarJugador("J1");
+        if (!esSolo) {
+            partida.agregarJugador("J2");
+        }
+        partida.iniciarPartida();
+    }
+
+    @Override
+    public boolean partidaTerminada() {
+        if (partida.getEstado().haFinalizado()) {
+            return true;
+        }
+        return partida.getJugador1().getVidas() <= 0
+                || (!esSolo && partida.getJugador2().getVidas() <= 0);
+    }
+
+    @Override
+    public ResultadoApuesta procesarApuesta(boolean apuestaMayor) {
+        ResultadoApuesta resultado = partida.procesarApuesta(jugadorActual(), apuesta(apuestaMayor));
+        partida.incrementarTurno();
+        return resultado;
+    }
+
+    @Override
+    public long procesarApuestaCompacta(boolean apuestaMayor) {
+        long resultado = partida.procesarApuestaCompacta(jugadorActual(), apuesta(apuestaMayor));
+        partida.incrementarTurno();
+        return resultado;
+    }
+
+    @Override
+    public int jugarPartida(String modo, long semilla, IVista vista, IMenu menu, IGestorPuntuaciones gestor) {
+        iniciarPartida(modo, semilla);
+        new ControladorJuego(partida, ModoJuego.fromString(modo), gestor, vista, menu).jugar();
+        return partida.getTurnosContador();
+    }
+
+    private Jugador jugadorActual() {
+        return (esSolo || partida.getTurnosContador() % 2 == 1) ? partida.getJugador1() : partida.getJugador2();
+    }
+
+    private static TipoApuesta apuesta(boolean apuestaMayor) {
+        return apuestaMayor ? TipoApuesta.MAYOR : TipoApuesta.MENOR;
+    }
+}
@@ -0,0 +1,503 @@
+import Carta.Carta;
+import Exceptions.JugadorNullException;
+import Exceptions.JugadoresCompletosException;
+import Exceptions.MesaNoEncontradaException;
+import Exceptions.PartidaIniciadaException;
+import Exceptions.PartidaNoIniciadaException;
+import Exceptions.TurnoIncorrectoException;
+import Jugador.Jugador;
+import Modelo.IGestorPuntuaciones;
+import Modelo.PeriodoPuntuaciones;
+import Modelo.ResultadoApuesta;
+import Moneda.Lado;
+import Moneda.Moneda;
+import Servidor.CuerpoJson;
+import Servidor.RespuestaJson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// API HTTP/JSON del juego sobre el HttpServer del JDK. Cada petición corre en su propio hilo
+// virtual; una mesa entre peticiones es solo estado en un mapa (ningún hilo esperando), así que
+// decenas de miles de mesas inactivas no cuestan más que su memoria. Las que pasan demasiado
+// tiempo sin uso se descartan.
+//
+//   POST   /partidas                    {"modo":"CLASICO"}
+//   GET    /partidas/{id}
+//   DELETE /partidas/{id}
+//   POST   /partidas/{id}/jugadores     {"nombre":"Ana"}
+//   POST   /partidas/{id}/iniciar
+//   POST   /partidas/{id}/moneda        {"lado":"CARA"}
+//   POST   /partidas/{id}/apuestas      {"apuesta":"MAYOR", "jugador":"Ana", "lado":"CRUZ"}
+//   GET    /puntuaciones/{modo}?vista=historico|hoy|semana|jugadores
+public class ApiJuegoHttp implements AutoCloseable {
+
+    // ================ CONSTANTES ================
+    private static final int MAXIMO_MESAS_POR_DEFECTO = 100_000;
+    private static final Duration INACTIVIDAD_POR_DEFECTO = Duration.ofMinutes(30);
+    private static final int MAXIMO_CUERPO = 4096;
+    private static final int CONEXIONES_EN_ESPERA = 1024;
+
+    private static final String PARTIDAS = "partidas";
+    private static final String PUNTUACIONES = "puntuaciones";
+    private static final String TIPO_JSON = "application/json; charset=utf-8";
+
+    // ================ ATRIBUTOS ================
+    private final InetSocketAddress direccion;
+    private final IGestorPuntuaciones gestorPuntuaciones;
+    private final int maximoMesas;
+    private final long inactividadNanos;
+
+    private final Map<String, Mesa> mesas = new ConcurrentHashMap<>();
+    // Lugares tomados, contando las mesas que se están creando: el tope se reserva antes de crear
+    private final AtomicInteger lugaresOcupados = new AtomicInteger();
+
+    private HttpServer servidor;
+    private ExecutorService ejecutor;
+    private ScheduledExecutorService limpiador;
+
+    // ================ CONSTRUCTORES ================
+    public ApiJuegoHttp(InetSocketAddress direccion, IGestorPuntuaciones gestorPuntuaciones) {
+        this(direccion, gestorPuntuaciones, MAXIMO_MESAS_POR_DEFECTO, INACTIVIDAD_POR_DEFECTO);
+    }
+
+    public ApiJuegoHttp(InetSocketAddress direccion, IGestorPuntuaciones gestorPuntuaciones, int maximoMesas, Duration inactividad) {
+        if (direccion == null || gestorPuntuaciones == null) {
+            throw new IllegalArgumentException("La dirección y el gestor de puntuaciones no pueden ser null");
+        }
+        if (maximoMesas <= 0 || inactividad.isNegative() || inactividad.isZero()) {
+            throw new IllegalArgumentException("El máximo de mesas y la inactividad deben ser positivos");
+        }
+        this.direccion = direccion;
+        this.gestorPuntuaciones = gestorPuntuaciones;
+        this.maximoMesas = maximoMesas;
+        this.inactividadNanos = inactividad.toNanos();
+    }
+
+    // ================ CICLO DE VIDA ================
+    public synchronized void iniciar() {
+        if (servidor != null) {
+            throw new IllegalStateException("La API ya está iniciada");
+        }
+        try {
+            servidor = HttpServer.create(direccion, CONEXIONES_EN_ESPERA);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir la API en " + direccion, e);
+        }
+        ejecutor = Executors.newVirtualThreadPerTaskExecutor();
+        servidor.setExecutor(ejecutor);
+        servidor.createContext("/" + PARTIDAS, intercambio -> atender(intercambio, PARTIDAS, this::atenderPartidas));
+        servidor.createContext("/" + PUNTUACIONES, intercambio -> atender(intercambio, PUNTUACIONES, this::atenderPuntuaciones));
+        servidor.start();
+
+        long periodo = Math.max(TimeUnit.NANOSECONDS.toMillis(inactividadNanos) / 4, 1);
+        limpiador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "limpieza-mesas");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        limpiador.scheduleWithFixedDelay(this::descartarInactivas, periodo, periodo, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (servidor == null) {
+            return;
+        }
+        servidor.stop(0);
+        limpiador.shutdownNow();
+        ejecutor.close();
+        servidor = null;
+        mesas.clear();
+        lugaresOcupados.set(0);
+    }
+
+    public int getPuerto() {
+        if (servidor == null) {
+            throw new IllegalStateException("La API no está iniciada");
+        }
+        return servidor.getAddress().getPort();
+    }
+
+    public int getMesasAbiertas() {
+        return mesas.size();
+    }
+
+    private void descartarInactivas() {
+        long limite = System.nanoTime() - inactividadNanos;
+        for (Mesa mesa : mesas.values()) {
+            if (mesa.ultimoUso - limite < 0) {
+                liberar(mesa);
+            }
+        }
+    }
+
+    // Solo quien la saca del mapa devuelve el lugar: un DELETE y la limpieza a la vez no lo liberan dos veces
+    private void liberar(Mesa mesa) {
+        if (mesas.remove(mesa.id, mesa)) {
+            lugaresOcupados.decrementAndGet();
+        }
+    }
+
+    // ================ RUTAS ================
+    private Respuesta atenderPartidas(HttpExchange intercambio, String[] partes) {
+        String metodo = intercambio.getRequestMethod();
+        // partes: ["partidas"], ["partidas", id] o ["partidas", id, accion]
+        if (partes.length == 1) {
+            exigirMetodo(metodo, "POST");
+            return crearMesa(leerCuerpo(intercambio));
+        }
+        Mesa mesa = buscarMesa(partes[1]);
+        if (partes.length == 2) {
+            if ("DELETE".equals(metodo)) {
+                liberar(mesa);
+                return new Respuesta(200, new RespuestaJson().campo("id", mesa.id).campo("eliminada", true).terminar());
+            }
+            exigirMetodo(metodo, "GET");
+            return enMesa(mesa, () -> new Respuesta(200, describir(new RespuestaJson(), mesa).terminar()));
+        }
+        if (partes.length != 3) {
+            throw new MesaNoEncontradaException("Ruta desconocida: " + intercambio.getRequestURI().getPath());
+        }
+        exigirMetodo(metodo, "POST");
+        CuerpoJson cuerpo = leerCuerpo(intercambio);
+        return switch (partes[2]) {
+            case "jugadores" -> enMesa(mesa, () -> agregarJugador(mesa, cuerpo));
+            case "iniciar" -> enMesa(mesa, () -> iniciar(mesa));
+            case "moneda" -> enMesa(mesa, () -> elegirLado(mesa, cuerpo));
+            case "apuestas" -> enMesa(mesa, () -> apostar(mesa, cuerpo));
+            default -> throw new MesaNoEncontradaException("Acción desconocida: " + partes[2]);
+        };
+    }
+
+    private Respuesta atenderPuntuaciones(HttpExchange intercambio, String[] partes) {
+        exigirMetodo(intercambio.getRequestMethod(), "GET");
+        if (partes.length != 2) {
+            throw new MesaNoEncontradaException("Indique el modo: /puntuaciones/{modo}");
+        }
+        ModoJuego modo = ModoJuego.fromString(partes[1].toUpperCase(Locale.ROOT));
+        String vista = parametro(intercambio, "vista", "historico");
+        RespuestaJson json = new RespuestaJson().campo("modo", modo.name()).campo("vista", vista);
+        switch (vista) {
+            case "historico" -> json.puntuaciones("top", gestorPuntuaciones.obtenerTopDeModo(modo.name()));
+            case "hoy" -> json.puntuaciones("top", gestorPuntuaciones.obtenerTopDeModo(modo.name(), PeriodoPuntuaciones.HOY));
+            case "semana" -> json.puntuaciones("top", gestorPuntuaciones.obtenerTopDeModo(modo.name(), PeriodoPuntuaciones.SEMANA));
+            case "jugadores" -> json.puntuaciones("top", gestorPuntuaciones.obtenerTopJugadoresDeModo(modo.name()));
+            default -> throw new IllegalArgumentException("Vista inválida: '" + vista + "'. Valores válidos: historico, hoy, semana, jugadores");
+        }
+        return new Respuesta(200, json.terminar());
+    }
+
+    // ================ OPERACIONES DEL JUEGO ================
+    private Respuesta crearMesa(CuerpoJson cuerpo) {
+        ModoJuego modo = ModoJuego.fromString(cuerpo.requerido("modo").toUpperCase(Locale.ROOT));
+        // Reservar y después crear: con comprobar size() antes del put, varias peticiones a la vez pasaban el tope
+        if (lugaresOcupados.incrementAndGet() > maximoMesas) {
+            lugaresOcupados.decrementAndGet();
+            return new Respuesta(503, RespuestaJson.error("Se alcanzó el máximo de " + maximoMesas + " mesas abiertas"));
+        }
+        Mesa mesa;
+        try {
+            mesa = new Mesa(UUID.randomUUID().toString(), modo);
+        } catch (RuntimeException e) {
+            lugaresOcupados.decrementAndGet();
+            throw e;
+        }
+        mesas.put(mesa.id, mesa);
+        return new Respuesta(201, describir(new RespuestaJson(), mesa).terminar());
+    }
+
+    private Respuesta agregarJugador(Mesa mesa, CuerpoJson cuerpo) {
+        String mensaje = mesa.partida.agregarJugador(cuerpo.requerido("nombre").trim());
+        return new Respuesta(200, describir(new RespuestaJson().campo("mensaje", mensaje), mesa).terminar());
+    }
+
+    private Respuesta iniciar(Mesa mesa) {
+        String mensaje = mesa.partida.iniciarPartida();
+        return new Respuesta(200, describir(new RespuestaJson().campo("mensaje", mensaje), mesa).terminar());
+    }
+
+    // La elección vale para la próxima moneda que se lance en esta mesa; sin elección, se sortea
+    private Respuesta elegirLado(Mesa mesa, CuerpoJson cuerpo) {
+        mesa.ladoElegido = leerLado(cuerpo.requerido("lado"));
+        return new Respuesta(200, new RespuestaJson().campo("lado", mesa.ladoElegido.name()).terminar());
+    }
+
+    // Mismas reglas de turno y puntaje que ControladorJuego, una apuesta por petición
+    private Respuesta apostar(Mesa mesa, CuerpoJson cuerpo) {
+        Partida partida = mesa.partida;
+        if (!partida.getEstado().estaActiva()) {
+            throw new PartidaNoIniciadaException("La partida no está en curso");
+        }
+        TipoApuesta apuesta = TipoApuesta.fromString(cuerpo.requerido("apuesta").toUpperCase(Locale.ROOT));
+        Jugador jugador = mesa.jugadorDeTurno();
+        String nombre = cuerpo.texto("jugador");
+        if (nombre != null && !nombre.equals(jugador.getNombre())) {
+            throw new TurnoIncorrectoException("No es el turno de " + nombre + ": le toca a " + jugador.getNombre());
+        }
+        String lado = cuerpo.texto("lado");
+        if (lado != null) {
+            mesa.ladoElegido = leerLado(lado);
+        }
+
+        ResultadoApuesta resultado = partida.procesarApuesta(jugador, apuesta);
+        boolean terminada;
+        if (mesa.modo == ModoJuego.SOLO) {
+            terminada = partida.getEstado().haFinalizado();
+            if (!terminada) {
+                mesa.racha++;
+            }
+        } else {
+            if (resultado.acerto()) {
+                if (jugador == partida.getJugador1()) {
+                    mesa.aciertos1++;
+                } else {
+                    mesa.aciertos2++;
+                }
+            }
+            partida.incrementarTurno();
+            terminada = partida.getJugador1().getVidas() <= 0 || partida.getJugador2().getVidas() <= 0;
+            if (terminada) {
+                // Partida solo se da por terminada sola cuando la cierra un efecto: acá no hay bucle que corte
+                partida.setEstado(Estado.FINALIZADO);
+            }
+        }
+
+        RespuestaJson json = new RespuestaJson().resultado("resultado", resultado);
+        if (terminada) {
+            registrarFinal(mesa, json);
+        }
+        return new Respuesta(200, describir(json, mesa).terminar());
+    }
+
+    private void registrarFinal(Mesa mesa, RespuestaJson json) {
+        Partida partida = mesa.partida;
+        String nombre;
+        int puntaje;
+        if (mesa.modo == ModoJuego.SOLO) {
+            nombre = partida.getJugador1().getNombre();
+            puntaje = mesa.racha;
+        } else {
+            boolean ganoPrimero = partida.getJugador1().getVidas() > 0;
+            nombre = (ganoPrimero ? partida.getJugador1() : partida.getJugador2()).getNombre();
+            puntaje = ganoPrimero ? mesa.aciertos1 : mesa.aciertos2;
+        }
+        boolean record = gestorPuntuaciones.actualizarPuntuacionDeModo(mesa.modo.name(), nombre, puntaje);
+        json.objeto("final")
+                .campo("ganador", nombre)
+                .campo("puntaje", puntaje)
+                .campo("puntuacionAlta", record)
+                .posicion("ranking", gestorPuntuaciones.obtenerPosicionDeModo(mesa.modo.name(), puntaje))
+                .fin();
+    }
+
+    private static RespuestaJson describir(RespuestaJson json, Mesa mesa) {
+        Partida partida = mesa.partida;
+        json.campo("id", mesa.id)
+                .campo("modo", mesa.modo.name())
+                .campo("estado", partida.getEstado().name())
+                .campo("turno", partida.getTurnosContador());
+        json.lista("jugadores");
+        agregarJugador(json, partida.getJugador1());
+        agregarJugador(json, partida.getJugador2());
+        json.fin();
+        Carta carta = partida.getCartaActual();
+        if (carta != null) {
+            json.carta("cartaActual", carta);
+        }
+        if (partida.getEstado().estaActiva()) {
+            json.campo("turnoDe", mesa.jugadorDeTurno().getNombre());
+        }
+        if (mesa.modo == ModoJuego.SOLO) {
+            json.campo("racha", mesa.racha);
+        }
+        return json;
+    }
+
+    private static void agregarJugador(RespuestaJson json, Jugador jugador) {
+        if (jugador != null) {
+            json.objeto(null).campo("nombre", jugador.getNombre()).campo("vidas", jugador.getVidas()).fin();
+        }
+    }
+
+    // ================ PLOMERÍA HTTP ================
+    private interface Ruta {
+        Respuesta atender(HttpExchange intercambio, String[] partes);
+    }
+
+    private record Respuesta(int estado, String json) {
+    }
+
+    private interface Operacion {
+        Respuesta ejecutar();
+    }
+
+    // Las excepciones del juego se traducen a códigos HTTP; el cuerpo siempre es JSON.
+    // createContext compara por prefijo: /partidasX también llega acá, así que se exige la raíz exacta
+    private void atender(HttpExchange intercambio, String raiz, Ruta ruta) throws IOException {
+        Respuesta respuesta;
+        String camino = intercambio.getRequestURI().getPath();
+        try {
+            String[] partes = camino.substring(1).split("/");
+            if (!partes[0].equals(raiz)) {
+                throw new MesaNoEncontradaException("Ruta desconocida: " + camino);
+            }
+            respuesta = ruta.atender(intercambio, partes);
+        } catch (MesaNoEncontradaException e) {
+            respuesta = new Respuesta(404, RespuestaJson.error(e.getMessage()));
+        } catch (MetodoNoPermitido e) {
+            respuesta = new Respuesta(405, RespuestaJson.error(e.getMessage()));
+        } catch (CuerpoDemasiadoGrande e) {
+            respuesta = new Respuesta(413, RespuestaJson.error(e.getMessage()));
+        } catch (JugadoresCompletosException | PartidaIniciadaException | PartidaNoIniciadaException
+                 | JugadorNullException | TurnoIncorrectoException e) {
+            respuesta = new Respuesta(409, RespuestaJson.error(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            respuesta = new Respuesta(400, RespuestaJson.error(e.getMessage()));
+        } catch (RuntimeException e) {
+            // El detalle queda en el servidor; al cliente no se le muestran clases ni mensajes internos
+            System.err.println("Error atendiendo " + intercambio.getRequestMethod() + " " + camino + ": " + e);
+            e.printStackTrace();
+            respuesta = new Respuesta(500, RespuestaJson.error("Error interno del servidor"));
+        }
+        responder(intercambio, respuesta);
+    }
+
+    private static void responder(HttpExchange intercambio, Respuesta respuesta) throws IOException {
+        byte[] cuerpo = respuesta.json().getBytes(StandardCharsets.UTF_8);
+        intercambio.getResponseHeaders().set("Content-Type", TIPO_JSON);
+        intercambio.sendResponseHeaders(respuesta.estado(), cuerpo.length);
+        try (OutputStream salida = intercambio.getResponseBody()) {
+            salida.write(cuerpo);
+        }
+    }
+
+    // Una mesa atiende una petición a la vez; el cerrojo no fija el hilo virtual a su portador
+    private static Respuesta enMesa(Mesa mesa, Operacion operacion) {
+        mesa.cerrojo.lock();
+        try {
+            mesa.ultimoUso = System.nanoTime();
+            return operacion.ejecutar();
+        } finally {
+            mesa.cerrojo.unlock();
+        }
+    }
+
+    private Mesa buscarMesa(String id) {
+        Mesa mesa = mesas.get(id);
+        if (mesa == null) {
+            throw new MesaNoEncontradaException("No existe la partida " + id);
+        }
+        return mesa;
+    }
+
+    private static CuerpoJson leerCuerpo(HttpExchange intercambio) {
+        try (InputStream entrada = intercambio.getRequestBody()) {
+            byte[] bytes = entrada.readNBytes(MAXIMO_CUERPO + 1);
+            if (bytes.length > MAXIMO_CUERPO) {
+                throw new CuerpoDemasiadoGrande("El cuerpo supera los " + MAXIMO_CUERPO + " bytes");
+            }
+            return CuerpoJson.leer(new String(bytes, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String parametro(HttpExchange intercambio, String nombre, String porDefecto) {
+        String consulta = intercambio.getRequestURI().getQuery();
+        if (consulta != null) {
+            for (String par : consulta.split("&")) {
+                int igual = par.indexOf('=');
+                if (igual > 0 && par.substring(0, igual).equals(nombre)) {
+                    return par.substring(igual + 1).toLowerCase(Locale.ROOT);
+                }
+            }
+        }
+        return porDefecto;
+    }
+
+    private static void exigirMetodo(String metodo, String esperado) {
+        if (!esperado.equals(metodo)) {
+            throw new MetodoNoPermitido("Método " + metodo + " no permitido; se espera " + esperado);
+        }
+    }
+
+    private static Lado leerLado(String lado) {
+        try {
+            return Lado.valueOf(lado.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Lado inválido: '" + lado + "'. Valores válidos: CARA, CRUZ");
+        }
+    }
+
+    private static final class MetodoNoPermitido extends RuntimeException {
+        MetodoNoPermitido(String mensaje) {
+            super(mensaje);
+        }
+    }
+
+    private static final class CuerpoDemasiadoGrande extends RuntimeException {
+        CuerpoDemasiadoGrande(String mensaje) {
+            super(mensaje);
+        }
+    }
+
+    // ================ MESA ================
+    // Una partida en curso y lo que el controlador llevaría en variables locales entre turnos.
+    // Es también el proveedor de decisiones: la apuesta llega en cada petición y la moneda, de
+    // la última elección hecha por /moneda (o en la misma apuesta)
+    private static final class Mesa implements IProveedorDecisiones {
+        final String id;
+        final ModoJuego modo;
+        final Partida partida;
+        final ReentrantLock cerrojo = new ReentrantLock();
+        volatile long ultimoUso = System.nanoTime();
+
+        Lado ladoElegido;
+        int aciertos1;
+        int aciertos2;
+        int racha;
+
+        Mesa(String id, ModoJuego modo) {
+            this.id = id;
+            this.modo = modo;
+            this.partida = new Partida(modo, this);
+        }
+
+        Jugador jugadorDeTurno() {
+            if (modo == ModoJuego.SOLO) {
+                return partida.getJugador1();
+            }
+            return partida.getTurnosContador() % 2 == 1 ? partida.getJugador1() : partida.getJugador2();
+        }
+
+        @Override
+        public Lado elegirLado(Jugador jugador) {
+            Lado lado = ladoElegido != null ? ladoElegido : Moneda.lanzarLado(partida.getGeneradorAleatorio());
+            ladoElegido = null;
+            return lado;
+        }
+
+        @Override
+        public TipoApuesta elegirApuesta(Jugador jugador, Carta cartaActual) {
+            throw new IllegalStateException("La apuesta llega en cada petición");
+        }
+    }
+}
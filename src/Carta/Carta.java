@@ -1,6 +1,7 @@
 package Carta;
 
 import EfectosEspeciales.EfectoEspecial;
+import EfectosEspeciales.TipoEfecto;
 import Exceptions.CartaNulaException;
 
 public class Carta implements ICarta {
@@ -12,6 +13,10 @@ public class Carta implements ICarta {
     
     public static final int VALOR_MAXIMO = 13;
     
+    
+    // Variantes por carta base: sin efecto + una por cada TipoEfecto
+    public static final int VARIANTES_POR_CARTA = TipoEfecto.values().length + 1;
+    
     // ================ ATRIBUTOS ================
     
     private final int valor;
@@ -20,24 +25,37 @@ public class Carta implements ICarta {
     private final Palo palo;
     
     
-    private EfectoEspecial efecto;
+    private final EfectoEspecial efecto;
+    
+    
+    private final short id;
 
     // ================ CONSTRUCTORES ================
     
     
     public Carta(int valor, Palo palo) {
+        this(valor, palo, null); // Por defecto no tiene efecto
+    }
+
+    
+    public Carta(int valor, Palo palo, EfectoEspecial efecto) {
         validarValor(valor);
         validarPalo(palo);
         
         this.valor = valor;
         this.palo = palo;
-        this.efecto = null; // Por defecto no tiene efecto
+        this.efecto = efecto;
+        this.id = (short) calcularId(valor, palo, efecto != null ? efecto.getTipoEfecto() : null);
     }
 
+    // ================ IDENTIFICADOR COMPACTO ================
     
-    public Carta(int valor, Palo palo, EfectoEspecial efecto) {
-        this(valor, palo); // Reutiliza el constructor principal
-        this.efecto = efecto;
+    
+    // id = (palo * 13 + (valor - 1)) * VARIANTES_POR_CARTA + (0 sin efecto | ordinal + 1)
+    public static int calcularId(int valor, Palo palo, TipoEfecto tipoEfecto) {
+        int base = palo.ordinal() * VALOR_MAXIMO + (valor - VALOR_MINIMO);
+        int variante = tipoEfecto == null ? 0 : tipoEfecto.ordinal() + 1;
+        return base * VARIANTES_POR_CARTA + variante;
     }
 
     // ================ VALIDACIONES ================
@@ -103,11 +121,9 @@ public class Carta implements ICarta {
         return efecto;
     }
 
-    // ================ SETTERS ================
-    
     
-    public void setEfecto(EfectoEspecial efecto) {
-        this.efecto = efecto;
+    public int getId() {
+        return id;
     }
 
     // ================ MÉTODOS DE UTILIDAD ================
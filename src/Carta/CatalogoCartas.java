@@ -0,0 +1,75 @@
+package Carta;
+
+import EfectosEspeciales.EfectoEspecial;
+import EfectosEspeciales.TipoEfecto;
+import Exceptions.CartaNulaException;
+
+public final class CatalogoCartas {
+
+    // ================ CONSTANTES ================
+
+    public static final int CARTAS_BASE = Palo.values().length * Carta.VALOR_MAXIMO;
+
+
+    public static final int TOTAL_CARTAS = CARTAS_BASE * Carta.VARIANTES_POR_CARTA;
+
+
+    // Una instancia inmutable por cada combinación (valor, palo, efecto o ninguno), indexada por Carta.getId()
+    private static final Carta[] CARTAS = crearCatalogo();
+
+    // ================ CONSTRUCTORES ================
+
+    private CatalogoCartas() {
+    }
+
+    // ================ CONSULTAS ================
+
+
+    public static Carta obtener(int valor, Palo palo) {
+        return obtener(valor, palo, null);
+    }
+
+
+    public static Carta obtener(int valor, Palo palo, TipoEfecto tipoEfecto) {
+        if (palo == null) {
+            throw new CartaNulaException("El palo de la carta no puede ser null");
+        }
+        if (valor < Carta.VALOR_MINIMO || valor > Carta.VALOR_MAXIMO) {
+            throw new CartaNulaException(
+                "El valor de la carta debe estar entre " + Carta.VALOR_MINIMO +
+                " y " + Carta.VALOR_MAXIMO + ". Valor recibido: " + valor
+            );
+        }
+        return CARTAS[Carta.calcularId(valor, palo, tipoEfecto)];
+    }
+
+
+    public static Carta obtener(int id) {
+        if (id < 0 || id >= TOTAL_CARTAS) {
+            throw new CartaNulaException("Identificador de carta fuera de rango: " + id);
+        }
+        return CARTAS[id];
+    }
+
+
+    public static Carta conEfecto(Carta carta, TipoEfecto tipoEfecto) {
+        return obtener(carta.getValor(), carta.getPalo(), tipoEfecto);
+    }
+
+    // ================ CONSTRUCCIÓN ================
+
+    private static Carta[] crearCatalogo() {
+        Carta[] cartas = new Carta[TOTAL_CARTAS];
+        for (Palo palo : Palo.values()) {
+            for (int valor = Carta.VALOR_MINIMO; valor <= Carta.VALOR_MAXIMO; valor++) {
+                Carta sinEfecto = new Carta(valor, palo);
+                cartas[sinEfecto.getId()] = sinEfecto;
+                for (TipoEfecto tipo : TipoEfecto.values()) {
+                    Carta especial = new Carta(valor, palo, EfectoEspecial.obtener(tipo));
+                    cartas[especial.getId()] = especial;
+                }
+            }
+        }
+        return cartas;
+    }
+}
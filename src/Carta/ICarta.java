@@ -13,7 +13,7 @@ public interface ICarta {
     EfectoEspecial getEfecto();
     
     
-    void setEfecto(EfectoEspecial efecto);
+    int getId();
     
     
     boolean tieneEfecto();
@@ -1,7 +1,18 @@
 package Carta;
 
-import java.util.List;
-
 public interface IMazo {
     Carta robarCarta();
+
+    // Cartas que pueden salir en el próximo robo (si el mazo se agotó, es el mazo completo rebarajado)
+    int cartasRestantes();
+
+    int contarRestantes(int valor);
+
+    int contarMayoresQue(int valor);
+
+    int contarMenoresQue(int valor);
+
+    double probabilidadMayorQue(int valor);
+
+    double probabilidadMenorQue(int valor);
 }
@@ -1,64 +1,150 @@
 package Carta;
 
-import EfectosEspeciales.EfectoEspecial;
 import EfectosEspeciales.TipoEfecto;
 import Exceptions.MazoVacioException;
 
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 public class Mazo implements IMazo {
-    private final List<Carta> cartas;
-    private final List<Carta> usadas;
+    // [0, cursor) son las cartas ya robadas (usadas), [cursor, length) las que quedan por robar
+    private final Carta[] cartas;
+    private int cursor;
+    private final RandomGenerator random;
+
+    // Árbol de Fenwick (índices 1..13) con la cantidad de cartas restantes por valor
+    private final int[] restantesPorValor;
+    // Estado del árbol con el mazo completo, para restaurarlo al rebarajar sin recalcular
+    private final int[] totalesPorValor;
 
     public Mazo(List<Carta> cartas) {
+        this(cartas, RandomGenerator.getDefault());
+    }
+
+    public Mazo(List<Carta> cartas, RandomGenerator random) {
+        this(cartas.toArray(new Carta[0]), random);
+    }
+
+    private Mazo(Carta[] cartas, RandomGenerator random) {
         this.cartas = cartas;
-        this.usadas = new java.util.ArrayList<>();
+        this.cursor = 0;
+        this.random = random;
+        this.totalesPorValor = new int[Carta.VALOR_MAXIMO + 1];
+        for (Carta carta : cartas) {
+            actualizarConteo(totalesPorValor, carta.getValor(), 1);
+        }
+        this.restantesPorValor = totalesPorValor.clone();
     }
 
     public Carta robarCarta() {
 
-        if (cartas.isEmpty()) {
-            if (usadas.isEmpty()) {
+        if (cursor == cartas.length) {
+            if (cartas.length == 0) {
                 throw new MazoVacioException("No hay cartas disponibles en el mazo ni en las usadas.");
             }
-            cartas.addAll(usadas);
-            usadas.clear();
-            java.util.Collections.shuffle(cartas);
+            // Todas las cartas están usadas: se vuelven a barajar en el mismo arreglo
+            barajar(cartas, cartas.length, random);
+            cursor = 0;
+            System.arraycopy(totalesPorValor, 0, restantesPorValor, 0, restantesPorValor.length);
+        }
+        Carta carta = cartas[cursor++];
+        actualizarConteo(restantesPorValor, carta.getValor(), -1);
+        return carta;
+    }
+
+    // ================ CONSULTAS DE COMPOSICIÓN ================
+
+    public int cartasRestantes() {
+        return cursor == cartas.length ? cartas.length : cartas.length - cursor;
+    }
+
+    public int contarRestantes(int valor) {
+        if (valor < Carta.VALOR_MINIMO || valor > Carta.VALOR_MAXIMO) {
+            return 0;
+        }
+        return contarHasta(valor) - contarHasta(valor - 1);
+    }
+
+    public int contarMayoresQue(int valor) {
+        return contarHasta(Carta.VALOR_MAXIMO) - contarHasta(valor);
+    }
+
+    public int contarMenoresQue(int valor) {
+        return contarHasta(valor - 1);
+    }
+
+    public double probabilidadMayorQue(int valor) {
+        int restantes = cartasRestantes();
+        return restantes == 0 ? 0.0 : (double) contarMayoresQue(valor) / restantes;
+    }
+
+    public double probabilidadMenorQue(int valor) {
+        int restantes = cartasRestantes();
+        return restantes == 0 ? 0.0 : (double) contarMenoresQue(valor) / restantes;
+    }
+
+    // Cantidad de cartas que pueden salir en el próximo robo con valor <= 'valor'
+    private int contarHasta(int valor) {
+        // Con el mazo agotado el próximo robo rebaraja todo, así que se consulta el mazo completo
+        int[] arbol = cursor == cartas.length ? totalesPorValor : restantesPorValor;
+        int suma = 0;
+        for (int i = Math.min(valor, Carta.VALOR_MAXIMO); i > 0; i -= i & -i) {
+            suma += arbol[i];
+        }
+        return suma;
+    }
+
+    private static void actualizarConteo(int[] arbol, int valor, int delta) {
+        for (int i = valor; i < arbol.length; i += i & -i) {
+            arbol[i] += delta;
+        }
+    }
+
+    // Fisher-Yates sobre las primeras 'cantidad' posiciones, sin reservar memoria
+    private static void barajar(Carta[] cartas, int cantidad, RandomGenerator random) {
+        for (int i = cantidad - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Carta temporal = cartas[i];
+            cartas[i] = cartas[j];
+            cartas[j] = temporal;
         }
-        Carta cartaRobada = cartas.removeFirst();
-        usadas.add(cartaRobada);
-        return cartaRobada;
     }
     
     public static Mazo crearMazoEstandar(double probabilidadEspeciales, boolean esModo2v2) {
-        List<Carta> mazoCompleto = new java.util.ArrayList<>();
+        return crearMazoEstandar(probabilidadEspeciales, esModo2v2, RandomGenerator.getDefault());
+    }
+
+    public static Mazo crearMazoEstandar(double probabilidadEspeciales, boolean esModo2v2, RandomGenerator random) {
+        Carta[] mazoCompleto = new Carta[CatalogoCartas.CARTAS_BASE];
 
-        // 1. Crear un mazo de póker estándar de 52 cartas
+        // 1. Armar un mazo de póker estándar de 52 cartas con referencias al catálogo compartido
+        int indice = 0;
         for (Palo palo : Palo.values()) {
             for (int valor = 1; valor <= 13; valor++) {
-                mazoCompleto.add(new Carta(valor, palo));
+                mazoCompleto[indice++] = CatalogoCartas.obtener(valor, palo);
             }
         }
 
         // 2. Calcular cuántas cartas especiales debe haber según la probabilidad
-        int numCartasEspeciales = (int) Math.round(mazoCompleto.size() * probabilidadEspeciales);
+        int numCartasEspeciales = (int) Math.round(mazoCompleto.length * probabilidadEspeciales);
         
         // 3. Barajar el mazo para que las cartas a las que se les asignará efecto sean aleatorias
-        java.util.Collections.shuffle(mazoCompleto);
+        barajar(mazoCompleto, mazoCompleto.length, random);
 
         // 4. Seleccionar los efectos disponibles según el modo de juego
         TipoEfecto[] efectosDisponibles = esModo2v2 ? TipoEfecto.getEfectos2v2() : TipoEfecto.getEfectos1v1();
 
         // 5. Asignar efectos especiales a las primeras N cartas según la probabilidad
-        for (int i = 0; i < numCartasEspeciales && i < mazoCompleto.size(); i++) {
+        for (int i = 0; i < numCartasEspeciales && i < mazoCompleto.length; i++) {
             // Seleccionar un efecto aleatorio de los disponibles para este modo de juego
-            TipoEfecto efectoAleatorio = efectosDisponibles[(int) (Math.random() * efectosDisponibles.length)];
-            mazoCompleto.get(i).setEfecto(EfectoEspecial.crear(efectoAleatorio));
+            TipoEfecto efectoAleatorio = efectosDisponibles[random.nextInt(efectosDisponibles.length)];
+            // Las cartas son inmutables: se reemplaza la referencia por la variante con efecto
+            mazoCompleto[i] = CatalogoCartas.conEfecto(mazoCompleto[i], efectoAleatorio);
         }
 
         // 6. Volver a barajar todo el mazo para que las cartas especiales queden distribuidas
-        java.util.Collections.shuffle(mazoCompleto);
+        barajar(mazoCompleto, mazoCompleto.length, random);
 
-        return new Mazo(mazoCompleto);
+        return new Mazo(mazoCompleto, random);
     }
 }
@@ -3,9 +3,11 @@ import Exceptions.PartidaNoIniciadaException;
 import Jugador.Jugador;
 import Modelo.GestorPuntuaciones;
 import Modelo.IGestorPuntuaciones;
+import Modelo.PeriodoPuntuaciones;
+import Modelo.PosicionRanking;
 import Modelo.ResultadoApuesta;
-import Vista.InterfazConsola;
 import Vista.IMenu;
+import Vista.InterfazConsola;
 import Vista.MenuPrincipal;
 import Vista.IVista;
 import Vista.VistaJuego;
@@ -16,14 +18,28 @@ public class ControladorJuego {
     private final ModoJuego modo;
     private final IVista vista;
     private final IMenu menu;
-    private final InterfazConsola consola;
+    private final IGestorPuntuaciones gestorPuntuaciones;
 
     public ControladorJuego(Partida partida, ModoJuego modo) {
+        this(partida, modo, new GestorPuntuaciones());
+    }
+
+    public ControladorJuego(Partida partida, ModoJuego modo, IGestorPuntuaciones gestorPuntuaciones) {
+        this(partida, modo, gestorPuntuaciones, new VistaJuego(), new MenuPrincipal());
+    }
+
+    // Vista y menú sobre la consola de una sesión
+    public ControladorJuego(Partida partida, ModoJuego modo, IGestorPuntuaciones gestorPuntuaciones, InterfazConsola consola) {
+        this(partida, modo, gestorPuntuaciones, new VistaJuego(consola), new MenuPrincipal(consola));
+    }
+
+    // Con VistaNula/VistaGrabadora y un menú automático la partida corre sin terminal
+    public ControladorJuego(Partida partida, ModoJuego modo, IGestorPuntuaciones gestorPuntuaciones, IVista vista, IMenu menu) {
         this.partida = partida;
         this.modo = modo;
-        this.vista = new VistaJuego();
-        this.menu = new MenuPrincipal();
-        this.consola = InterfazConsola.obtenerInstancia();
+        this.vista = vista;
+        this.menu = menu;
+        this.gestorPuntuaciones = gestorPuntuaciones;
     }
 
     public void jugar() throws PartidaNoIniciadaException, CartaNulaException {
@@ -37,6 +53,9 @@ public class ControladorJuego {
     private void jugarPartidaMultijugador() throws PartidaNoIniciadaException, CartaNulaException {
         Jugador jugador1 = partida.getJugador1();
         Jugador jugador2 = partida.getJugador2();
+        // Aciertos de cada jugador: el del ganador es su puntaje en la tabla del modo
+        int aciertos1 = 0;
+        int aciertos2 = 0;
 
         while (jugador1.getVidas() > 0 && jugador2.getVidas() > 0) {
             Jugador jugadorActual = (partida.getTurnosContador() % 2 == 1) ? jugador1 : jugador2;
@@ -57,6 +76,13 @@ public class ControladorJuego {
             try {
                 ResultadoApuesta resultado = partida.procesarApuesta(jugadorActual, apuesta);
                 vista.mostrarResultadoApuesta(resultado);
+                if (resultado.acerto()) {
+                    if (jugadorActual == jugador1) {
+                        aciertos1++;
+                    } else {
+                        aciertos2++;
+                    }
+                }
             } catch (PartidaNoIniciadaException e) {
                 vista.mostrarError("ERROR AL REALIZAR APUESTA: " + e.getMessage());
             } catch (CartaNulaException e) {
@@ -69,6 +95,7 @@ public class ControladorJuego {
 
         Jugador ganador = jugador1.getVidas() > 0 ? jugador1 : jugador2;
         vista.mostrarVictoria(ganador.getNombre());
+        gestionarHighscore(ganador.getNombre(), ganador == jugador1 ? aciertos1 : aciertos2);
     }
 
     private void jugarPartidaSolo() throws PartidaNoIniciadaException, CartaNulaException {
@@ -105,22 +132,44 @@ public class ControladorJuego {
     }
 
     private void gestionarHighscore(String nombre, int puntaje) {
-        IGestorPuntuaciones gestorPuntuaciones = new GestorPuntuaciones();
-        boolean nuevo = gestorPuntuaciones.actualizarPuntuacion(nombre, puntaje);
+        boolean nuevo = gestorPuntuaciones.actualizarPuntuacionDeModo(modo.name(), nombre, puntaje);
         if (nuevo) {
-            consola.mostrarExito("¡Felicidades! Has conseguido una nueva PUNTUACIÓN ALTA en modo SOLO: " + puntaje);
+            vista.mostrarExito("¡Felicidades! Has conseguido una nueva PUNTUACIÓN ALTA en modo " + modo.name() + ": " + puntaje);
         } else {
-            consola.mostrarMensaje("No alcanzaste una puntuación alta. Intenta de nuevo para entrar en el top 5.");
+            vista.mostrarMensaje("No alcanzaste una puntuación alta. Intenta de nuevo para entrar en el top " + gestorPuntuaciones.getCapacidad() + ".");
+        }
+        PosicionRanking posicion = gestorPuntuaciones.obtenerPosicionDeModo(modo.name(), puntaje);
+        vista.mostrarMensaje("Quedaste " + posicion + ".");
+        Modelo.EntradaPuntuacion mejor = gestorPuntuaciones.obtenerMejorDeJugador(modo.name(), nombre);
+        if (mejor != null) {
+            vista.mostrarMensaje("Tu mejor puntaje en este modo: " + mejor.getPuntaje());
         }
-        mostrarTablaPuntuaciones(gestorPuntuaciones);
+        mostrarTablaPuntuaciones(gestorPuntuaciones, modo);
     }
 
     public void mostrarTablaPuntuaciones(IGestorPuntuaciones gestorPuntuaciones) {
-        java.util.List<Modelo.EntradaPuntuacion> top = gestorPuntuaciones.obtenerTop();
+        mostrarTablaPuntuaciones(gestorPuntuaciones, ModoJuego.SOLO);
+    }
+
+    public void mostrarTablaPuntuaciones(IGestorPuntuaciones gestorPuntuaciones, ModoJuego modoTabla) {
+        mostrarTabla("TOP " + modoTabla.name(), gestorPuntuaciones.obtenerTopDeModo(modoTabla.name()), gestorPuntuaciones.getCapacidad());
+    }
+
+    public void mostrarTablaPeriodo(IGestorPuntuaciones gestorPuntuaciones, ModoJuego modoTabla, PeriodoPuntuaciones periodo) {
+        mostrarTabla("TOP " + modoTabla.name() + " - " + periodo.toString().toUpperCase(), gestorPuntuaciones.obtenerTopDeModo(modoTabla.name(), periodo), gestorPuntuaciones.getCapacidad());
+    }
+
+    // Una fila por jugador con su mejor marca: la misma persona no ocupa varios puestos
+    public void mostrarTablaJugadores(IGestorPuntuaciones gestorPuntuaciones, ModoJuego modoTabla) {
+        mostrarTabla("TOP JUGADORES " + modoTabla.name(), gestorPuntuaciones.obtenerTopJugadoresDeModo(modoTabla.name()), gestorPuntuaciones.getCapacidad());
+    }
+
+    private void mostrarTabla(String titulo, java.util.List<Modelo.EntradaPuntuacion> top, int filas) {
         StringBuilder tabla = new StringBuilder();
+        tabla.append(titulo).append("\n");
         tabla.append(String.format("%3s | %-20s | %s\n", "#", "NOMBRE", "PUNTAJE"));
         tabla.append("-----------------------------------------\n");
-        for (int i = 0; i < 5; i++) {
+        for (int i = 0; i < filas; i++) {
             if (i < top.size()) {
                 Modelo.EntradaPuntuacion e = top.get(i);
                 tabla.append(String.format("%3d | %-20s | %d\n", i + 1, e.getNombre(), e.getPuntaje()));
@@ -128,6 +177,6 @@ public class ControladorJuego {
                 tabla.append(String.format("%3d | %-20s | %s\n", i + 1, "---", "-"));
             }
         }
-        consola.mostrarCaja(tabla.toString());
+        vista.mostrarTabla(tabla.toString());
     }
 }
@@ -0,0 +1,33 @@
+import Carta.Carta;
+import Jugador.Jugador;
+import Moneda.Lado;
+
+import java.util.random.RandomGenerator;
+
+public class DecisionesAleatorias implements IProveedorDecisiones {
+
+    private final RandomGenerator random;
+
+
+    public DecisionesAleatorias() {
+        this(RandomGenerator.getDefault());
+    }
+
+
+    public DecisionesAleatorias(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("El generador aleatorio no puede ser null");
+        }
+        this.random = random;
+    }
+
+    @Override
+    public Lado elegirLado(Jugador jugador) {
+        return random.nextBoolean() ? Lado.CARA : Lado.CRUZ;
+    }
+
+    @Override
+    public TipoApuesta elegirApuesta(Jugador jugador, Carta cartaActual) {
+        return random.nextBoolean() ? TipoApuesta.MAYOR : TipoApuesta.MENOR;
+    }
+}
@@ -0,0 +1,45 @@
+import Carta.Carta;
+import Jugador.Jugador;
+import Moneda.Lado;
+import Vista.IMenu;
+import Vista.InterfazConsola;
+import Vista.MenuPrincipal;
+
+public class DecisionesConsola implements IProveedorDecisiones {
+
+    private final InterfazConsola consola;
+
+
+    private final IMenu menu;
+
+
+    public DecisionesConsola() {
+        this(InterfazConsola.deTerminal());
+    }
+
+
+    public DecisionesConsola(InterfazConsola consola) {
+        this(consola, new MenuPrincipal(consola));
+    }
+
+
+    public DecisionesConsola(InterfazConsola consola, IMenu menu) {
+        this.consola = consola;
+        this.menu = menu;
+    }
+
+    @Override
+    public Lado elegirLado(Jugador jugador) {
+        // Pasa por la consola: el aviso sale junto con el resto del cuadro, antes de leer
+        consola.mostrarMensaje("\n" + jugador.getNombre() + ", lanza una moneda para determinar el efecto:");
+        consola.mostrarMensaje("1. CARA");
+        consola.mostrarMensaje("2. CRUZ");
+        int opcion = consola.solicitarNumero("Tu elección (1-2): ", 1, 2);
+        return (opcion == 1) ? Lado.CARA : Lado.CRUZ;
+    }
+
+    @Override
+    public TipoApuesta elegirApuesta(Jugador jugador, Carta cartaActual) {
+        return TipoApuesta.fromString(menu.solicitarApuesta(jugador.getNombre()));
+    }
+}
@@ -0,0 +1,68 @@
+import Carta.Carta;
+import Jugador.Jugador;
+import Moneda.Lado;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+
+public class DecisionesGuionadas implements IProveedorDecisiones {
+
+    private final Deque<Lado> lados;
+
+
+    private final Deque<TipoApuesta> apuestas;
+
+
+    public DecisionesGuionadas() {
+        this.lados = new ArrayDeque<>();
+        this.apuestas = new ArrayDeque<>();
+    }
+
+
+    public DecisionesGuionadas(Collection<Lado> lados, Collection<TipoApuesta> apuestas) {
+        this.lados = new ArrayDeque<>(lados);
+        this.apuestas = new ArrayDeque<>(apuestas);
+    }
+
+    // ================ CARGA DEL GUION ================
+
+    public DecisionesGuionadas agregarLados(Lado... nuevosLados) {
+        lados.addAll(Arrays.asList(nuevosLados));
+        return this;
+    }
+
+    public DecisionesGuionadas agregarApuestas(TipoApuesta... nuevasApuestas) {
+        apuestas.addAll(Arrays.asList(nuevasApuestas));
+        return this;
+    }
+
+    public int getLadosPendientes() {
+        return lados.size();
+    }
+
+    public int getApuestasPendientes() {
+        return apuestas.size();
+    }
+
+    // ================ DECISIONES ================
+
+    @Override
+    public Lado elegirLado(Jugador jugador) {
+        Lado lado = lados.pollFirst();
+        if (lado == null) {
+            throw new IllegalStateException("El guion no tiene más elecciones de moneda");
+        }
+        return lado;
+    }
+
+    @Override
+    public TipoApuesta elegirApuesta(Jugador jugador, Carta cartaActual) {
+        TipoApuesta apuesta = apuestas.pollFirst();
+        if (apuesta == null) {
+            throw new IllegalStateException("El guion no tiene más apuestas");
+        }
+        return apuesta;
+    }
+}
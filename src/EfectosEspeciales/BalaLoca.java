@@ -3,6 +3,8 @@ package EfectosEspeciales;
 import Exceptions.JugadorNullException;
 import Jugador.Jugador;
 
+import java.util.random.RandomGenerator;
+
 public class BalaLoca extends EfectoEspecial {
 
     public BalaLoca() {
@@ -10,7 +12,7 @@ public class BalaLoca extends EfectoEspecial {
     }
 
     @Override
-    public String aplicar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria) {
+    public int ejecutar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria, RandomGenerator random) {
         if (jugador1 == null ) {
             throw new JugadorNullException("Los jugadores no pueden ser nulos al aplicar el efecto BALA LOCA.");
         }
@@ -19,16 +21,28 @@ public class BalaLoca extends EfectoEspecial {
                 // En modo 1v1, si no hay jugador2, el positivo no hace nada
                 if (jugador2 != null) {
                     jugador2.getRevolver().cargarBala();
-                    return "¡Una bala loca aparece en el revólver de " + jugador2.getNombre() + "!";
+                }
+                break;
+            case NEGATIVA:
+                jugador1.getRevolver().cargarBala();
+                break;
+        }
+        return 0;
+    }
+
+    @Override
+    public String describir(String nombreJugador1, String nombreJugador2, CategoriaEfecto categoria, int detalle) {
+        switch (categoria) {
+            case POSITIVA:
+                if (nombreJugador2 != null) {
+                    return "¡Una bala loca aparece en el revólver de " + nombreJugador2 + "!";
                 } else {
                     // En modo SOLO, el positivo no carga bala (ya que no hay rival)
-                    return jugador1.getNombre() + " esquiva la bala loca (no hay oponente)";
+                    return nombreJugador1 + " esquiva la bala loca (no hay oponente)";
                 }
             case NEGATIVA:
-                jugador1.getRevolver().cargarBala();
-                return "¡Una bala loca aparece en el revólver de " + jugador1.getNombre() + "!";
+                return "¡Una bala loca aparece en el revólver de " + nombreJugador1 + "!";
         }
         return "";
-
     }
-}
\ No newline at end of file
+}
@@ -3,32 +3,49 @@ package EfectosEspeciales;
 import Exceptions.JugadorNullException;
 import Jugador.Jugador;
 
+import java.util.random.RandomGenerator;
+
 public class Caos extends EfectoEspecial {
 
+    // El detalle guarda las balas nuevas de cada jugador: jugador1 en los 8 bits bajos, jugador2 en los 8 altos
+    private static final int BITS_BALAS = 8;
+    private static final int MASCARA_BALAS = 0xFF;
+
     public Caos() {
         super(TipoEfecto.CAOS);
     }
 
     @Override
-    public String aplicar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria) {
+    public int ejecutar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria, RandomGenerator random) {
         if (jugador1 == null ) {
             throw new JugadorNullException("Los jugadores no pueden ser nulos al aplicar el efecto CAOS.");
         }
         // Caos siempre es neutro, ignora la categoría
-        // Generar cantidad aleatoria de balas para el jugador (0-6)
-        int nuevasBalas = (int) (Math.random() * 7); // 0 a 6 balas
+        // Generar cantidad aleatoria de balas para el jugador (0 a la capacidad del revólver)
+        int nuevasBalas = random.nextInt(jugador1.getRevolver().getCapacidad() + 1);
 
         // Aplicar el cambio al revólver del jugador actual
         jugador1.getRevolver().setBalas(nuevasBalas);
 
         // Si hay un segundo jugador (modo 2v2), también cambiar sus balas
         if (jugador2 != null) {
-            int nuevasBalasJ2 = (int) (Math.random() * 7); // 0 a 6 balas
+            int nuevasBalasJ2 = random.nextInt(jugador2.getRevolver().getCapacidad() + 1);
             jugador2.getRevolver().setBalas(nuevasBalasJ2);
-            return "¡CAOS! El revólver de " + jugador1.getNombre() + " ahora tiene " + nuevasBalas +
-                    " balas y el de " + jugador2.getNombre() + " tiene " + nuevasBalasJ2 + " balas.";
+            return nuevasBalas | (nuevasBalasJ2 << BITS_BALAS);
+        }
+
+        return nuevasBalas;
+    }
+
+    @Override
+    public String describir(String nombreJugador1, String nombreJugador2, CategoriaEfecto categoria, int detalle) {
+        int nuevasBalas = detalle & MASCARA_BALAS;
+        if (nombreJugador2 != null) {
+            int nuevasBalasJ2 = (detalle >>> BITS_BALAS) & MASCARA_BALAS;
+            return "¡CAOS! El revólver de " + nombreJugador1 + " ahora tiene " + nuevasBalas +
+                    " balas y el de " + nombreJugador2 + " tiene " + nuevasBalasJ2 + " balas.";
         }
 
-        return "¡CAOS! El revólver de " + jugador1.getNombre() + " ahora tiene " + nuevasBalas + " balas.";
+        return "¡CAOS! El revólver de " + nombreJugador1 + " ahora tiene " + nuevasBalas + " balas.";
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,8 @@ package EfectosEspeciales;
 import Exceptions.JugadorNullException;
 import Jugador.Jugador;
 
+import java.util.random.RandomGenerator;
+
 public class Desarmar extends EfectoEspecial {
 
     public Desarmar() {
@@ -10,23 +12,39 @@ public class Desarmar extends EfectoEspecial {
     }
 
     @Override
-    public String aplicar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria) {
+    public int ejecutar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria, RandomGenerator random) {
         if (jugador1 == null ) {
             throw new JugadorNullException("Los jugadores no pueden ser nulos al aplicar el efecto DESARMAR.");
         }
         switch (categoria) {
             case POSITIVA:
                 jugador1.getRevolver().quitarBala();
-                return jugador1.getNombre() + " se libra de una bala de su revólver";
+                break;
             case NEGATIVA:
                 // En modo 1v1, el negativo también afecta al jugador1
                 if (jugador2 != null) {
                     jugador2.getRevolver().quitarBala();
-                    return jugador2.getNombre() + " se libra de una bala de su revólver";
                 } else {
-                    throw new JugadorNullException(jugador1.getNombre() + " no puede desarmar a nadie");
+                    throw new JugadorNullException(describirError(jugador1.getNombre()));
                 }
+                break;
+        }
+        return 0;
+    }
+
+    @Override
+    public String describir(String nombreJugador1, String nombreJugador2, CategoriaEfecto categoria, int detalle) {
+        switch (categoria) {
+            case POSITIVA:
+                return nombreJugador1 + " se libra de una bala de su revólver";
+            case NEGATIVA:
+                return nombreJugador2 + " se libra de una bala de su revólver";
         }
         return "";
     }
-}
\ No newline at end of file
+
+    @Override
+    public String describirError(String nombreJugador1) {
+        return nombreJugador1 + " no puede desarmar a nadie";
+    }
+}
@@ -2,8 +2,14 @@ package EfectosEspeciales;
 
 import Jugador.Jugador;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 public abstract class EfectoEspecial {
-    private TipoEfecto tipoEfecto;
+    // Los efectos no guardan estado propio, así que basta una instancia compartida por tipo
+    private static final EfectoEspecial[] COMPARTIDOS = crearCompartidos();
+
+    private final TipoEfecto tipoEfecto;
 
     public EfectoEspecial(TipoEfecto tipo) {
         this.tipoEfecto = tipo;
@@ -13,6 +19,19 @@ public abstract class EfectoEspecial {
         return tipoEfecto;
     }
 
+    public static EfectoEspecial obtener(TipoEfecto tipo) {
+        return COMPARTIDOS[tipo.ordinal()];
+    }
+
+    private static EfectoEspecial[] crearCompartidos() {
+        TipoEfecto[] tipos = TipoEfecto.values();
+        EfectoEspecial[] efectos = new EfectoEspecial[tipos.length];
+        for (TipoEfecto tipo : tipos) {
+            efectos[tipo.ordinal()] = crear(tipo);
+        }
+        return efectos;
+    }
+
     public static EfectoEspecial crear(TipoEfecto tipo) {
         return switch (tipo) {
             case VIDA_EXTRA -> new VidaExtra();
@@ -24,5 +43,24 @@ public abstract class EfectoEspecial {
         };
     }
 
-    public abstract String aplicar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria);
-}
\ No newline at end of file
+    // Modifica a los jugadores y devuelve un dato compacto (0 a ResultadoCompacto.MAX_DETALLE)
+    // con lo necesario para describir el efecto más tarde, sin construir texto
+    public abstract int ejecutar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria, RandomGenerator random);
+
+    // nombreJugador2 es null cuando no hay oponente (modo SOLO)
+    public abstract String describir(String nombreJugador1, String nombreJugador2, CategoriaEfecto categoria, int detalle);
+
+    // Mensaje de la JugadorNullException que ejecutar lanza cuando falta el oponente
+    public String describirError(String nombreJugador1) {
+        return "Los jugadores no pueden ser nulos al aplicar el efecto " + tipoEfecto + ".";
+    }
+
+    public String aplicar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria) {
+        return aplicar(jugador1, jugador2, categoria, ThreadLocalRandom.current());
+    }
+
+    public String aplicar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria, RandomGenerator random) {
+        int detalle = ejecutar(jugador1, jugador2, categoria, random);
+        return describir(jugador1.getNombre(), jugador2 != null ? jugador2.getNombre() : null, categoria, detalle);
+    }
+}
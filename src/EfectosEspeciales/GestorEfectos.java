@@ -4,23 +4,32 @@ import Carta.Carta;
 import Exceptions.EfectoInvalidoException;
 import Exceptions.JugadorNullException;
 import Jugador.Jugador;
+import Modelo.ResultadoCompacto;
+import Moneda.ISelectorMoneda;
 import Moneda.Moneda;
 import Moneda.ResultadoMoneda;
 import Moneda.Lado;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 public class GestorEfectos {
     public static String aplicarEfectoConMoneda(EfectoEspecial efecto, Jugador jugador1, Jugador jugador2, Lado eleccionMoneda) throws EfectoInvalidoException {
+        return aplicarEfectoConMoneda(efecto, jugador1, jugador2, eleccionMoneda, ThreadLocalRandom.current());
+    }
+
+    public static String aplicarEfectoConMoneda(EfectoEspecial efecto, Jugador jugador1, Jugador jugador2, Lado eleccionMoneda, RandomGenerator random) throws EfectoInvalidoException {
         if (efecto == null || efecto.getTipoEfecto() == null) {
             throw new EfectoInvalidoException("El efecto especial es inválido o la carta no tiene efecto asociado.");
         }
         // Para efectos neutrales (SABOTAJE y CAOS), se aplican directamente sin moneda
         TipoEfecto tipo = efecto.getTipoEfecto();
-        if (tipo == TipoEfecto.SABOTAJE || tipo == TipoEfecto.CAOS) {
-            return efecto.aplicar(jugador1, jugador2, CategoriaEfecto.NEUTRAL);
+        if (esEfectoNeutral(tipo)) {
+            return efecto.aplicar(jugador1, jugador2, CategoriaEfecto.NEUTRAL, random);
         }
 
         // Lanzar la moneda para efectos positivos/negativos
-        ResultadoMoneda resultado = Moneda.lanzar(eleccionMoneda);
+        ResultadoMoneda resultado = Moneda.lanzar(eleccionMoneda, random);
         String mensajeMoneda = resultado.obtenerRepresentacion();
 
         // Determinar categoría según resultado de la moneda
@@ -28,7 +37,7 @@ public class GestorEfectos {
         String tipoEfecto = resultado.acerto() ? "POSITIVO" : "NEGATIVO";
         try {
             return mensajeMoneda + "\n" +
-                    efecto.aplicar(jugador1, jugador2, categoriaFinal) +
+                    efecto.aplicar(jugador1, jugador2, categoriaFinal, random) +
                     " (Efecto " + tipoEfecto + " para " + jugador1.getNombre() + ")";
         } catch (JugadorNullException e) {
             return "⚠️ ERROR: no se pudo aplicar el efecto porque uno de los jugadores es nulo. Detalle: " + e.getMessage();
@@ -44,6 +53,79 @@ public class GestorEfectos {
         return aplicarEfectoConMoneda(carta.getEfecto(), jugador1, jugador2, eleccionMoneda);
     }
 
+    public static String aplicarEfectoDeCarta(Carta carta, Jugador jugador1, Jugador jugador2, ISelectorMoneda selectorMoneda) throws EfectoInvalidoException {
+        return aplicarEfectoDeCarta(carta, jugador1, jugador2, selectorMoneda, ThreadLocalRandom.current());
+    }
+
+    public static String aplicarEfectoDeCarta(Carta carta, Jugador jugador1, Jugador jugador2, ISelectorMoneda selectorMoneda, RandomGenerator random) throws EfectoInvalidoException {
+        if (carta == null || carta.getEfecto() == null || !carta.tieneEfecto()) {
+            throw new EfectoInvalidoException("EL EFECTO ESPECIAL ES INVALIDO (NULO,VACIO U OTRO)");
+        }
+        if (selectorMoneda == null) {
+            throw new EfectoInvalidoException("No hay quien elija el lado de la moneda para el efecto.");
+        }
+
+        long codigo = aplicarEfectoCompacto(carta, jugador1, jugador2, selectorMoneda, random);
+        return describirResultadoEfecto(codigo, jugador1.getNombre(), jugador2 != null ? jugador2.getNombre() : null);
+    }
+
+    // Igual que aplicarEfectoDeCarta, pero devuelve los campos de efecto de ResultadoCompacto sin construir texto
+    public static long aplicarEfectoCompacto(Carta carta, Jugador jugador1, Jugador jugador2, ISelectorMoneda selectorMoneda, RandomGenerator random) throws EfectoInvalidoException {
+        if (carta == null || carta.getEfecto() == null || !carta.tieneEfecto()) {
+            throw new EfectoInvalidoException("EL EFECTO ESPECIAL ES INVALIDO (NULO,VACIO U OTRO)");
+        }
+        if (selectorMoneda == null) {
+            throw new EfectoInvalidoException("No hay quien elija el lado de la moneda para el efecto.");
+        }
+        EfectoEspecial efecto = carta.getEfecto();
+        TipoEfecto tipo = efecto.getTipoEfecto();
+
+        // Los efectos neutrales no usan moneda
+        if (esEfectoNeutral(tipo)) {
+            int detalle = efecto.ejecutar(jugador1, jugador2, CategoriaEfecto.NEUTRAL, random);
+            return ResultadoCompacto.codificarEfecto(tipo, CategoriaEfecto.NEUTRAL, null, null, detalle, false);
+        }
+
+        // Solo se consulta la elección cuando el efecto realmente depende de la moneda
+        Lado eleccionMoneda = selectorMoneda.elegirLado(jugador1);
+        Lado salio = Moneda.lanzarLado(random);
+        CategoriaEfecto categoriaFinal = eleccionMoneda == salio ? CategoriaEfecto.POSITIVA : CategoriaEfecto.NEGATIVA;
+        try {
+            int detalle = efecto.ejecutar(jugador1, jugador2, categoriaFinal, random);
+            return ResultadoCompacto.codificarEfecto(tipo, categoriaFinal, eleccionMoneda, salio, detalle, false);
+        } catch (JugadorNullException e) {
+            return ResultadoCompacto.codificarEfecto(tipo, categoriaFinal, eleccionMoneda, salio, 0, true);
+        }
+    }
+
+    // Reconstruye el texto que produce aplicarEfectoConMoneda a partir del código compacto
+    public static String describirResultadoEfecto(long codigo, String nombreJugador1, String nombreJugador2) {
+        TipoEfecto tipo = ResultadoCompacto.tipoEfecto(codigo);
+        if (tipo == null) {
+            return null;
+        }
+        EfectoEspecial efecto = EfectoEspecial.obtener(tipo);
+        CategoriaEfecto categoria = ResultadoCompacto.categoriaEfecto(codigo);
+        if (categoria == CategoriaEfecto.NEUTRAL) {
+            return efecto.describir(nombreJugador1, nombreJugador2, categoria, ResultadoCompacto.detalleEfecto(codigo));
+        }
+        if (ResultadoCompacto.errorEfecto(codigo)) {
+            return "⚠️ ERROR: no se pudo aplicar el efecto porque uno de los jugadores es nulo. Detalle: " + efecto.describirError(nombreJugador1);
+        }
+
+        Lado eleccion = ResultadoCompacto.eleccionMoneda(codigo);
+        Lado salio = ResultadoCompacto.resultadoMoneda(codigo);
+        String mensajeMoneda = new ResultadoMoneda(eleccion, salio, eleccion == salio).obtenerRepresentacion();
+        String tipoEfecto = categoria == CategoriaEfecto.POSITIVA ? "POSITIVO" : "NEGATIVO";
+        return mensajeMoneda + "\n" +
+                efecto.describir(nombreJugador1, nombreJugador2, categoria, ResultadoCompacto.detalleEfecto(codigo)) +
+                " (Efecto " + tipoEfecto + " para " + nombreJugador1 + ")";
+    }
+
+    public static boolean esEfectoNeutral(TipoEfecto tipo) {
+        return tipo == TipoEfecto.SABOTAJE || tipo == TipoEfecto.CAOS;
+    }
+
     public static String obtenerDescripcionEfecto(TipoEfecto tipo) {
         return switch (tipo) {
             case VIDA_EXTRA -> "Positivo: ganas una vida, Negativo: pierdes una vida";
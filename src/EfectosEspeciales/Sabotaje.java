@@ -4,6 +4,8 @@ import Exceptions.JugadorNullException;
 import Jugador.Jugador;
 import Jugador.Revolver;
 
+import java.util.random.RandomGenerator;
+
 public class Sabotaje extends EfectoEspecial {
 
     public Sabotaje() {
@@ -11,9 +13,9 @@ public class Sabotaje extends EfectoEspecial {
     }
 
     @Override
-    public String aplicar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria) {
+    public int ejecutar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria, RandomGenerator random) {
         if (jugador1 == null || jugador2 == null) {
-            throw new JugadorNullException("Los jugadores no pueden ser nulos al aplicar el efecto SABOTAJE.");
+            throw new JugadorNullException(describirError(null));
         }
         // Sabotaje siempre es neutro, ignora la categoría
         Revolver revolverJ1 = jugador1.getRevolver();
@@ -22,6 +24,11 @@ public class Sabotaje extends EfectoEspecial {
         jugador1.setRevolver(revolverJ2);
         jugador2.setRevolver(revolverJ1);
 
-        return "¡SABOTAJE! " + jugador1.getNombre() + " y " + jugador2.getNombre() + " intercambian sus revólveres.";
+        return 0;
+    }
+
+    @Override
+    public String describir(String nombreJugador1, String nombreJugador2, CategoriaEfecto categoria, int detalle) {
+        return "¡SABOTAJE! " + nombreJugador1 + " y " + nombreJugador2 + " intercambian sus revólveres.";
     }
-}
\ No newline at end of file
+}
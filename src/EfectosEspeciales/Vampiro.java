@@ -3,6 +3,8 @@ package EfectosEspeciales;
 import Exceptions.JugadorNullException;
 import Jugador.Jugador;
 
+import java.util.random.RandomGenerator;
+
 public class Vampiro extends EfectoEspecial {
 
     public Vampiro() {
@@ -10,20 +12,36 @@ public class Vampiro extends EfectoEspecial {
     }
 
     @Override
-    public String aplicar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria) {
+    public int ejecutar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria, RandomGenerator random) {
         if (jugador1 == null || jugador2 == null) {
-            throw new JugadorNullException("Los jugadores no pueden ser nulos al aplicar el efecto Vampiro.");
+            throw new JugadorNullException(describirError(null));
         }
         switch (categoria) {
             case POSITIVA:
                 jugador1.ganarVida();
                 jugador2.perderVida();
-                return jugador1.getNombre() + " absorbe una vida de " + jugador2.getNombre();
+                break;
             case NEGATIVA:
                 jugador2.ganarVida();
                 jugador1.perderVida();
-                return jugador2.getNombre() + " absorbe una vida de " + jugador1.getNombre();
+                break;
+        }
+        return 0;
+    }
+
+    @Override
+    public String describir(String nombreJugador1, String nombreJugador2, CategoriaEfecto categoria, int detalle) {
+        switch (categoria) {
+            case POSITIVA:
+                return nombreJugador1 + " absorbe una vida de " + nombreJugador2;
+            case NEGATIVA:
+                return nombreJugador2 + " absorbe una vida de " + nombreJugador1;
         }
         return "";
     }
-}
\ No newline at end of file
+
+    @Override
+    public String describirError(String nombreJugador1) {
+        return "Los jugadores no pueden ser nulos al aplicar el efecto Vampiro.";
+    }
+}
@@ -3,6 +3,8 @@ package EfectosEspeciales;
 import Exceptions.JugadorNullException;
 import Jugador.Jugador;
 
+import java.util.random.RandomGenerator;
+
 public class VidaExtra extends EfectoEspecial {
 
     public VidaExtra() {
@@ -10,18 +12,29 @@ public class VidaExtra extends EfectoEspecial {
     }
 
     @Override
-    public String aplicar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria) {
+    public int ejecutar(Jugador jugador1, Jugador jugador2, CategoriaEfecto categoria, RandomGenerator random) {
         if (jugador1 == null) {
             throw new JugadorNullException("El jugador no puede ser nulo al aplicar el efecto VIDA EXTRA.");
         }
         switch (categoria) {
             case POSITIVA:
                 jugador1.ganarVida();
-                return jugador1.getNombre() + " obtiene una vida extra";
+                break;
             case NEGATIVA:
                 jugador1.perderVida();
-                return jugador1.getNombre() + " pierde una vida";
+                break;
+        }
+        return 0;
+    }
+
+    @Override
+    public String describir(String nombreJugador1, String nombreJugador2, CategoriaEfecto categoria, int detalle) {
+        switch (categoria) {
+            case POSITIVA:
+                return nombreJugador1 + " obtiene una vida extra";
+            case NEGATIVA:
+                return nombreJugador1 + " pierde una vida";
         }
         return "";
     }
-}
\ No newline at end of file
+}
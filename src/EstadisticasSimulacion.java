@@ -0,0 +1,135 @@
+import EfectosEspeciales.TipoEfecto;
+
+class EstadisticasSimulacion {
+
+    // ================ ATRIBUTOS ================
+
+    private final ModoJuego modo;
+
+
+    private long partidas;
+
+
+    private long victoriasJugador1;
+
+
+    private long victoriasJugador2;
+
+
+    // Solo las cortadas por Simulador.MAX_TURNOS_POR_PARTIDA
+    private long partidasInconclusas;
+
+
+    // Multijugador con los dos jugadores sin vidas a la vez
+    private long partidasEmpatadas;
+
+
+    private long turnosTotales;
+
+
+    private int turnosMaximo;
+
+
+    private long aciertos;
+
+
+    private int rachaMaxima;
+
+
+    private long impactos;
+
+
+    private long vidasPerdidas;
+
+
+    private final long[] efectos;
+
+
+    // Semillas de las partidas récord, para poder reproducirlas
+    private long semillaTurnosMaximo;
+
+
+    private long semillaRachaMaxima;
+
+    // ================ CONSTRUCTORES ================
+
+
+    EstadisticasSimulacion(ModoJuego modo) {
+        this.modo = modo;
+        this.efectos = new long[TipoEfecto.values().length];
+    }
+
+    // ================ REGISTRO ================
+
+
+    void registrarTurno(boolean acerto, boolean huboImpacto, int vidasPerdidasEnTurno, TipoEfecto efecto) {
+        if (acerto) {
+            aciertos++;
+        }
+        if (huboImpacto) {
+            impactos++;
+        }
+        vidasPerdidas += vidasPerdidasEnTurno;
+        if (efecto != null) {
+            efectos[efecto.ordinal()]++;
+        }
+    }
+
+
+    // 'ganador' es 0 cuando no lo hay (modo SOLO, empate o partida inconclusa)
+    void registrarPartida(int turnos, int aciertosPartida, int ganador, boolean inconclusa, long semilla) {
+        // Ante empates queda la primera: así el récord no depende del reparto entre tareas
+        if (partidas == 0 || turnos > turnosMaximo) {
+            turnosMaximo = turnos;
+            semillaTurnosMaximo = semilla;
+        }
+        if (partidas == 0 || aciertosPartida > rachaMaxima) {
+            rachaMaxima = aciertosPartida;
+            semillaRachaMaxima = semilla;
+        }
+        partidas++;
+        turnosTotales += turnos;
+        if (inconclusa) {
+            partidasInconclusas++;
+        } else if (ganador == 1) {
+            victoriasJugador1++;
+        } else if (ganador == 2) {
+            victoriasJugador2++;
+        } else if (modo != ModoJuego.SOLO) {
+            partidasEmpatadas++;
+        }
+    }
+
+
+    // 'otra' son las partidas que siguen a las de esta, en orden de índice
+    EstadisticasSimulacion combinar(EstadisticasSimulacion otra) {
+        if (otra.partidas > 0 && (partidas == 0 || otra.turnosMaximo > turnosMaximo)) {
+            turnosMaximo = otra.turnosMaximo;
+            semillaTurnosMaximo = otra.semillaTurnosMaximo;
+        }
+        if (otra.partidas > 0 && (partidas == 0 || otra.rachaMaxima > rachaMaxima)) {
+            rachaMaxima = otra.rachaMaxima;
+            semillaRachaMaxima = otra.semillaRachaMaxima;
+        }
+        partidas += otra.partidas;
+        victoriasJugador1 += otra.victoriasJugador1;
+        victoriasJugador2 += otra.victoriasJugador2;
+        partidasInconclusas += otra.partidasInconclusas;
+        partidasEmpatadas += otra.partidasEmpatadas;
+        turnosTotales += otra.turnosTotales;
+        aciertos += otra.aciertos;
+        impactos += otra.impactos;
+        vidasPerdidas += otra.vidasPerdidas;
+        for (int i = 0; i < efectos.length; i++) {
+            efectos[i] += otra.efectos[i];
+        }
+        return this;
+    }
+
+
+    ResultadoSimulacion aResultado(long semillaRaiz) {
+        return new ResultadoSimulacion(modo, partidas, victoriasJugador1, victoriasJugador2,
+                partidasInconclusas, partidasEmpatadas, turnosTotales, turnosMaximo, aciertos, rachaMaxima,
+                impactos, vidasPerdidas, efectos.clone(), semillaRaiz, semillaTurnosMaximo, semillaRachaMaxima);
+    }
+}
@@ -0,0 +1,7 @@
+package Exceptions;
+
+public class EntradaCerradaException extends RuntimeException {
+    public EntradaCerradaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package Exceptions;
+
+public class MesaNoEncontradaException extends RuntimeException {
+    public MesaNoEncontradaException(String message) {
+        super(message);
+    }
+}
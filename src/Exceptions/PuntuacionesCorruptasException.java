@@ -0,0 +1,7 @@
+package Exceptions;
+
+public class PuntuacionesCorruptasException extends RuntimeException {
+    public PuntuacionesCorruptasException(String message) {
+        super(message);
+    }
+}
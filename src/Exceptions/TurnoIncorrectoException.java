@@ -0,0 +1,7 @@
+package Exceptions;
+
+public class TurnoIncorrectoException extends RuntimeException {
+    public TurnoIncorrectoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,31 @@
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+public final class GeneradorAleatorio {
+
+    // ================ CONSTANTES ================
+
+    // Familia LXM: rápida, de buena calidad estadística y divisible en flujos independientes
+    public static final String ALGORITMO = "L64X128MixRandom";
+
+
+    private static final RandomGeneratorFactory<SplittableGenerator> FABRICA = RandomGeneratorFactory.of(ALGORITMO);
+
+    // ================ CONSTRUCTORES ================
+
+    private GeneradorAleatorio() {
+    }
+
+    // ================ FÁBRICA ================
+
+
+    public static SplittableGenerator crear(long semilla) {
+        return FABRICA.create(semilla);
+    }
+
+
+    public static SplittableGenerator crear() {
+        return FABRICA.create();
+    }
+}
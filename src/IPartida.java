@@ -12,6 +12,9 @@ public interface IPartida {
 
     String iniciarPartida() throws PartidaIniciadaException, JugadorNullException;
 
+    ResultadoApuesta procesarApuesta(Jugador jugador)
+            throws PartidaNoIniciadaException, CartaNulaException;
+
     ResultadoApuesta procesarApuesta(Jugador jugador, TipoApuesta apuesta)
             throws PartidaNoIniciadaException, CartaNulaException;
 
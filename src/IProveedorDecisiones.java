@@ -0,0 +1,8 @@
+import Carta.Carta;
+import Jugador.Jugador;
+import Moneda.ISelectorMoneda;
+
+public interface IProveedorDecisiones extends ISelectorMoneda {
+
+    TipoApuesta elegirApuesta(Jugador jugador, Carta cartaActual);
+}
@@ -12,6 +12,8 @@ public interface IRevolver {
     void vaciarRevolver();
 
     int contarBalas();
+
+    int getCapacidad();
     
     double getProbabilidadImpacto();
 }
@@ -1,7 +1,6 @@
 package Jugador;
 
-import java.util.Arrays;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class Revolver implements IRevolver {
     
@@ -9,50 +8,92 @@ public class Revolver implements IRevolver {
     
     private static final int CAPACIDAD_RECAMARA = 6;
     
-    private static final Random RANDOM = new Random();
+    
+    // La recámara es un long: no puede tener más posiciones que bits
+    public static final int CAPACIDAD_MAXIMA = Long.SIZE;
+    
+    
+    // MASCARAS[n] tiene encendidos los n bits más bajos (n balas cargadas desde la posición 0)
+    private static final long[] MASCARAS = crearMascaras();
     
     // ================ ATRIBUTOS ================
     
-    private final boolean[] recamara;
+    // Bit i encendido = hay bala en la posición i
+    private long recamara;
+    
+    
+    private final int capacidad;
+    
+    
+    private final long mascaraCompleta;
+    
+    
+    private final RandomGenerator random;
 
     // ================ CONSTRUCTOR ================
     
     
     public Revolver() {
-        this.recamara = new boolean[CAPACIDAD_RECAMARA];
-        // Por defecto todas las posiciones son false (sin balas)
+        this(RandomGenerator.getDefault());
+    }
+    
+    
+    public Revolver(RandomGenerator random) {
+        this(CAPACIDAD_RECAMARA, random);
+    }
+    
+    
+    public Revolver(int capacidad, RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("El generador aleatorio no puede ser null");
+        }
+        if (capacidad < 1 || capacidad > CAPACIDAD_MAXIMA) {
+            throw new IllegalArgumentException(
+                "La capacidad del revólver debe estar entre 1 y " + CAPACIDAD_MAXIMA
+            );
+        }
+        this.capacidad = capacidad;
+        this.mascaraCompleta = MASCARAS[capacidad];
+        this.recamara = 0L; // Por defecto sin balas
+        this.random = random;
+    }
+    
+    
+    private static long[] crearMascaras() {
+        long[] mascaras = new long[CAPACIDAD_MAXIMA + 1];
+        for (int n = 1; n <= CAPACIDAD_MAXIMA; n++) {
+            mascaras[n] = (mascaras[n - 1] << 1) | 1L;
+        }
+        return mascaras;
     }
 
     // ================ MÉTODOS PRINCIPALES ================
     
     
     public boolean girarYDisparar() {
-        int posicionAleatoria = RANDOM.nextInt(CAPACIDAD_RECAMARA);
-        return recamara[posicionAleatoria];
+        int posicionAleatoria = random.nextInt(capacidad);
+        return ((recamara >>> posicionAleatoria) & 1L) != 0;
         // NOTA: NO se quita la bala intencionalmente
         // Esto crea un ciclo de tensión creciente en el juego
     }
 
     
     public boolean cargarBala() {
-        for (int i = 0; i < recamara.length; i++) {
-            if (!recamara[i]) {
-                recamara[i] = true;
-                return true;
-            }
+        long libres = ~recamara & mascaraCompleta;
+        if (libres == 0) {
+            return false; // Revólver lleno
         }
-        return false; // Revólver lleno
+        recamara |= Long.lowestOneBit(libres);
+        return true;
     }
 
     
     public boolean quitarBala() {
-        for (int i = 0; i < recamara.length; i++) {
-            if (recamara[i]) {
-                recamara[i] = false;
-                return true;
-            }
+        if (recamara == 0) {
+            return false; // Revólver vacío
         }
-        return false; // Revólver vacío
+        recamara &= recamara - 1; // Apaga la bala de la posición más baja
+        return true;
     }
 
     
@@ -61,47 +102,39 @@ public class Revolver implements IRevolver {
         if (numeroDeBalas < 0) {
             throw new IllegalArgumentException("El número de balas no puede ser negativo");
         }
-        if (numeroDeBalas > CAPACIDAD_RECAMARA) {
+        if (numeroDeBalas > capacidad) {
             throw new IllegalArgumentException(
                 "El número de balas no puede exceder la capacidad del revólver (" + 
-                CAPACIDAD_RECAMARA + ")"
+                capacidad + ")"
             );
         }
         
-        // Limpiar todas las recámaras
-        vaciarRevolver();
-
-        // Cargar el número especificado de balas
-        for (int i = 0; i < numeroDeBalas; i++) {
-            cargarBala();
-        }
+        recamara = MASCARAS[numeroDeBalas];
     }
 
     
     public void vaciarRevolver() {
-        Arrays.fill(recamara, false);
+        recamara = 0L;
     }
 
     // ================ MÉTODOS DE CONSULTA ================
     
     
     public int contarBalas() {
-        int count = 0;
-        for (boolean bala : recamara) {
-            if (bala) {
-                count++;
-            }
-        }
-        return count;
+        return Long.bitCount(recamara);
+    }
+    
+    public int getCapacidad() {
+        return capacidad;
     }
     
     public double getProbabilidadImpacto() {
-        return (contarBalas() * 100.0) / CAPACIDAD_RECAMARA;
+        return (contarBalas() * 100.0) / capacidad;
     }
 
     // ================ MÉTODOS DE UTILIDAD ================
     @Override
     public String toString() {
-        return String.format("Revólver [%d/%d balas]", contarBalas(), CAPACIDAD_RECAMARA);
+        return String.format("Revólver [%d/%d balas]", contarBalas(), capacidad);
     }
 }
@@ -0,0 +1,26 @@
+import Modelo.GestorPuntuaciones;
+
+import java.net.InetSocketAddress;
+
+// API HTTP/JSON del juego (ver ApiJuegoHttp). Uso: java MainHttp [puerto] [historial]
+public class MainHttp {
+
+    private static final int PUERTO_POR_DEFECTO = 8080;
+
+    public static void main(String[] args) {
+        int puerto = args.length > 0 ? Integer.parseInt(args[0]) : PUERTO_POR_DEFECTO;
+        // "historial": cada modo lleva además su .bin con todas las partidas, de donde salen top y posiciones
+        boolean conHistorial = args.length > 1 && args[1].equals("historial");
+        GestorPuntuaciones gestorPuntuacionesGlobal = new GestorPuntuaciones(conHistorial);
+        ApiJuegoHttp api = new ApiJuegoHttp(new InetSocketAddress(puerto), gestorPuntuacionesGlobal);
+
+        // Ctrl+C: se deja de atender y se escriben las puntuaciones pendientes
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            api.close();
+            gestorPuntuacionesGlobal.close();
+        }, "cierre-api"));
+
+        api.iniciar();
+        System.out.println("DEATH DRAW atendiendo HTTP en el puerto " + api.getPuerto());
+    }
+}
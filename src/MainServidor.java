@@ -0,0 +1,30 @@
+import Modelo.GestorPuntuaciones;
+import Servidor.ServidorJuegoTcp;
+
+import java.net.InetSocketAddress;
+
+// Juego en red: cada cliente (telnet, nc) que se conecta abre su propia mesa. Todas comparten
+// la tabla de puntuaciones. Uso: java MainServidor [puerto] [historial]
+public class MainServidor {
+
+    private static final int PUERTO_POR_DEFECTO = 7777;
+
+    public static void main(String[] args) throws InterruptedException {
+        int puerto = args.length > 0 ? Integer.parseInt(args[0]) : PUERTO_POR_DEFECTO;
+        // "historial": cada modo lleva además su .bin con todas las partidas, de donde salen top y posiciones
+        boolean conHistorial = args.length > 1 && args[1].equals("historial");
+        GestorPuntuaciones gestorPuntuacionesGlobal = new GestorPuntuaciones(conHistorial);
+        ServidorJuegoTcp servidor = new ServidorJuegoTcp(new InetSocketAddress(puerto),
+                consola -> new SesionJuego(consola, gestorPuntuacionesGlobal));
+
+        // Ctrl+C: se cortan las mesas y se escriben las puntuaciones pendientes
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            servidor.close();
+            gestorPuntuacionesGlobal.close();
+        }, "cierre-servidor"));
+
+        servidor.iniciar();
+        System.out.println("DEATH DRAW escuchando en el puerto " + servidor.getPuerto());
+        servidor.esperarCierre();
+    }
+}
@@ -0,0 +1,60 @@
+import Modelo.GestorPuntuacionesConcurrente;
+import Servidor.CanalEspectadores;
+import Servidor.PoliticaDesborde;
+import Servidor.ServidorEspectadores;
+import Servidor.VistaTransmitida;
+import Vista.MenuAutomatico;
+import Vista.VistaNula;
+
+import java.net.InetSocketAddress;
+import java.util.SplittableRandom;
+
+// Torneo automático transmitido: partidas entre bots, una tras otra, a un ritmo fijo por turno.
+// Los espectadores se conectan por TCP (por ejemplo, nc localhost 7778) y reciben una línea JSON
+// por turno. Uso: java MainTorneo [puerto] [ms por turno]
+public class MainTorneo {
+
+    private static final int PUERTO_POR_DEFECTO = 7778;
+    private static final int RITMO_POR_DEFECTO_MS = 500;
+    private static final int CAPACIDAD_COLA = 64;
+
+    public static void main(String[] args) {
+        int puerto = args.length > 0 ? Integer.parseInt(args[0]) : PUERTO_POR_DEFECTO;
+        long ritmo = args.length > 1 ? Long.parseLong(args[1]) : RITMO_POR_DEFECTO_MS;
+
+        CanalEspectadores canal = new CanalEspectadores();
+        ServidorEspectadores servidor = new ServidorEspectadores(new InetSocketAddress(puerto), canal,
+                CAPACIDAD_COLA, PoliticaDesborde.COALESCER);
+
+        // Ctrl+C: se cierran las conexiones de los espectadores en vez de dejarlas colgadas
+        Runtime.getRuntime().addShutdownHook(new Thread(servidor::close, "cierre-torneo"));
+
+        servidor.iniciar();
+        System.out.println("DEATH DRAW transmitiendo en el puerto " + servidor.getPuerto());
+
+        // La pausa entre turnos es lo único que hace la vista de fondo
+        VistaNula pausa = new VistaNula() {
+            @Override
+            public void esperarContinuar() {
+                try {
+                    Thread.sleep(ritmo);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        VistaTransmitida vista = new VistaTransmitida(pausa, canal);
+        GestorPuntuacionesConcurrente gestor = new GestorPuntuacionesConcurrente();
+        SplittableRandom random = new SplittableRandom();
+
+        while (!Thread.currentThread().isInterrupted()) {
+            Partida partida = new Partida(ModoJuego.CLASICO, new DecisionesAleatorias(random.split()), random.nextLong());
+            partida.agregarJugador("Bot A");
+            partida.agregarJugador("Bot B");
+            partida.iniciarPartida();
+            new ControladorJuego(partida, ModoJuego.CLASICO, gestor, vista, new MenuAutomatico(random.split())).jugar();
+            pausa.esperarContinuar();
+        }
+        servidor.close();
+    }
+}
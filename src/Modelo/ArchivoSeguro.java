@@ -0,0 +1,113 @@
+package Modelo;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Escrituras que sobreviven a una caída (archivo temporal + fsync + rename atómico) y
+// exclusión mutua entre procesos mediante un FileLock sobre un archivo ".lock" vecino.
+final class ArchivoSeguro {
+
+    private static final String SUFIJO_BLOQUEO = ".lock";
+    private static final String SUFIJO_CORRUPTO = ".corrupto-";
+
+    // FileLock es por proceso: dentro de la JVM los hilos se excluyen con un monitor por archivo
+    private static final Map<Path, Object> MONITORES = new ConcurrentHashMap<>();
+
+    interface Operacion<T> {
+        T ejecutar() throws IOException;
+    }
+
+    interface Escritura {
+        void escribir(Writer salida) throws IOException;
+    }
+
+    interface Volcado {
+        void volcar(FileChannel canal) throws IOException;
+    }
+
+    private ArchivoSeguro() {
+    }
+
+    static <T> T conBloqueo(Path ruta, Operacion<T> operacion) throws IOException {
+        Path absoluta = ruta.toAbsolutePath().normalize();
+        Object monitor = MONITORES.computeIfAbsent(absoluta, p -> new Object());
+        synchronized (monitor) {
+            Path archivoBloqueo = absoluta.resolveSibling(absoluta.getFileName() + SUFIJO_BLOQUEO);
+            try (FileChannel canal = FileChannel.open(archivoBloqueo, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // Cerrar el canal suelta el bloqueo
+                canal.lock();
+                return operacion.ejecutar();
+            }
+        }
+    }
+
+    static void escribirAtomico(Path ruta, String contenido) throws IOException {
+        escribirAtomico(ruta, ByteBuffer.wrap(contenido.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static void escribirAtomico(Path ruta, ByteBuffer contenido) throws IOException {
+        volcarAtomico(ruta, canal -> {
+            while (contenido.hasRemaining()) {
+                canal.write(contenido);
+            }
+        });
+    }
+
+    // El texto se codifica en UTF-8 a medida que se escribe, sin armar el documento completo
+    static void escribirAtomico(Path ruta, Escritura escritura) throws IOException {
+        volcarAtomico(ruta, canal -> {
+            Writer salida = Channels.newWriter(canal, StandardCharsets.UTF_8);
+            escritura.escribir(salida);
+            // Sin cerrar: el canal lo cierra quien lo abrió, después del fsync
+            salida.flush();
+        });
+    }
+
+    static void volcarAtomico(Path ruta, Volcado volcado) throws IOException {
+        Path absoluta = ruta.toAbsolutePath().normalize();
+        Path directorio = absoluta.getParent();
+        Path temporal = Files.createTempFile(directorio, absoluta.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                volcado.volcar(canal);
+                // Un único fsync por guardado: agrupa todas las actualizaciones acumuladas
+                canal.force(true);
+            }
+            try {
+                Files.move(temporal, absoluta, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporal, absoluta, StandardCopyOption.REPLACE_EXISTING);
+            }
+            sincronizarDirectorio(directorio);
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    // Aparta un archivo ilegible en lugar de sobrescribirlo, para no perder datos en silencio
+    static Path respaldarCorrupto(Path ruta) throws IOException {
+        Path respaldo = ruta.resolveSibling(ruta.getFileName() + SUFIJO_CORRUPTO + System.currentTimeMillis());
+        Files.move(ruta, respaldo, StandardCopyOption.REPLACE_EXISTING);
+        return respaldo;
+    }
+
+    private static void sincronizarDirectorio(Path directorio) {
+        // Hace durable el rename; no todos los sistemas permiten abrir un directorio
+        try (FileChannel canal = FileChannel.open(directorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Sin soporte: el rename ya es atómico, solo se pierde la garantía de durabilidad inmediata
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package Modelo;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+// Cuántas partidas terminaron con cada puntaje, en un árbol de Fenwick: registrar una partida y
+// contar cuántas quedaron por encima o por debajo de un puntaje cuestan O(log P), con P el mayor
+// puntaje visto. El árbol crece duplicándose cuando aparece un puntaje más alto, hasta
+// PUNTAJE_MAXIMO_EXACTO. Los puntajes por encima son rarezas: van a un mapa ordenado aparte, así
+// un solo récord enorme no agranda el árbol (ni la instantánea) a millones de casilleros.
+final class ConteoPuntajes {
+
+    // ================ CONSTANTES ================
+    private static final int CAPACIDAD_INICIAL = 64;
+    // Mayor puntaje que guarda el árbol; los de más arriba van a 'altos'
+    static final int PUNTAJE_MAXIMO_EXACTO = 4095;
+
+    // ================ ATRIBUTOS ================
+    // 1-based: el puntaje p vive en el índice p + 1; los negativos cuentan como 0
+    private long[] arbol = new long[CAPACIDAD_INICIAL + 1];
+    private long total;
+
+    // Puntajes mayores que PUNTAJE_MAXIMO_EXACTO y cuántas partidas tiene cada uno
+    private final TreeMap<Integer, Long> altos = new TreeMap<>();
+    private long totalAltos;
+
+    // ================ MODIFICACIÓN ================
+    void agregar(int puntaje, long cantidad) {
+        if (puntaje > PUNTAJE_MAXIMO_EXACTO) {
+            altos.merge(puntaje, cantidad, Long::sum);
+            totalAltos += cantidad;
+            return;
+        }
+        int indice = indice(puntaje);
+        while (indice >= arbol.length) {
+            crecer();
+        }
+        for (int i = indice; i < arbol.length; i += i & -i) {
+            arbol[i] += cantidad;
+        }
+        total += cantidad;
+    }
+
+    void agregarTodo(ConteoPuntajes otro) {
+        otro.recorrer(this::agregar);
+    }
+
+    // ================ CONSULTAS ================
+    long getTotal() {
+        return total + totalAltos;
+    }
+
+    // Por encima del árbol se recorren solo los puntajes altos que haya: son pocos
+    long contarMayoresQue(int puntaje) {
+        if (puntaje >= PUNTAJE_MAXIMO_EXACTO) {
+            return sumar(altos.tailMap(puntaje, false));
+        }
+        return total - contarHasta(indice(puntaje)) + totalAltos;
+    }
+
+    long contarMenoresQue(int puntaje) {
+        if (puntaje > PUNTAJE_MAXIMO_EXACTO) {
+            return total + sumar(altos.headMap(puntaje, false));
+        }
+        return contarHasta(indice(puntaje) - 1);
+    }
+
+    // Entrega cada puntaje con partidas y su cantidad, de menor a mayor
+    void recorrer(BiConsumer<Integer, Long> destino) {
+        long anterior = 0;
+        for (int i = 1; i < arbol.length; i++) {
+            long acumulado = contarHasta(i);
+            if (acumulado != anterior) {
+                destino.accept(i - 1, acumulado - anterior);
+                anterior = acumulado;
+            }
+        }
+        altos.forEach(destino);
+    }
+
+    private static long sumar(Map<Integer, Long> cantidades) {
+        long suma = 0;
+        for (long cantidad : cantidades.values()) {
+            suma += cantidad;
+        }
+        return suma;
+    }
+
+    // ================ ÁRBOL ================
+    private long contarHasta(int indice) {
+        long suma = 0;
+        for (int i = Math.min(indice, arbol.length - 1); i > 0; i -= i & -i) {
+            suma += arbol[i];
+        }
+        return suma;
+    }
+
+    // Al duplicar, los nodos existentes cubren los mismos rangos; el único nodo nuevo que abarca
+    // datos viejos es la nueva raíz, que cubre todo
+    private void crecer() {
+        int tamanio = arbol.length - 1;
+        long[] nuevo = new long[tamanio * 2 + 1];
+        System.arraycopy(arbol, 0, nuevo, 0, arbol.length);
+        nuevo[tamanio * 2] = total;
+        arbol = nuevo;
+    }
+
+    private static int indice(int puntaje) {
+        return Math.min(Math.max(puntaje, 0), PUNTAJE_MAXIMO_EXACTO) + 1;
+    }
+}
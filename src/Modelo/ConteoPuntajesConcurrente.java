@@ -0,0 +1,113 @@
+package Modelo;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Versión sin bloqueos de ConteoPuntajes: los nodos del árbol de Fenwick son contadores atómicos.
+// A cambio el rango es fijo; los puntajes por encima del máximo comparten el último casillero.
+// Una consulta concurrente con altas puede ver parte de ellas: el conteo es exacto en reposo.
+//
+// Todo camino de alta termina en la raíz del árbol, así que con un solo árbol todos los hilos
+// pelean por la misma línea de caché. Por eso hay varias franjas, cada una un árbol completo: cada
+// hilo suma en la suya y las consultas suman las franjas (O(F log P)). Las franjas se crean recién
+// cuando un hilo cae en ellas; con un solo núcleo hay una sola, igual que antes.
+final class ConteoPuntajesConcurrente {
+
+    // ================ CONSTANTES ================
+    static final int PUNTAJE_MAXIMO_POR_DEFECTO = 4095;
+
+    private static final int MAXIMO_FRANJAS = 64;
+
+    // Longs de relleno al final de cada árbol: la raíz de una franja no comparte línea de caché con
+    // la cabecera del arreglo que venga después en memoria
+    private static final int RELLENO = 16;
+
+    // ================ ATRIBUTOS ================
+    // 1-based: el puntaje p vive en el índice p + 1; los negativos cuentan como 0
+    private final AtomicReferenceArray<AtomicLongArray> franjas;
+    private final int mascaraFranjas;
+    private final int tamanio;
+    private final int puntajeMaximo;
+
+    // ================ CONSTRUCTOR ================
+    ConteoPuntajesConcurrente(int puntajeMaximo) {
+        this(puntajeMaximo, Runtime.getRuntime().availableProcessors());
+    }
+
+    ConteoPuntajesConcurrente(int puntajeMaximo, int hilos) {
+        if (puntajeMaximo < 0) {
+            throw new IllegalArgumentException("El puntaje máximo no puede ser negativo: " + puntajeMaximo);
+        }
+        int cantidad = Math.min(MAXIMO_FRANJAS, Integer.highestOneBit(Math.max(1, hilos) * 2 - 1));
+        this.puntajeMaximo = puntajeMaximo;
+        this.tamanio = puntajeMaximo + 2;
+        this.franjas = new AtomicReferenceArray<>(cantidad);
+        this.mascaraFranjas = cantidad - 1;
+        franjas.set(0, nuevoArbol());
+    }
+
+    // ================ MODIFICACIÓN ================
+    void agregar(int puntaje) {
+        AtomicLongArray arbol = franjaDelHilo();
+        for (int i = indice(puntaje); i < tamanio; i += i & -i) {
+            arbol.getAndIncrement(i);
+        }
+    }
+
+    // ================ CONSULTAS ================
+    long getTotal() {
+        return contarHasta(tamanio - 1);
+    }
+
+    long contarMayoresQue(int puntaje) {
+        return Math.max(0, getTotal() - contarHasta(indice(puntaje)));
+    }
+
+    long contarMenoresQue(int puntaje) {
+        return contarHasta(indice(puntaje) - 1);
+    }
+
+    int getFranjas() {
+        return franjas.length();
+    }
+
+    private long contarHasta(int indice) {
+        long suma = 0;
+        for (int f = 0; f < franjas.length(); f++) {
+            AtomicLongArray arbol = franjas.get(f);
+            if (arbol == null) {
+                continue;
+            }
+            for (int i = indice; i > 0; i -= i & -i) {
+                suma += arbol.get(i);
+            }
+        }
+        return suma;
+    }
+
+    // ================ FRANJAS ================
+    private AtomicLongArray franjaDelHilo() {
+        int f = mezclar(Thread.currentThread().threadId()) & mascaraFranjas;
+        AtomicLongArray arbol = franjas.get(f);
+        if (arbol == null) {
+            // Si dos hilos la crean a la vez, gana uno y el otro usa la del ganador
+            franjas.compareAndSet(f, null, nuevoArbol());
+            arbol = franjas.get(f);
+        }
+        return arbol;
+    }
+
+    private AtomicLongArray nuevoArbol() {
+        return new AtomicLongArray(tamanio + RELLENO);
+    }
+
+    // Los ids de hilo son consecutivos: se mezclan para repartirlos parejo entre las franjas
+    private static int mezclar(long id) {
+        long z = id * 0x9E3779B97F4A7C15L;
+        return (int) (z ^ (z >>> 32));
+    }
+
+    private int indice(int puntaje) {
+        return Math.min(Math.max(puntaje, 0), puntajeMaximo) + 1;
+    }
+}
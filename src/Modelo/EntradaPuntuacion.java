@@ -1,12 +1,21 @@
 package Modelo;
 
 public class EntradaPuntuacion implements Comparable<EntradaPuntuacion> {
+    public static final long SIN_FECHA = 0;
+
     private final String nombre;
     private final int puntaje;
+    // Momento de la partida en milisegundos desde la época; 0 si no se conoce (entradas anteriores)
+    private final long fecha;
 
     public EntradaPuntuacion(String nombre, int puntaje) {
+        this(nombre, puntaje, SIN_FECHA);
+    }
+
+    public EntradaPuntuacion(String nombre, int puntaje, long fecha) {
         this.nombre = nombre;
         this.puntaje = puntaje;
+        this.fecha = fecha;
     }
 
     public String getNombre() {
@@ -17,6 +26,14 @@ public class EntradaPuntuacion implements Comparable<EntradaPuntuacion> {
         return puntaje;
     }
 
+    public long getFecha() {
+        return fecha;
+    }
+
+    public boolean tieneFecha() {
+        return fecha != SIN_FECHA;
+    }
+
     @Override
     public int compareTo(EntradaPuntuacion o) {
         // Orden descendente por puntaje
@@ -0,0 +1,108 @@
+package Modelo;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+// Escribe la lista JSON entrada por entrada directamente sobre el Writer, sin armar el documento en memoria
+public final class EscritorPuntuacionesJson implements Closeable, Flushable {
+
+    // ================ CONSTANTES ================
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // ================ ATRIBUTOS ================
+    private final Writer salida;
+    private boolean abierta;
+    private boolean terminada;
+
+    // ================ CONSTRUCTOR ================
+    public EscritorPuntuacionesJson(Writer salida) {
+        this.salida = salida;
+    }
+
+    // ================ ESCRITURA ================
+    public static void escribirTodas(Writer salida, Iterable<EntradaPuntuacion> entradas) throws IOException {
+        EscritorPuntuacionesJson escritor = new EscritorPuntuacionesJson(salida);
+        for (EntradaPuntuacion entrada : entradas) {
+            escritor.escribir(entrada);
+        }
+        escritor.terminar();
+    }
+
+    public void escribir(EntradaPuntuacion entrada) throws IOException {
+        if (terminada) {
+            throw new IllegalStateException("La lista de puntuaciones ya se cerró");
+        }
+        salida.write(abierta ? ',' : '[');
+        abierta = true;
+        escribirObjeto(entrada);
+    }
+
+    // Una línea del registro de puntuaciones: el objeto suelto, sin la lista alrededor
+    public void escribirRegistro(EntradaPuntuacion entrada) throws IOException {
+        escribirObjeto(entrada);
+        salida.write('\n');
+    }
+
+    // Cierra la lista; no cierra el Writer
+    public void terminar() throws IOException {
+        if (terminada) {
+            return;
+        }
+        if (!abierta) {
+            salida.write('[');
+        }
+        salida.write(']');
+        terminada = true;
+        salida.flush();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        salida.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        terminar();
+        salida.close();
+    }
+
+    private void escribirObjeto(EntradaPuntuacion entrada) throws IOException {
+        salida.write("{\"nombre\":");
+        escribirTexto(salida, entrada.getNombre());
+        salida.write(",\"puntaje\":");
+        salida.write(Integer.toString(entrada.getPuntaje()));
+        if (entrada.tieneFecha()) {
+            salida.write(",\"fecha\":");
+            salida.write(Long.toString(entrada.getFecha()));
+        }
+        salida.write('}');
+    }
+
+    // Cadena JSON escapada. Sirve para el Writer del archivo y para el StringBuilder de las
+    // respuestas del servidor; sin nada que escapar, append(s, 0, largo) no copia la cadena
+    public static void escribirTexto(Appendable salida, String s) throws IOException {
+        salida.append('"');
+        int inicio = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c != '"' && c != '\\' && c >= 0x20) {
+                continue;
+            }
+            salida.append(s, inicio, i);
+            inicio = i + 1;
+            switch (c) {
+                case '"' -> salida.append("\\\"");
+                case '\\' -> salida.append("\\\\");
+                case '\n' -> salida.append("\\n");
+                case '\r' -> salida.append("\\r");
+                case '\t' -> salida.append("\\t");
+                default -> salida.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+        salida.append(s, inicio, s.length());
+        salida.append('"');
+    }
+}
@@ -1,20 +1,87 @@
 package Modelo;
 
-import Vista.InterfazConsola;
-
-import java.io.*;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.IOException;
+import java.time.Clock;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
-public class GestorPuntuaciones implements IGestorPuntuaciones {
+public class GestorPuntuaciones implements IGestorPuntuaciones, AutoCloseable {
     private static final String DEFAULT_FILE = "highscores_solo.json";
+    private static final String MODO_POR_DEFECTO = "SOLO";
     private static final int MAX_ENTRIES = 5;
 
-    private final InterfazConsola consola = InterfazConsola.obtenerInstancia();
+    // Cada modo tiene su propio archivo: highscores_<modo>.json (SOLO conserva el archivo de siempre)
+    private static final String PREFIJO_ARCHIVO = "highscores_";
+    private static final String EXTENSION_ARCHIVO = ".json";
+
+    // Demora máxima entre una partida y su escritura en el registro; las que llegan en ese lapso se agrupan
+    private static final long DEMORA_GUARDADO_MS = 500;
+
+    // Errores de disco: no cortan la partida, solo se avisan (por defecto a System.err)
+    private final Consumer<String> avisos;
+
+    // K: cuántas entradas guarda cada tabla
+    private final int capacidad;
+
+    // Fecha de cada partida y "hoy" de las tablas por período
+    private final Clock reloj;
+
+    // Si cada tabla lleva además el historial binario de todas sus partidas (highscores_<modo>.bin)
+    private final boolean conHistorial;
+
+    // Tablas ya leídas, por ruta de archivo: cada archivo se lee una sola vez
+    private final Map<String, RegistroPuntuaciones> tablas = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService escritor;
+    private Thread ganchoCierre;
+    private boolean cerrado;
+
+    public GestorPuntuaciones() {
+        this(MAX_ENTRIES);
+    }
+
+    public GestorPuntuaciones(Consumer<String> avisos) {
+        this(MAX_ENTRIES, Clock.systemDefaultZone(), false, avisos);
+    }
+
+    // Con historial binario: el top histórico y las posiciones se consultan sobre el .bin mapeado
+    public GestorPuntuaciones(boolean conHistorial) {
+        this(MAX_ENTRIES, Clock.systemDefaultZone(), conHistorial);
+    }
+
+    public GestorPuntuaciones(int capacidad) {
+        this(capacidad, Clock.systemDefaultZone());
+    }
+
+    public GestorPuntuaciones(int capacidad, Clock reloj) {
+        this(capacidad, reloj, false);
+    }
+
+    public GestorPuntuaciones(int capacidad, Clock reloj, boolean conHistorial) {
+        this(capacidad, reloj, conHistorial, System.err::println);
+    }
+
+    public GestorPuntuaciones(int capacidad, Clock reloj, boolean conHistorial, Consumer<String> avisos) {
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("La capacidad de la tabla debe ser positiva: " + capacidad);
+        }
+        this.capacidad = capacidad;
+        this.reloj = reloj;
+        this.conHistorial = conHistorial;
+        this.avisos = avisos;
+    }
+
+    
+    public int getCapacidad() {
+        return capacidad;
+    }
 
     
     public boolean actualizarPuntuacion(String nombre, int puntaje) {
@@ -22,36 +89,41 @@ public class GestorPuntuaciones implements IGestorPuntuaciones {
     }
 
     
-    public boolean actualizarPuntuacion(String nombre, int puntaje, String rutaArchivo) {
-        try {
-            List<EntradaPuntuacion> oldEntries = cargarDesdeArchivo(rutaArchivo);
-
-            // Determinar si el nuevo puntaje califica
-            boolean esPuntuacionAlta = false;
-            if (oldEntries.size() < MAX_ENTRIES) {
-                esPuntuacionAlta = true;
-            } else {
-                // Lista ya ordenada de mayor a menor
-                EntradaPuntuacion last = oldEntries.get(oldEntries.size() - 1);
-                if (puntaje > last.getPuntaje()) {
-                    esPuntuacionAlta = true;
-                }
-            }
+    public boolean actualizarPuntuacionDeModo(String modo, String nombre, int puntaje) {
+        return actualizarPuntuacion(nombre, puntaje, rutaDeModo(modo));
+    }
 
-            if (!esPuntuacionAlta) {
-                return false;
-            }
+    
+    public List<EntradaPuntuacion> obtenerTopDeModo(String modo) {
+        return obtenerTop(rutaDeModo(modo));
+    }
+
+    public static String rutaDeModo(String modo) {
+        if (modo == null || modo.isBlank()) {
+            throw new IllegalArgumentException("El modo no puede ser null o vacío");
+        }
+        if (modo.equals(MODO_POR_DEFECTO)) {
+            return DEFAULT_FILE;
+        }
+        return PREFIJO_ARCHIVO + modo.toLowerCase(Locale.ROOT) + EXTENSION_ARCHIVO;
+    }
 
-            // Añadir, ordenar y recortar a top N
-            oldEntries.add(new EntradaPuntuacion(nombre, puntaje));
-            Collections.sort(oldEntries);
-            List<EntradaPuntuacion> top = oldEntries.subList(0, Math.min(oldEntries.size(), MAX_ENTRIES));
-            guardarEnArchivo(top, rutaArchivo);
-            return true;
+    
+    // Toda partida queda en el registro; devuelve si además entró al top
+    public boolean actualizarPuntuacion(String nombre, int puntaje, String rutaArchivo) {
+        RegistroPuntuaciones tabla;
+        try {
+            tabla = obtenerTabla(rutaArchivo);
         } catch (IOException e) {
-            consola.mostrarError("Error al leer/escribir puntuaciones: " + e.getMessage());
+            avisos.accept("Error al leer/escribir puntuaciones: " + e.getMessage());
             return false;
         }
+
+        boolean esPuntuacionAlta = tabla.registrar(nombre, puntaje);
+
+        // La escritura sale del camino de fin de partida: la hace el hilo de fondo
+        programarGuardado(tabla);
+        return esPuntuacionAlta;
     }
 
     
@@ -62,121 +134,177 @@ public class GestorPuntuaciones implements IGestorPuntuaciones {
     
     public List<EntradaPuntuacion> obtenerTop(String rutaArchivo) {
         try {
-            List<EntradaPuntuacion> all = cargarDesdeArchivo(rutaArchivo);
-            return all.subList(0, Math.min(all.size(), MAX_ENTRIES));
+            return obtenerTabla(rutaArchivo).obtenerTop();
         } catch (IOException e) {
-            consola.mostrarError("No se pudo leer puntuaciones: " + e.getMessage());
+            avisos.accept("No se pudo leer puntuaciones: " + e.getMessage());
             return new ArrayList<>();
         }
     }
 
-    private List<EntradaPuntuacion> cargarDesdeArchivo(String rutaArchivo) throws IOException {
-        Path path = Path.of(rutaArchivo);
-        if (!Files.exists(path)) {
-            // Archivo no existe -> retornar vacío
+    
+    public List<EntradaPuntuacion> obtenerTopDeModo(String modo, PeriodoPuntuaciones periodo) {
+        try {
+            return obtenerTabla(rutaDeModo(modo)).obtenerTop(periodo);
+        } catch (IOException e) {
+            avisos.accept("No se pudo leer puntuaciones: " + e.getMessage());
             return new ArrayList<>();
         }
+    }
 
-        String contenido = Files.readString(path, StandardCharsets.UTF_8).trim();
-        if (contenido.isEmpty()) {
+    
+    public List<EntradaPuntuacion> obtenerTopJugadoresDeModo(String modo) {
+        try {
+            return obtenerTabla(rutaDeModo(modo)).obtenerTopJugadores();
+        } catch (IOException e) {
+            avisos.accept("No se pudo leer puntuaciones: " + e.getMessage());
             return new ArrayList<>();
         }
+    }
 
-        List<EntradaPuntuacion> list = new ArrayList<>();
+    
+    public EntradaPuntuacion obtenerMejorDeJugador(String modo, String nombre) {
+        try {
+            return obtenerTabla(rutaDeModo(modo)).mejorDe(nombre);
+        } catch (IOException e) {
+            avisos.accept("No se pudo leer puntuaciones: " + e.getMessage());
+            return null;
+        }
+    }
+
+    
+    public PosicionRanking obtenerPosicion(int puntaje) {
+        return obtenerPosicion(puntaje, DEFAULT_FILE);
+    }
+
+    
+    public PosicionRanking obtenerPosicionDeModo(String modo, int puntaje) {
+        return obtenerPosicion(puntaje, rutaDeModo(modo));
+    }
+
+    
+    public PosicionRanking obtenerPosicion(int puntaje, String rutaArchivo) {
         try {
-            String body = contenido;
-            if (body.startsWith("[") && body.endsWith("]")) {
-                body = body.substring(1, body.length() - 1).trim();
+            return obtenerTabla(rutaArchivo).posicionDe(puntaje);
+        } catch (IOException e) {
+            avisos.accept("No se pudo leer puntuaciones: " + e.getMessage());
+            return new PosicionRanking(puntaje, 1, 0, 0);
+        }
+    }
+
+    
+    // Historial completo del modo, mapeado desde el .bin: top y posiciones sobre todas las partidas
+    // sin cargarlas. Llega hasta la última compactación; null si el gestor no lleva historial
+    public TablaPuntuacionesBinaria obtenerHistorialDeModo(String modo) {
+        try {
+            return obtenerTabla(rutaDeModo(modo)).obtenerHistorial();
+        } catch (IOException e) {
+            avisos.accept("No se pudo leer puntuaciones: " + e.getMessage());
+            return null;
+        }
+    }
+
+    
+    // Escribe ya mismo todo lo pendiente; se llama desde el gancho de apagado de la JVM
+    public void guardarPendientes() {
+        for (RegistroPuntuaciones tabla : tablas.values()) {
+            try {
+                tabla.volcar();
+            } catch (IOException e) {
+                avisos.accept("Error al leer/escribir puntuaciones: " + e.getMessage());
             }
-            if (body.isEmpty()) return list;
-
-            // Reemplazar separador estándar '},{' por un separador único y dividir
-            String normalized = body.replace("},{", "}||{");
-            String[] objetos = normalized.split("\\|\\|");
-            for (String obj : objetos) {
-                String o = obj.trim();
-                if (!o.startsWith("{")) o = "{" + o;
-                if (!o.endsWith("}")) o = o + "}";
-
-                String nombre = extraerValorString(o, "nombre");
-                int puntaje = extraerValorInt(o, "puntaje");
-                if (nombre != null) {
-                    list.add(new EntradaPuntuacion(nombre, puntaje));
-                }
+        }
+    }
+
+    
+    // Al cerrar se compacta: la próxima sesión arranca leyendo solo la instantánea
+    @Override
+    public void close() {
+        ScheduledExecutorService escritorActual;
+        Thread gancho;
+        synchronized (this) {
+            if (cerrado) {
+                return;
+            }
+            cerrado = true;
+            escritorActual = escritor;
+            gancho = ganchoCierre;
+        }
+        if (escritorActual != null) {
+            escritorActual.shutdown();
+            try {
+                escritorActual.awaitTermination(DEMORA_GUARDADO_MS * 4, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (RegistroPuntuaciones tabla : tablas.values()) {
+            try {
+                tabla.compactar();
+            } catch (IOException e) {
+                avisos.accept("Error al leer/escribir puntuaciones: " + e.getMessage());
+            }
+        }
+        if (gancho != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(gancho);
+            } catch (IllegalStateException e) {
+                // La JVM ya se está apagando: el gancho corre igual
             }
+        }
+    }
 
-        } catch (StringIndexOutOfBoundsException | NumberFormatException e) {
-            // Si falla el parseo, devolver lista vacía para no romper el flujo
-            return new ArrayList<>();
+    private RegistroPuntuaciones obtenerTabla(String rutaArchivo) throws IOException {
+        RegistroPuntuaciones tabla = tablas.get(rutaArchivo);
+        if (tabla != null) {
+            return tabla;
         }
+        RegistroPuntuaciones nueva = RegistroPuntuaciones.abrir(rutaArchivo, capacidad, reloj, conHistorial, avisos);
+        RegistroPuntuaciones existente = tablas.putIfAbsent(rutaArchivo, nueva);
+        return existente != null ? existente : nueva;
+    }
 
-        Collections.sort(list);
-        return list;
-    }
-
-    private void guardarEnArchivo(List<EntradaPuntuacion> entries, String rutaArchivo) throws IOException {
-        StringBuilder sb = new StringBuilder();
-        sb.append("[");
-        boolean first = true;
-        for (EntradaPuntuacion e : entries) {
-            if (!first) sb.append(",");
-            first = false;
-            sb.append("{\"nombre\":\"").append(escape(e.getNombre())).append("\",\"puntaje\":").append(e.getPuntaje()).append("}");
-        }
-        sb.append("]");
-
-        Files.writeString(Path.of(rutaArchivo), sb.toString(), StandardCharsets.UTF_8);
-    }
-
-    private String escape(String s) {
-        return s.replace("\\", "\\\\").replace("\"", "\\\"");
-    }
-
-    private String extraerValorString(String json, String key) {
-        String keyQuoted = "\"" + key + "\"";
-        int idx = json.indexOf(keyQuoted);
-        if (idx == -1) return null;
-        int colon = json.indexOf(':', idx + keyQuoted.length());
-        if (colon == -1) return null;
-        int startQuote = json.indexOf('"', colon + 1);
-        if (startQuote == -1) return null;
-        int endQuote = -1;
-        int i = startQuote + 1;
-        while (i < json.length()) {
-            if (json.charAt(i) == '"') {
-                // Count preceding backslashes
-                int backslashCount = 0;
-                int j = i - 1;
-                while (j >= startQuote + 1 && json.charAt(j) == '\\') {
-                    backslashCount++;
-                    j--;
-                }
-                if (backslashCount % 2 == 0) {
-                    endQuote = i;
-                    break;
-                }
-            }
-            i++;
-        }
-        if (endQuote == -1) return null;
-        return json.substring(startQuote + 1, endQuote);
-    }
-
-    private int extraerValorInt(String json, String key) {
-        String keyQuoted = "\"" + key + "\"";
-        int idx = json.indexOf(keyQuoted);
-        if (idx == -1) return 0;
-        int colon = json.indexOf(':', idx + keyQuoted.length());
-        if (colon == -1) return 0;
-        int start = colon + 1;
-        // saltar espacios
-        while (start < json.length() && Character.isWhitespace(json.charAt(start))) start++;
-        int end = start;
-        while (end < json.length() && (Character.isDigit(json.charAt(end)) || json.charAt(end) == '-')) end++;
+    private void programarGuardado(RegistroPuntuaciones tabla) {
+        if (!tabla.guardadoProgramado.compareAndSet(false, true)) {
+            return; // Ya hay un guardado en camino que incluirá este cambio
+        }
+        ScheduledExecutorService ejecutor = obtenerEscritor();
+        if (ejecutor == null) {
+            // Gestor cerrado: se guarda en el momento
+            tabla.guardadoProgramado.set(false);
+            guardar(tabla);
+            return;
+        }
+        ejecutor.schedule(() -> {
+            tabla.guardadoProgramado.set(false);
+            guardar(tabla);
+        }, DEMORA_GUARDADO_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized ScheduledExecutorService obtenerEscritor() {
+        if (cerrado) {
+            return null;
+        }
+        if (escritor == null) {
+            escritor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread hilo = new Thread(r, "guardado-puntuaciones");
+                hilo.setDaemon(true);
+                return hilo;
+            });
+            ganchoCierre = new Thread(this::guardarPendientes, "guardado-puntuaciones-cierre");
+            Runtime.getRuntime().addShutdownHook(ganchoCierre);
+        }
+        return escritor;
+    }
+
+    // Vuelca al registro y, si ya se acumularon muchas partidas, compacta en el mismo hilo de fondo
+    private void guardar(RegistroPuntuaciones tabla) {
         try {
-            return Integer.parseInt(json.substring(start, end));
-        } catch (NumberFormatException e) {
-            return 0;
+            tabla.volcar();
+            if (tabla.necesitaCompactar()) {
+                tabla.compactar();
+            }
+        } catch (IOException e) {
+            avisos.accept("Error al leer/escribir puntuaciones: " + e.getMessage());
         }
     }
 }
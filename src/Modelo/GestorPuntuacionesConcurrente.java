@@ -0,0 +1,234 @@
+package Modelo;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Tablas de puntuaciones en memoria para muchos hilos terminando partidas a la vez (servidor,
+// simulaciones). No escribe a disco: para eso está GestorPuntuaciones.
+//
+// Cada modo tiene su propio tablero, y dentro de él cada vista (histórico, hoy, semana, jugadores)
+// tiene su propio bloqueo. En el camino común, una partida que no entra en ningún top, solo se
+// leen umbrales volatile y se suma al histograma atómico: ningún hilo espera a otro.
+public class GestorPuntuacionesConcurrente implements IGestorPuntuaciones {
+
+    // ================ CONSTANTES ================
+    private static final String MODO_POR_DEFECTO = "SOLO";
+    private static final int MAX_ENTRIES = 5;
+
+    // ================ ATRIBUTOS ================
+    private final int capacidad;
+    private final int puntajeMaximo;
+    private final Clock reloj;
+    private final Map<String, Tablero> tableros = new ConcurrentHashMap<>();
+    // Último día calculado, para no convertir fecha -> día de calendario en cada partida
+    private volatile Dia ultimoDia = new Dia(Long.MIN_VALUE, 0, 0);
+
+    // ================ CONSTRUCTORES ================
+    public GestorPuntuacionesConcurrente() {
+        this(MAX_ENTRIES);
+    }
+
+    public GestorPuntuacionesConcurrente(int capacidad) {
+        this(capacidad, ConteoPuntajesConcurrente.PUNTAJE_MAXIMO_POR_DEFECTO, Clock.systemDefaultZone());
+    }
+
+    // 'puntajeMaximo' acota el histograma de posiciones: por encima, los puntajes empatan
+    public GestorPuntuacionesConcurrente(int capacidad, int puntajeMaximo, Clock reloj) {
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("La capacidad de la tabla debe ser positiva: " + capacidad);
+        }
+        this.capacidad = capacidad;
+        this.puntajeMaximo = puntajeMaximo;
+        this.reloj = reloj;
+    }
+
+    // ================ IGestorPuntuaciones ================
+    @Override
+    public boolean actualizarPuntuacion(String nombre, int puntaje) {
+        return actualizarPuntuacionDeModo(MODO_POR_DEFECTO, nombre, puntaje);
+    }
+
+    @Override
+    public List<EntradaPuntuacion> obtenerTop() {
+        return obtenerTopDeModo(MODO_POR_DEFECTO);
+    }
+
+    @Override
+    public boolean actualizarPuntuacionDeModo(String modo, String nombre, int puntaje) {
+        return tablero(modo).registrar(new EntradaPuntuacion(nombre, puntaje, reloj.millis()));
+    }
+
+    @Override
+    public List<EntradaPuntuacion> obtenerTopDeModo(String modo) {
+        return tablero(modo).historico.ordenadas();
+    }
+
+    @Override
+    public List<EntradaPuntuacion> obtenerTopDeModo(String modo, PeriodoPuntuaciones periodo) {
+        Tablero tablero = tablero(modo);
+        return switch (periodo) {
+            case HOY -> tablero.hoy.top(diaActual());
+            case SEMANA -> tablero.semana.top(diaActual());
+            case HISTORICO -> tablero.historico.ordenadas();
+        };
+    }
+
+    @Override
+    public List<EntradaPuntuacion> obtenerTopJugadoresDeModo(String modo) {
+        Tablero tablero = tablero(modo);
+        synchronized (tablero.jugadores) {
+            return tablero.jugadores.top(capacidad);
+        }
+    }
+
+    @Override
+    public EntradaPuntuacion obtenerMejorDeJugador(String modo, String nombre) {
+        Tablero tablero = tablero(modo);
+        synchronized (tablero.jugadores) {
+            return tablero.jugadores.mejorDe(nombre);
+        }
+    }
+
+    @Override
+    public PosicionRanking obtenerPosicion(int puntaje) {
+        return obtenerPosicionDeModo(MODO_POR_DEFECTO, puntaje);
+    }
+
+    @Override
+    public PosicionRanking obtenerPosicionDeModo(String modo, int puntaje) {
+        ConteoPuntajesConcurrente histograma = tablero(modo).histograma;
+        return new PosicionRanking(puntaje, histograma.contarMayoresQue(puntaje) + 1,
+                histograma.getTotal(), histograma.contarMenoresQue(puntaje));
+    }
+
+    @Override
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    // ================ TABLEROS ================
+    private Tablero tablero(String modo) {
+        if (modo == null || modo.isBlank()) {
+            throw new IllegalArgumentException("El modo no puede ser null o vacío");
+        }
+        return tableros.computeIfAbsent(modo, m -> new Tablero());
+    }
+
+    private long diaActual() {
+        return dia(reloj.millis());
+    }
+
+    private long dia(long fecha) {
+        Dia cache = ultimoDia;
+        if (fecha >= cache.desde && fecha < cache.hasta) {
+            return cache.numero;
+        }
+        ZoneId zona = reloj.getZone();
+        LocalDate fechaLocal = LocalDate.ofInstant(Instant.ofEpochMilli(fecha), zona);
+        long desde = fechaLocal.atStartOfDay(zona).toInstant().toEpochMilli();
+        long hasta = fechaLocal.plusDays(1).atStartOfDay(zona).toInstant().toEpochMilli();
+        ultimoDia = new Dia(fechaLocal.toEpochDay(), desde, hasta);
+        return fechaLocal.toEpochDay();
+    }
+
+    private static final class Dia {
+        final long numero;
+        // Intervalo [desde, hasta) en milisegundos
+        final long desde;
+        final long hasta;
+
+        Dia(long numero, long desde, long hasta) {
+            this.numero = numero;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+    }
+
+    private final class Tablero {
+        final TablaTopKConcurrente historico = new TablaTopKConcurrente(capacidad);
+        final VentanaConcurrente hoy = new VentanaConcurrente(PeriodoPuntuaciones.HOY.getDias());
+        final VentanaConcurrente semana = new VentanaConcurrente(PeriodoPuntuaciones.SEMANA.getDias());
+        final ConteoPuntajesConcurrente histograma = new ConteoPuntajesConcurrente(puntajeMaximo);
+        // Guardado por su propio monitor; el mapa de puntajes permite descartar sin tomarlo
+        final IndiceJugadores jugadores = new IndiceJugadores();
+        final Map<String, Integer> mejoresPuntajes = new ConcurrentHashMap<>();
+
+        boolean registrar(EntradaPuntuacion entrada) {
+            histograma.agregar(entrada.getPuntaje());
+            long diaEntrada = dia(entrada.getFecha());
+            hoy.registrar(entrada, diaEntrada);
+            semana.registrar(entrada, diaEntrada);
+            registrarJugador(entrada);
+            return historico.ofrecer(entrada);
+        }
+
+        private void registrarJugador(EntradaPuntuacion entrada) {
+            String clave = IndiceJugadores.normalizar(entrada.getNombre());
+            Integer mejor = mejoresPuntajes.get(clave);
+            if (mejor != null && entrada.getPuntaje() <= mejor) {
+                return; // No mejora su marca: sin bloqueo
+            }
+            synchronized (jugadores) {
+                if (jugadores.registrar(entrada)) {
+                    mejoresPuntajes.put(clave, entrada.getPuntaje());
+                }
+            }
+        }
+    }
+
+    // Ventana de días con el mismo esquema que TablaTopKConcurrente: se publica, junto con el día
+    // al que corresponde, el umbral del top de ese día y una copia del top de la ventana
+    private final class VentanaConcurrente {
+        private final VentanaPuntuaciones ventana;
+        private volatile Corte corte = new Corte(Long.MIN_VALUE, Integer.MIN_VALUE, List.of());
+
+        VentanaConcurrente(int dias) {
+            this.ventana = new VentanaPuntuaciones(dias, capacidad);
+        }
+
+        void registrar(EntradaPuntuacion entrada, long diaEntrada) {
+            Corte actual = corte;
+            if (actual.dia == diaEntrada && entrada.getPuntaje() <= actual.umbral) {
+                return; // No entra al top de su día, así que tampoco a ninguna ventana
+            }
+            synchronized (this) {
+                long hoy = diaActual();
+                ventana.registrar(entrada, diaEntrada, hoy);
+                publicar(hoy);
+            }
+        }
+
+        List<EntradaPuntuacion> top(long hoy) {
+            Corte actual = corte;
+            if (actual.dia == hoy) {
+                return actual.top;
+            }
+            // Cambió el día: hay que descartar cubetas antes de responder
+            synchronized (this) {
+                publicar(hoy);
+                return corte.top;
+            }
+        }
+
+        private void publicar(long hoy) {
+            corte = new Corte(hoy, ventana.umbralDelDia(hoy), List.copyOf(ventana.top(hoy)));
+        }
+    }
+
+    private static final class Corte {
+        final long dia;
+        final int umbral;
+        final List<EntradaPuntuacion> top;
+
+        Corte(long dia, int umbral, List<EntradaPuntuacion> top) {
+            this.dia = dia;
+            this.umbral = umbral;
+            this.top = top;
+        }
+    }
+}
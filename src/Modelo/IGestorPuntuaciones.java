@@ -9,4 +9,35 @@ public interface IGestorPuntuaciones {
     
     
     List<EntradaPuntuacion> obtenerTop();
+
+    
+    // Una tabla por modo de juego (el nombre del enum ModoJuego)
+    boolean actualizarPuntuacionDeModo(String modo, String nombre, int puntaje);
+
+    
+    List<EntradaPuntuacion> obtenerTopDeModo(String modo);
+
+    
+    // Top de las partidas de hoy, de los últimos 7 días o de siempre
+    List<EntradaPuntuacion> obtenerTopDeModo(String modo, PeriodoPuntuaciones periodo);
+
+    
+    // Igual que obtenerTopDeModo pero con una sola entrada (la mejor) por jugador
+    List<EntradaPuntuacion> obtenerTopJugadoresDeModo(String modo);
+
+    
+    // Mejor entrada de un jugador en el modo, o null si nunca jugó; el nombre se compara sin
+    // mayúsculas, tildes ni espacios de más
+    EntradaPuntuacion obtenerMejorDeJugador(String modo, String nombre);
+
+    
+    // Puesto de un puntaje entre todas las partidas registradas (SOLO por defecto)
+    PosicionRanking obtenerPosicion(int puntaje);
+
+    
+    PosicionRanking obtenerPosicionDeModo(String modo, int puntaje);
+
+    
+    // K: cuántas entradas conserva cada tabla
+    int getCapacidad();
 }
@@ -0,0 +1,110 @@
+package Modelo;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+// Mejor entrada de cada jugador, por nombre normalizado ("Morena" y " morena" son la misma persona).
+// El mapa responde por nombre en O(1); el árbol ordenado da la tabla sin repetidos leyendo solo
+// sus primeras K entradas, y una mejora cuesta O(log J) con J jugadores distintos.
+final class IndiceJugadores {
+
+    // ================ CONSTANTES ================
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+
+    // Mayor puntaje primero; entre empates, el que lo logró antes
+    private static final Comparator<Mejor> ORDEN = Comparator
+            .comparingInt((Mejor m) -> -m.entrada.getPuntaje())
+            .thenComparingLong(m -> m.llegada);
+
+    // ================ ATRIBUTOS ================
+    private final Map<String, Mejor> porNombre = new HashMap<>();
+    private final TreeSet<Mejor> ordenados = new TreeSet<>(ORDEN);
+    private long proximaLlegada;
+
+    private static final class Mejor {
+        final EntradaPuntuacion entrada;
+        final long llegada;
+
+        Mejor(EntradaPuntuacion entrada, long llegada) {
+            this.entrada = entrada;
+            this.llegada = llegada;
+        }
+    }
+
+    // ================ MODIFICACIÓN ================
+    // Devuelve true si la entrada es la nueva mejor marca del jugador
+    boolean registrar(EntradaPuntuacion entrada) {
+        String clave = normalizar(entrada.getNombre());
+        Mejor actual = porNombre.get(clave);
+        if (actual != null && entrada.getPuntaje() <= actual.entrada.getPuntaje()) {
+            return false;
+        }
+        Mejor nuevo = new Mejor(entrada, proximaLlegada++);
+        if (actual != null) {
+            ordenados.remove(actual);
+        }
+        porNombre.put(clave, nuevo);
+        ordenados.add(nuevo);
+        return true;
+    }
+
+    // ================ CONSULTAS ================
+    EntradaPuntuacion mejorDe(String nombre) {
+        Mejor mejor = porNombre.get(normalizar(nombre));
+        return mejor != null ? mejor.entrada : null;
+    }
+
+    int getCantidadJugadores() {
+        return porNombre.size();
+    }
+
+    // Las primeras 'cantidad' entradas, una por jugador
+    List<EntradaPuntuacion> top(int cantidad) {
+        List<EntradaPuntuacion> resultado = new ArrayList<>(Math.min(cantidad, ordenados.size()));
+        Iterator<Mejor> it = ordenados.iterator();
+        while (resultado.size() < cantidad && it.hasNext()) {
+            resultado.add(it.next().entrada);
+        }
+        return resultado;
+    }
+
+    List<EntradaPuntuacion> todos() {
+        return top(ordenados.size());
+    }
+
+    // Sin espacios de más, sin mayúsculas ni tildes
+    static String normalizar(String nombre) {
+        if (yaNormalizado(nombre)) {
+            return nombre; // Caso común: se evita Normalizer y las expresiones regulares
+        }
+        String sinTildes = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(nombre.strip(), Normalizer.Form.NFD)).replaceAll("");
+        return ESPACIOS.matcher(sinTildes).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    // ASCII en minúsculas, sin espacios al borde ni repetidos
+    private static boolean yaNormalizado(String nombre) {
+        int largo = nombre.length();
+        if (largo == 0) {
+            return true;
+        }
+        if (nombre.charAt(0) == ' ' || nombre.charAt(largo - 1) == ' ') {
+            return false;
+        }
+        for (int i = 0; i < largo; i++) {
+            char c = nombre.charAt(i);
+            if (c > '~' || (c < ' ') || (c >= 'A' && c <= 'Z') || (c == ' ' && nombre.charAt(i - 1) == ' ')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,20 @@
+package Modelo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Estado materializado que escribe la compactación: qué parte del registro ya está incluida,
+// el top K, el mejor puntaje de cada jugador, cuántas partidas hubo con cada puntaje y las
+// entradas de los últimos días que alimentan las tablas por período
+final class InstantaneaPuntuaciones {
+
+    // Generación del registro al que se refiere 'desplazamiento'
+    long generacion;
+    // Bytes de ese registro ya incluidos en la instantánea
+    long desplazamiento;
+
+    final List<EntradaPuntuacion> top = new ArrayList<>();
+    final List<EntradaPuntuacion> jugadores = new ArrayList<>();
+    final ConteoPuntajes histograma = new ConteoPuntajes();
+    final List<EntradaPuntuacion> recientes = new ArrayList<>();
+}
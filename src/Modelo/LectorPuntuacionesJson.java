@@ -0,0 +1,484 @@
+package Modelo;
+
+import Exceptions.PuntuacionesCorruptasException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Lee una lista JSON de puntuaciones en una sola pasada, carácter a carácter, sin cargar el
+// archivo entero ni recortar subcadenas. Las claves desconocidas se saltan.
+public final class LectorPuntuacionesJson implements Closeable {
+
+    // ================ CONSTANTES ================
+    private static final int TAMANIO_BUFFER = 8192;
+    private static final int FIN = -1;
+
+    private static final String CLAVE_NOMBRE = "nombre";
+    private static final String CLAVE_PUNTAJE = "puntaje";
+    private static final String CLAVE_FECHA = "fecha";
+
+    // Claves de la instantánea que produce la compactación del registro
+    private static final String CLAVE_GENERACION = "generacion";
+    private static final String CLAVE_DESPLAZAMIENTO = "desplazamiento";
+    private static final String CLAVE_TOP = "top";
+    private static final String CLAVE_JUGADORES = "jugadores";
+    private static final String CLAVE_HISTOGRAMA = "histograma";
+    private static final String CLAVE_RECIENTES = "recientes";
+
+    // ================ ATRIBUTOS ================
+    private final Reader lector;
+    private final ByteBuffer bytes;
+    private final CharsetDecoder decodificador;
+
+    private final char[] buffer = new char[TAMANIO_BUFFER];
+    private int posicion;
+    private int limite;
+    private long consumidos;
+    private int ultimo = FIN;
+    // En el registro cada línea es un objeto: el salto de línea deja de ser un espacio cualquiera
+    private boolean lineasSignificativas;
+
+    // Reutilizado para claves y valores de texto
+    private final StringBuilder texto = new StringBuilder(32);
+
+    // ================ CONSTRUCTORES ================
+    public LectorPuntuacionesJson(Reader lector) {
+        this.lector = lector;
+        this.bytes = null;
+        this.decodificador = null;
+    }
+
+    public LectorPuntuacionesJson(ByteBuffer bytes) {
+        this.lector = null;
+        this.bytes = bytes;
+        this.decodificador = StandardCharsets.UTF_8.newDecoder();
+    }
+
+    // ================ LECTURA ================
+    public static List<EntradaPuntuacion> leer(Path ruta) throws IOException {
+        try (LectorPuntuacionesJson lector = new LectorPuntuacionesJson(Files.newBufferedReader(ruta, StandardCharsets.UTF_8))) {
+            return lector.leerTodas();
+        }
+    }
+
+    public List<EntradaPuntuacion> leerTodas() throws IOException {
+        List<EntradaPuntuacion> entradas = new ArrayList<>();
+        leer(entradas::add);
+        return entradas;
+    }
+
+    // Entrega cada entrada apenas se termina de leer su objeto
+    public void leer(Consumer<EntradaPuntuacion> destino) throws IOException {
+        int c = siguienteSignificativo();
+        if (c == FIN) {
+            return; // Archivo vacío: tabla vacía
+        }
+        if (c != '[') {
+            throw error("se esperaba '['");
+        }
+        leerLista(destino);
+        verificarFin();
+    }
+
+    // Un objeto por línea, como en el registro de puntuaciones. Una línea ilegible (por ejemplo la
+    // última, cortada por una caída) se descarta sin perder las siguientes. Devuelve cuántas se descartaron
+    public int leerRegistros(Consumer<EntradaPuntuacion> destino) throws IOException {
+        int descartadas = 0;
+        lineasSignificativas = true;
+        while (true) {
+            int c = siguienteSignificativo();
+            if (c == FIN) {
+                return descartadas;
+            }
+            if (c == '\n') {
+                continue;
+            }
+            try {
+                if (c != '{') {
+                    throw error("se esperaba '{'");
+                }
+                EntradaPuntuacion entrada = leerObjeto();
+                int fin = siguienteSignificativo();
+                if (fin != '\n' && fin != FIN) {
+                    throw error("contenido después del registro");
+                }
+                if (entrada != null) {
+                    destino.accept(entrada);
+                }
+            } catch (PuntuacionesCorruptasException e) {
+                descartadas++;
+                saltarLinea();
+            }
+        }
+    }
+
+    // Acepta también el formato anterior (solo la lista del top) como instantánea de generación 0
+    InstantaneaPuntuaciones leerInstantanea() throws IOException {
+        InstantaneaPuntuaciones instantanea = new InstantaneaPuntuaciones();
+        int c = siguienteSignificativo();
+        if (c == FIN) {
+            return instantanea;
+        }
+        if (c == '[') {
+            leerLista(instantanea.top::add);
+            verificarFin();
+            completarHistograma(instantanea);
+            return instantanea;
+        }
+        if (c != '{') {
+            throw error("se esperaba '[' o '{'");
+        }
+        boolean conHistograma = false;
+        c = siguienteSignificativo();
+        while (c != '}') {
+            if (c != '"') {
+                throw error("se esperaba una clave");
+            }
+            leerTexto();
+            esperar(':');
+            if (textoEs(CLAVE_GENERACION)) {
+                instantanea.generacion = leerLargo(siguienteSignificativo(), 0, Long.MAX_VALUE);
+            } else if (textoEs(CLAVE_DESPLAZAMIENTO)) {
+                instantanea.desplazamiento = leerLargo(siguienteSignificativo(), 0, Long.MAX_VALUE);
+            } else if (textoEs(CLAVE_TOP)) {
+                esperar('[');
+                leerLista(instantanea.top::add);
+            } else if (textoEs(CLAVE_JUGADORES)) {
+                esperar('[');
+                leerLista(instantanea.jugadores::add);
+            } else if (textoEs(CLAVE_HISTOGRAMA)) {
+                esperar('[');
+                leerHistograma(instantanea.histograma);
+                conHistograma = true;
+            } else if (textoEs(CLAVE_RECIENTES)) {
+                esperar('[');
+                leerLista(instantanea.recientes::add);
+            } else {
+                saltarValor(siguienteSignificativo());
+            }
+            c = siguienteSignificativo();
+            if (c == ',') {
+                c = siguienteSignificativo();
+            } else if (c != '}') {
+                throw error("se esperaba ',' o '}'");
+            }
+        }
+        verificarFin();
+        if (!conHistograma) {
+            completarHistograma(instantanea);
+        }
+        return instantanea;
+    }
+
+    // Formatos anteriores no guardaban el histograma: lo único conocido son las partidas del top
+    private static void completarHistograma(InstantaneaPuntuaciones instantanea) {
+        for (EntradaPuntuacion entrada : instantanea.top) {
+            instantanea.histograma.agregar(entrada.getPuntaje(), 1);
+        }
+    }
+
+    // Pares [puntaje, cantidad]; se llama con '[' ya consumido
+    private void leerHistograma(ConteoPuntajes histograma) throws IOException {
+        int c = siguienteSignificativo();
+        if (c == ']') {
+            return;
+        }
+        while (true) {
+            if (c != '[') {
+                throw error("se esperaba '['");
+            }
+            int puntaje = (int) leerLargo(siguienteSignificativo(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+            esperar(',');
+            long cantidad = leerLargo(siguienteSignificativo(), 0, Long.MAX_VALUE);
+            esperar(']');
+            histograma.agregar(puntaje, cantidad);
+            c = siguienteSignificativo();
+            if (c == ']') {
+                return;
+            }
+            if (c != ',') {
+                throw error("se esperaba ',' o ']'");
+            }
+            c = siguienteSignificativo();
+        }
+    }
+
+    // Se llama con '[' ya consumido
+    private void leerLista(Consumer<EntradaPuntuacion> destino) throws IOException {
+        int c = siguienteSignificativo();
+        if (c == ']') {
+            return;
+        }
+        while (true) {
+            if (c != '{') {
+                throw error("se esperaba '{'");
+            }
+            EntradaPuntuacion entrada = leerObjeto();
+            if (entrada != null) {
+                destino.accept(entrada);
+            }
+            c = siguienteSignificativo();
+            if (c == ']') {
+                return;
+            }
+            if (c != ',') {
+                throw error("se esperaba ',' o ']'");
+            }
+            c = siguienteSignificativo();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (lector != null) {
+            lector.close();
+        }
+    }
+
+    // ================ OBJETOS ================
+    // Se llama con '{' ya consumido
+    private EntradaPuntuacion leerObjeto() throws IOException {
+        String nombre = null;
+        int puntaje = 0;
+        long fecha = EntradaPuntuacion.SIN_FECHA;
+
+        int c = siguienteSignificativo();
+        if (c == '}') {
+            return null;
+        }
+        while (true) {
+            if (c != '"') {
+                throw error("se esperaba una clave");
+            }
+            leerTexto();
+            esperar(':');
+            if (textoEs(CLAVE_NOMBRE)) {
+                esperar('"');
+                leerTexto();
+                nombre = texto.toString();
+            } else if (textoEs(CLAVE_PUNTAJE)) {
+                puntaje = (int) leerLargo(siguienteSignificativo(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+            } else if (textoEs(CLAVE_FECHA)) {
+                fecha = leerLargo(siguienteSignificativo(), Long.MIN_VALUE, Long.MAX_VALUE);
+            } else {
+                saltarValor(siguienteSignificativo());
+            }
+            c = siguienteSignificativo();
+            if (c == '}') {
+                break;
+            }
+            if (c != ',') {
+                throw error("se esperaba ',' o '}'");
+            }
+            c = siguienteSignificativo();
+        }
+        // Igual que el formato anterior: un objeto sin nombre no es una entrada
+        return nombre != null ? new EntradaPuntuacion(nombre, puntaje, fecha) : null;
+    }
+
+    private void saltarValor(int c) throws IOException {
+        switch (c) {
+            case '"' -> leerTexto();
+            case '{', '[' -> saltarAnidado(c);
+            case FIN -> throw error("fin de archivo inesperado");
+            default -> {
+                // Número o literal: hasta el próximo delimitador
+                while (!esDelimitador(verSiguiente())) {
+                    siguiente();
+                }
+            }
+        }
+    }
+
+    private void saltarAnidado(int apertura) throws IOException {
+        int profundidad = 1;
+        while (profundidad > 0) {
+            int c = siguiente();
+            switch (c) {
+                case FIN -> throw error("fin de archivo inesperado");
+                case '\n' -> {
+                    if (lineasSignificativas) {
+                        throw error("fin de línea inesperado");
+                    }
+                }
+                case '"' -> leerTexto();
+                case '{', '[' -> profundidad++;
+                case '}', ']' -> profundidad--;
+                default -> {
+                }
+            }
+        }
+    }
+
+    // ================ VALORES ================
+    // Se llama con la comilla de apertura ya consumida; deja el contenido en 'texto'
+    private void leerTexto() throws IOException {
+        texto.setLength(0);
+        while (true) {
+            int c = siguiente();
+            if (c == '"') {
+                return;
+            }
+            if (c == FIN || c == '\n' || c == '\r') {
+                throw error("texto sin cerrar");
+            }
+            if (c == '\\') {
+                texto.append(leerEscape());
+            } else {
+                texto.append((char) c);
+            }
+        }
+    }
+
+    private char leerEscape() throws IOException {
+        int c = siguiente();
+        return switch (c) {
+            case '"', '\\', '/' -> (char) c;
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> {
+                int valor = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digito = Character.digit(siguiente(), 16);
+                    if (digito < 0) {
+                        throw error("escape unicode inválido");
+                    }
+                    valor = (valor << 4) | digito;
+                }
+                yield (char) valor;
+            }
+            default -> throw error("escape inválido");
+        };
+    }
+
+    private long leerLargo(int c, long minimo, long maximo) throws IOException {
+        boolean negativo = c == '-';
+        if (negativo) {
+            c = siguiente();
+        }
+        if (c < '0' || c > '9') {
+            throw error("se esperaba un número");
+        }
+        // Se acumula en negativo para poder representar Long.MIN_VALUE
+        long valor = 0;
+        while (true) {
+            if (valor < (Long.MIN_VALUE + (c - '0')) / 10) {
+                throw error("número fuera de rango");
+            }
+            valor = valor * 10 - (c - '0');
+            int proximo = verSiguiente();
+            if (proximo < '0' || proximo > '9') {
+                break;
+            }
+            c = siguiente();
+        }
+        if (!esDelimitador(verSiguiente())) {
+            throw error("número inválido");
+        }
+        if (!negativo) {
+            if (valor == Long.MIN_VALUE) {
+                throw error("número fuera de rango");
+            }
+            valor = -valor;
+        }
+        if (valor < minimo || valor > maximo) {
+            throw error("número fuera de rango");
+        }
+        return valor;
+    }
+
+    private boolean textoEs(String clave) {
+        return texto.length() == clave.length() && clave.contentEquals(texto);
+    }
+
+    // ================ LÉXICO ================
+    private void esperar(char esperado) throws IOException {
+        if (siguienteSignificativo() != esperado) {
+            throw error("se esperaba '" + esperado + "'");
+        }
+    }
+
+    private void verificarFin() throws IOException {
+        if (siguienteSignificativo() != FIN) {
+            throw error("contenido después de la lista");
+        }
+    }
+
+    private static boolean esDelimitador(int c) {
+        return c == FIN || c == ',' || c == '}' || c == ']' || Character.isWhitespace(c);
+    }
+
+    private void saltarLinea() throws IOException {
+        int c = ultimo;
+        while (c != FIN && c != '\n') {
+            c = siguiente();
+        }
+    }
+
+    private int siguienteSignificativo() throws IOException {
+        int c;
+        do {
+            c = siguiente();
+        } while (c != FIN && Character.isWhitespace(c) && !(lineasSignificativas && c == '\n'));
+        return c;
+    }
+
+    private int siguiente() throws IOException {
+        if (posicion == limite && !rellenar()) {
+            ultimo = FIN;
+            return FIN;
+        }
+        consumidos++;
+        ultimo = buffer[posicion++];
+        return ultimo;
+    }
+
+    private int verSiguiente() throws IOException {
+        if (posicion == limite && !rellenar()) {
+            return FIN;
+        }
+        return buffer[posicion];
+    }
+
+    private boolean rellenar() throws IOException {
+        posicion = 0;
+        limite = 0;
+        int leidos;
+        if (lector != null) {
+            leidos = lector.read(buffer, 0, buffer.length);
+        } else {
+            CharBuffer destino = CharBuffer.wrap(buffer);
+            CoderResult resultado = decodificador.decode(bytes, destino, true);
+            if (resultado.isError()) {
+                throw error("UTF-8 inválido");
+            }
+            if (destino.position() == 0) {
+                decodificador.flush(destino);
+            }
+            leidos = destino.position() == 0 ? FIN : destino.position();
+        }
+        if (leidos <= 0) {
+            return false;
+        }
+        limite = leidos;
+        return true;
+    }
+
+    private PuntuacionesCorruptasException error(String detalle) {
+        return new PuntuacionesCorruptasException("Puntuaciones con formato inválido (carácter " + consumidos + "): " + detalle + ".");
+    }
+}
@@ -0,0 +1,28 @@
+package Modelo;
+
+// Ventanas de tiempo de las tablas de puntuaciones, en días de calendario
+public enum PeriodoPuntuaciones {
+    HOY(1),
+    SEMANA(7),
+    HISTORICO(0);
+
+    private final int dias;
+
+    PeriodoPuntuaciones(int dias) {
+        this.dias = dias;
+    }
+
+    // 0 para el histórico, que no tiene ventana
+    public int getDias() {
+        return dias;
+    }
+
+    @Override
+    public String toString() {
+        return switch (this) {
+            case HOY -> "Hoy";
+            case SEMANA -> "Últimos 7 días";
+            case HISTORICO -> "Histórico";
+        };
+    }
+}
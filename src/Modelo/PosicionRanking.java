@@ -0,0 +1,40 @@
+package Modelo;
+
+// Dónde queda un puntaje entre todas las partidas registradas de un modo
+public class PosicionRanking {
+    private final int puntaje;
+    private final long posicion;
+    private final long total;
+    private final long superados;
+
+    public PosicionRanking(int puntaje, long posicion, long total, long superados) {
+        this.puntaje = puntaje;
+        this.posicion = posicion;
+        this.total = total;
+        this.superados = superados;
+    }
+
+    public int getPuntaje() {
+        return puntaje;
+    }
+
+    // 1 + partidas con puntaje estrictamente mayor: los empates comparten puesto.
+    // Para un puntaje que no se registró es el puesto que ocuparía
+    public long getPosicion() {
+        return posicion;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    // Porcentaje de partidas registradas con puntaje menor
+    public double getPercentil() {
+        return total == 0 ? 0.0 : 100.0 * superados / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("#%d de %d (mejor que el %.1f%% de las partidas)", posicion, total, getPercentil());
+    }
+}
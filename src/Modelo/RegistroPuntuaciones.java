@@ -0,0 +1,605 @@
+package Modelo;
+
+import Exceptions.PuntuacionesCorruptasException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// Una tabla de puntuaciones en disco: la instantánea compactada (el .json de siempre) más un registro
+// de solo-agregado (.log) con cada partida terminada después de ella. Registrar una partida agrega
+// una línea; reescribir la tabla queda para la compactación, que se hace de a muchas partidas.
+//
+// El registro empieza con una cabecera de generación. La instantánea anota qué generación y cuántos
+// bytes de ella incluye, así al arrancar solo se relee la cola, y una caída a mitad de la rotación
+// no duplica ni pierde partidas.
+//
+// Varios procesos pueden compartir los archivos. Cada uno recuerda hasta dónde leyó el registro y,
+// en cada volcado, aplica primero lo que los demás agregaron después: las partidas ajenas se ven
+// con la demora del guardado diferido. Un proceso que solo consulta no se entera hasta su próximo
+// volcado (GestorPuntuaciones.guardarPendientes lo fuerza).
+//
+// Opcionalmente cada compactación también pliega la cola en un historial binario (.bin) con todas
+// las partidas, ordenado y de registros fijos, que se consulta mapeado en memoria. Con historial,
+// el top histórico y las posiciones salen del archivo mapeado más las partidas posteriores a él.
+final class RegistroPuntuaciones {
+
+    // ================ CONSTANTES ================
+    // Partidas acumuladas en el registro a partir de las que conviene compactar
+    static final int REGISTROS_POR_COMPACTACION = 1024;
+
+    private static final String CABECERA = "DEATHDRAW-REGISTRO ";
+    private static final int LARGO_MAXIMO_CABECERA = 64;
+    private static final String EXTENSION_INSTANTANEA = ".json";
+    private static final String EXTENSION_REGISTRO = ".log";
+    private static final String EXTENSION_HISTORIAL = ".bin";
+
+    // ================ ATRIBUTOS ================
+    private final Path rutaInstantanea;
+    private final Path rutaRegistro;
+    private final Path rutaHistorial; // null si no se lleva historial binario
+    private final int capacidad;
+    private final Consumer<String> avisos;
+    private final Clock reloj;
+
+    // Protegidos por 'this'
+    private Estado estado;
+    private final List<EntradaPuntuacion> pendientes = new ArrayList<>();
+    private int registrosSinCompactar;
+
+    // Hasta dónde del registro están aplicadas las partidas, propias o ajenas. Protegidos por el
+    // bloqueo del archivo
+    private long generacionLeida;
+    private long desplazamientoLeido;
+
+    // Se reemplaza entero en cada compactación; los lectores se quedan con el mapeo que tomaron
+    private volatile TablaPuntuacionesBinaria historial;
+
+    // Protegido por 'this'; null si las consultas se responden solo desde memoria
+    private VistaHistorial vistaHistorial;
+
+    final AtomicBoolean guardadoProgramado = new AtomicBoolean();
+
+    // Top K, mejor entrada por jugador, conteo por puntaje y tablas por período, tal como quedan
+    // al aplicar las partidas en orden
+    private static final class Estado {
+        final TablaTopK top;
+        final IndiceJugadores jugadores = new IndiceJugadores();
+        final ConteoPuntajes histograma = new ConteoPuntajes();
+        final VentanaPuntuaciones hoy;
+        final VentanaPuntuaciones semana;
+        final Clock reloj;
+
+        Estado(int capacidad, Clock reloj) {
+            this.top = new TablaTopK(capacidad);
+            this.hoy = new VentanaPuntuaciones(PeriodoPuntuaciones.HOY.getDias(), capacidad);
+            this.semana = new VentanaPuntuaciones(PeriodoPuntuaciones.SEMANA.getDias(), capacidad);
+            this.reloj = reloj;
+        }
+
+        void cargar(InstantaneaPuntuaciones instantanea) {
+            top.ofrecerTodas(instantanea.top);
+            // Los formatos anteriores no traen la lista de jugadores: se arma con el top
+            for (EntradaPuntuacion entrada : instantanea.jugadores.isEmpty() ? instantanea.top : instantanea.jugadores) {
+                jugadores.registrar(entrada);
+            }
+            histograma.agregarTodo(instantanea.histograma);
+            long diaActual = diaActual();
+            for (EntradaPuntuacion entrada : instantanea.recientes) {
+                registrarEnVentanas(entrada, diaActual);
+            }
+        }
+
+        boolean aplicar(EntradaPuntuacion entrada) {
+            jugadores.registrar(entrada);
+            histograma.agregar(entrada.getPuntaje(), 1);
+            registrarEnVentanas(entrada, diaActual());
+            return top.ofrecer(entrada);
+        }
+
+        List<EntradaPuntuacion> top(PeriodoPuntuaciones periodo) {
+            return switch (periodo) {
+                case HOY -> hoy.top(diaActual());
+                case SEMANA -> semana.top(diaActual());
+                case HISTORICO -> top.ordenadas();
+            };
+        }
+
+        private void registrarEnVentanas(EntradaPuntuacion entrada, long diaActual) {
+            if (!entrada.tieneFecha()) {
+                return; // Entradas de antes de que se guardara la fecha: solo cuentan en el histórico
+            }
+            long dia = dia(entrada.getFecha());
+            hoy.registrar(entrada, dia, diaActual);
+            semana.registrar(entrada, dia, diaActual);
+        }
+
+        private long diaActual() {
+            return dia(reloj.millis());
+        }
+
+        // Día de calendario en la zona del reloj, como días desde la época
+        private long dia(long fecha) {
+            return LocalDate.ofInstant(Instant.ofEpochMilli(fecha), reloj.getZone()).toEpochDay();
+        }
+
+        void aplicarTodas(List<EntradaPuntuacion> entradas) {
+            for (EntradaPuntuacion entrada : entradas) {
+                aplicar(entrada);
+            }
+        }
+
+    }
+
+    // El historial mapeado junto con las partidas que llegaron después de él. Van juntos: una
+    // consulta nunca mezcla un historial nuevo con las partidas posteriores al anterior
+    private static final class VistaHistorial {
+        final TablaPuntuacionesBinaria tabla;
+        final TablaTopK top;
+        final ConteoPuntajes posteriores = new ConteoPuntajes();
+
+        VistaHistorial(TablaPuntuacionesBinaria tabla, int capacidad) {
+            this.tabla = tabla;
+            this.top = new TablaTopK(capacidad);
+        }
+
+        void aplicar(EntradaPuntuacion entrada) {
+            posteriores.agregar(entrada.getPuntaje(), 1);
+            top.ofrecer(entrada);
+        }
+
+        void aplicarTodas(List<EntradaPuntuacion> entradas) {
+            for (EntradaPuntuacion entrada : entradas) {
+                aplicar(entrada);
+            }
+        }
+
+        long getTotal() {
+            return tabla.getCantidad() + posteriores.getTotal();
+        }
+
+        // Las dos listas vienen ordenadas; a igual puntaje van primero las del historial, más antiguas
+        List<EntradaPuntuacion> top(int capacidad) {
+            List<EntradaPuntuacion> archivadas = tabla.top(capacidad);
+            List<EntradaPuntuacion> recientes = top.ordenadas();
+            List<EntradaPuntuacion> resultado = new ArrayList<>(capacidad);
+            int a = 0;
+            int r = 0;
+            while (resultado.size() < capacidad && (a < archivadas.size() || r < recientes.size())) {
+                if (r == recientes.size() || (a < archivadas.size()
+                        && archivadas.get(a).getPuntaje() >= recientes.get(r).getPuntaje())) {
+                    resultado.add(archivadas.get(a++));
+                } else {
+                    resultado.add(recientes.get(r++));
+                }
+            }
+            return resultado;
+        }
+
+        PosicionRanking posicionDe(int puntaje) {
+            long mayores = tabla.contarMayoresQue(puntaje) + posteriores.contarMayoresQue(puntaje);
+            long menores = tabla.contarMenoresQue(puntaje) + posteriores.contarMenoresQue(puntaje);
+            return new PosicionRanking(puntaje, mayores + 1, getTotal(), menores);
+        }
+    }
+
+    // ================ CONSTRUCTOR ================
+    private RegistroPuntuaciones(String rutaArchivo, int capacidad, Clock reloj, boolean conHistorial, Consumer<String> avisos) {
+        this.rutaInstantanea = Path.of(rutaArchivo);
+        String base = rutaArchivo.endsWith(EXTENSION_INSTANTANEA)
+                ? rutaArchivo.substring(0, rutaArchivo.length() - EXTENSION_INSTANTANEA.length())
+                : rutaArchivo;
+        this.rutaRegistro = Path.of(base + EXTENSION_REGISTRO);
+        this.rutaHistorial = conHistorial ? Path.of(base + EXTENSION_HISTORIAL) : null;
+        this.capacidad = capacidad;
+        this.avisos = avisos;
+        this.reloj = reloj;
+        this.estado = new Estado(capacidad, reloj);
+    }
+
+    // Lee la instantánea y vuelve a aplicar solo la cola del registro
+    static RegistroPuntuaciones abrir(String rutaArchivo, int capacidad, Clock reloj, Consumer<String> avisos) throws IOException {
+        return abrir(rutaArchivo, capacidad, reloj, false, avisos);
+    }
+
+    static RegistroPuntuaciones abrir(String rutaArchivo, int capacidad, Clock reloj, boolean conHistorial,
+                                      Consumer<String> avisos) throws IOException {
+        RegistroPuntuaciones registro = new RegistroPuntuaciones(rutaArchivo, capacidad, reloj, conHistorial, avisos);
+        ArchivoSeguro.conBloqueo(registro.rutaInstantanea, () -> {
+            registro.recargar(List.of());
+            return null;
+        });
+        return registro;
+    }
+
+    // ================ CONSULTAS ================
+    synchronized boolean califica(int puntaje) {
+        return estado.top.califica(puntaje);
+    }
+
+    synchronized List<EntradaPuntuacion> obtenerTop() {
+        if (vistaHistorial != null) {
+            return vistaHistorial.top(capacidad);
+        }
+        return estado.top.ordenadas();
+    }
+
+    // Mismo costo para cualquier período: cada uno mantiene su propio top K
+    synchronized List<EntradaPuntuacion> obtenerTop(PeriodoPuntuaciones periodo) {
+        if (periodo == PeriodoPuntuaciones.HISTORICO) {
+            return obtenerTop();
+        }
+        return estado.top(periodo);
+    }
+
+    // Una entrada por jugador, con su mejor marca
+    synchronized List<EntradaPuntuacion> obtenerTopJugadores() {
+        return estado.jugadores.top(capacidad);
+    }
+
+    synchronized EntradaPuntuacion mejorDe(String nombre) {
+        return estado.jugadores.mejorDe(nombre);
+    }
+
+    // Dos consultas al árbol de Fenwick: O(log P) sin importar cuántas partidas haya. Con historial,
+    // dos búsquedas binarias sobre el archivo mapeado más el árbol de las partidas posteriores
+    synchronized PosicionRanking posicionDe(int puntaje) {
+        if (vistaHistorial != null) {
+            return vistaHistorial.posicionDe(puntaje);
+        }
+        ConteoPuntajes histograma = estado.histograma;
+        long mayores = histograma.contarMayoresQue(puntaje);
+        return new PosicionRanking(puntaje, mayores + 1, histograma.getTotal(), histograma.contarMenoresQue(puntaje));
+    }
+
+    // Todas las partidas hasta la última compactación; null si no se lleva historial o aún está vacío
+    TablaPuntuacionesBinaria obtenerHistorial() {
+        return historial;
+    }
+
+    // Si el top histórico y las posiciones se están respondiendo desde el historial binario
+    synchronized boolean respondeDesdeHistorial() {
+        return vistaHistorial != null;
+    }
+
+    synchronized boolean necesitaCompactar() {
+        return registrosSinCompactar >= REGISTROS_POR_COMPACTACION;
+    }
+
+    // ================ ESCRITURA ================
+    // Toda partida queda registrada; devuelve si además entró al top
+    synchronized boolean registrar(String nombre, int puntaje) {
+        EntradaPuntuacion entrada = new EntradaPuntuacion(nombre, puntaje, reloj.millis());
+        pendientes.add(entrada);
+        registrosSinCompactar++;
+        if (vistaHistorial != null) {
+            vistaHistorial.aplicar(entrada);
+        }
+        return estado.aplicar(entrada);
+    }
+
+    // Agrega al registro lo acumulado en memoria: una escritura y un fsync por tanda. Antes, bajo el
+    // mismo bloqueo, aplica lo que otros procesos agregaron desde la última lectura
+    void volcar() throws IOException {
+        List<EntradaPuntuacion> lote;
+        synchronized (this) {
+            lote = new ArrayList<>(pendientes);
+            pendientes.clear();
+        }
+        try {
+            ArchivoSeguro.conBloqueo(rutaInstantanea, () -> {
+                ponerseAlDia(lote);
+                if (!lote.isEmpty()) {
+                    agregarAlRegistro(lote);
+                }
+                return null;
+            });
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                pendientes.addAll(0, lote); // Se reintenta en el próximo volcado
+            }
+            throw e;
+        }
+    }
+
+    // Pliega instantánea + registro en una instantánea nueva y empieza un registro vacío.
+    // Se relee el disco bajo el bloqueo: incluye también lo que agregaron otros procesos
+    void compactar() throws IOException {
+        volcar();
+        ArchivoSeguro.conBloqueo(rutaInstantanea, () -> {
+            InstantaneaPuntuaciones anterior = leerInstantanea();
+            List<EntradaPuntuacion> cola = new ArrayList<>();
+            long generacion = leerCola(anterior.generacion, anterior.desplazamiento, cola);
+
+            Estado compactado = new Estado(capacidad, reloj);
+            compactado.cargar(anterior);
+            compactado.aplicarTodas(cola);
+
+            long base = Math.max(generacion, anterior.generacion);
+            if (generacion >= 0 && rutaHistorial != null) {
+                // Antes que la instantánea: si se corta en el medio, el historial queda adelante y no atrás
+                actualizarHistorial(anterior, cola, base, Files.size(rutaRegistro));
+            }
+
+            // Sin partidas nuevas en el registro no hay nada que reescribir
+            if (generacion >= 0 && !cola.isEmpty()) {
+                escribirInstantanea(compactado, base, Files.size(rutaRegistro));
+                // Si se corta acá, la instantánea ya indica hasta dónde leyó: el registro viejo no se duplica
+                String cabeceraNueva = cabecera(base + 1);
+                ArchivoSeguro.escribirAtomico(rutaRegistro, cabeceraNueva);
+                generacionLeida = base + 1;
+                desplazamientoLeido = cabeceraNueva.length();
+            } else {
+                recordarPosicion(anterior, generacion);
+            }
+
+            synchronized (this) {
+                compactado.aplicarTodas(pendientes);
+                estado = compactado;
+                registrosSinCompactar = pendientes.size();
+            }
+            reiniciarVistaHistorial(List.of());
+            return null;
+        });
+    }
+
+    // ================ DISCO ================
+    // Los métodos de esta sección se llaman con el bloqueo del archivo tomado
+
+    // Arma el estado desde la instantánea y todo su registro, más las partidas propias aún sin escribir
+    private void recargar(List<EntradaPuntuacion> sinEscribir) throws IOException {
+        InstantaneaPuntuaciones instantanea = leerInstantanea();
+        List<EntradaPuntuacion> cola = new ArrayList<>();
+        long generacion = leerCola(instantanea.generacion, instantanea.desplazamiento, cola);
+        recordarPosicion(instantanea, generacion);
+
+        Estado nuevo = new Estado(capacidad, reloj);
+        nuevo.cargar(instantanea);
+        nuevo.aplicarTodas(cola);
+        synchronized (this) {
+            nuevo.aplicarTodas(sinEscribir);
+            nuevo.aplicarTodas(pendientes);
+            estado = nuevo;
+            registrosSinCompactar = cola.size() + sinEscribir.size() + pendientes.size();
+        }
+        // Otro proceso pudo haber compactado y reescrito el historial
+        historial = leerHistorial();
+        reiniciarVistaHistorial(sinEscribir);
+    }
+
+    // Junta el historial con las partidas del registro posteriores a él y las que aún no se escribieron
+    private void reiniciarVistaHistorial(List<EntradaPuntuacion> sinEscribir) throws IOException {
+        TablaPuntuacionesBinaria tabla = historial;
+        VistaHistorial vista = null;
+        if (tabla != null) {
+            List<EntradaPuntuacion> cola = new ArrayList<>();
+            leerCola(tabla.getGeneracion(), tabla.getDesplazamiento(), cola);
+            vista = new VistaHistorial(tabla, capacidad);
+            vista.aplicarTodas(cola);
+        }
+        synchronized (this) {
+            if (vista != null) {
+                vista.aplicarTodas(sinEscribir);
+                vista.aplicarTodas(pendientes);
+                // Un historial empezado sobre una tabla que ya tenía partidas no las incluye: sus
+                // posiciones no valdrían, así que se sigue respondiendo desde memoria
+                if (vista.getTotal() != estado.histograma.getTotal()) {
+                    vista = null;
+                }
+            }
+            vistaHistorial = vista;
+        }
+    }
+
+    // Aplica las partidas que otros procesos agregaron al registro después de lo ya leído. Si otro
+    // compactó mientras tanto (el registro cambió de generación) lo ya leído no sirve: se recarga
+    private void ponerseAlDia(List<EntradaPuntuacion> sinEscribir) throws IOException {
+        List<EntradaPuntuacion> ajenas = new ArrayList<>();
+        long generacion = leerCola(generacionLeida, desplazamientoLeido, ajenas);
+        if (generacion < 0) {
+            return; // Sin registro: nadie agregó nada todavía
+        }
+        if (generacion != generacionLeida) {
+            recargar(sinEscribir);
+            return;
+        }
+        desplazamientoLeido = Files.size(rutaRegistro);
+        if (!ajenas.isEmpty()) {
+            synchronized (this) {
+                estado.aplicarTodas(ajenas);
+                registrosSinCompactar += ajenas.size();
+                if (vistaHistorial != null) {
+                    vistaHistorial.aplicarTodas(ajenas);
+                }
+            }
+        }
+    }
+
+    // Sin registro, el que se cree tendrá la generación siguiente a la instantánea y se lee entero
+    private void recordarPosicion(InstantaneaPuntuaciones instantanea, long generacion) throws IOException {
+        if (generacion < 0) {
+            generacionLeida = instantanea.generacion + 1;
+            desplazamientoLeido = 0;
+        } else {
+            generacionLeida = generacion;
+            desplazamientoLeido = Files.size(rutaRegistro);
+        }
+    }
+
+    private void agregarAlRegistro(List<EntradaPuntuacion> lote) throws IOException {
+        try (FileChannel canal = FileChannel.open(rutaRegistro, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long largo = canal.size();
+            Writer salida = Channels.newWriter(canal.position(largo), StandardCharsets.UTF_8);
+            if (largo == 0) {
+                // Registro nuevo: una generación posterior a la de la instantánea, que así lo lee entero
+                generacionLeida = leerInstantanea().generacion + 1;
+                salida.write(cabecera(generacionLeida));
+            } else if (!terminaEnLinea(canal, largo)) {
+                // La última línea quedó cortada por una caída: se cierra para no pegarle la siguiente
+                salida.write('\n');
+            }
+            EscritorPuntuacionesJson escritor = new EscritorPuntuacionesJson(salida);
+            for (EntradaPuntuacion entrada : lote) {
+                escritor.escribirRegistro(entrada);
+            }
+            salida.flush();
+            canal.force(false);
+            // Con el bloqueo tomado nadie más escribió: todo lo que hay hasta acá ya está aplicado
+            desplazamientoLeido = canal.size();
+        }
+    }
+
+    private void escribirInstantanea(Estado compactado, long generacion, long desplazamiento) throws IOException {
+        List<EntradaPuntuacion> top = compactado.top.ordenadas();
+        List<EntradaPuntuacion> jugadores = compactado.jugadores.todos();
+        List<EntradaPuntuacion> recientes = compactado.semana.entradas();
+        ArchivoSeguro.escribirAtomico(rutaInstantanea, salida -> {
+            salida.write("{\"generacion\":" + generacion + ",\"desplazamiento\":" + desplazamiento + ",\"top\":");
+            EscritorPuntuacionesJson.escribirTodas(salida, top);
+            salida.write(",\"jugadores\":");
+            EscritorPuntuacionesJson.escribirTodas(salida, jugadores);
+            salida.write(",\"histograma\":[");
+            escribirHistograma(salida, compactado.histograma);
+            salida.write("],\"recientes\":");
+            EscritorPuntuacionesJson.escribirTodas(salida, recientes);
+            salida.write('}');
+        });
+    }
+
+    private static void escribirHistograma(Writer salida, ConteoPuntajes histograma) throws IOException {
+        StringBuilder pares = new StringBuilder();
+        histograma.recorrer((puntaje, cantidad) -> {
+            if (!pares.isEmpty()) {
+                pares.append(',');
+            }
+            pares.append('[').append(puntaje).append(',').append(cantidad).append(']');
+        });
+        salida.append(pares);
+    }
+
+    // El historial anota hasta dónde del registro llega, igual que la instantánea. Si difiere de ella
+    // (una compactación cortada entre los dos archivos) se relee el registro desde su propio punto
+    private void actualizarHistorial(InstantaneaPuntuaciones instantanea, List<EntradaPuntuacion> colaInstantanea,
+                                     long generacion, long desplazamiento) throws IOException {
+        TablaPuntuacionesBinaria actual = leerHistorial();
+        List<EntradaPuntuacion> nuevas = colaInstantanea;
+        if (actual != null && (actual.getGeneracion() != instantanea.generacion
+                || actual.getDesplazamiento() != instantanea.desplazamiento)) {
+            nuevas = new ArrayList<>();
+            leerCola(actual.getGeneracion(), actual.getDesplazamiento(), nuevas);
+        }
+        if (!nuevas.isEmpty()) {
+            TablaPuntuacionesBinaria.fusionar(actual, nuevas, rutaHistorial, generacion, desplazamiento);
+            actual = TablaPuntuacionesBinaria.abrir(rutaHistorial);
+        }
+        historial = actual;
+    }
+
+    private TablaPuntuacionesBinaria leerHistorial() throws IOException {
+        if (rutaHistorial == null || !Files.exists(rutaHistorial)) {
+            return null;
+        }
+        try {
+            return TablaPuntuacionesBinaria.abrir(rutaHistorial);
+        } catch (PuntuacionesCorruptasException e) {
+            Path respaldo = ArchivoSeguro.respaldarCorrupto(rutaHistorial);
+            avisos.accept("El historial de puntuaciones " + rutaHistorial + " está dañado. " + e.getMessage() + " Se guardó una copia en " + respaldo + ".");
+            return null;
+        }
+    }
+
+    private InstantaneaPuntuaciones leerInstantanea() throws IOException {
+        if (!Files.exists(rutaInstantanea)) {
+            return new InstantaneaPuntuaciones();
+        }
+        String error;
+        try (LectorPuntuacionesJson lector = new LectorPuntuacionesJson(Files.newBufferedReader(rutaInstantanea, StandardCharsets.UTF_8))) {
+            return lector.leerInstantanea();
+        } catch (PuntuacionesCorruptasException e) {
+            error = e.getMessage();
+        }
+        // No se pisa el archivo ilegible: se aparta para poder recuperarlo a mano
+        Path respaldo = ArchivoSeguro.respaldarCorrupto(rutaInstantanea);
+        avisos.accept("El archivo de puntuaciones " + rutaInstantanea + " está dañado. " + error + " Se guardó una copia en " + respaldo + ".");
+        return new InstantaneaPuntuaciones();
+    }
+
+    // Agrega a 'cola' las partidas del registro posteriores al punto (generación, desplazamiento) que
+    // anota la instantánea o el historial. Devuelve la generación del registro, o -1 si no hay registro
+    private long leerCola(long generacionBase, long desplazamiento, List<EntradaPuntuacion> cola) throws IOException {
+        if (!Files.exists(rutaRegistro)) {
+            return -1;
+        }
+        try (FileChannel canal = FileChannel.open(rutaRegistro, StandardOpenOption.READ)) {
+            if (canal.size() == 0) {
+                return -1;
+            }
+            long generacion = leerCabecera(canal);
+            if (generacion >= 0) {
+                if (generacion < generacionBase) {
+                    return generacion; // Ya plegado entero
+                }
+                if (generacion == generacionBase) {
+                    canal.position(Math.max(canal.position(), desplazamiento));
+                }
+                int descartadas = new LectorPuntuacionesJson(Channels.newReader(canal, StandardCharsets.UTF_8)).leerRegistros(cola::add);
+                if (descartadas > 0) {
+                    avisos.accept("Se descartaron " + descartadas + " registros ilegibles de " + rutaRegistro + ".");
+                }
+                return generacion;
+            }
+        }
+        // Sin cabecera no se sabe qué parte ya está en la instantánea: se aparta, con el canal ya cerrado
+        Path respaldo = ArchivoSeguro.respaldarCorrupto(rutaRegistro);
+        avisos.accept("El registro de puntuaciones " + rutaRegistro + " no tiene cabecera. Se guardó una copia en " + respaldo + ".");
+        return -1;
+    }
+
+    // Deja el canal justo después de la cabecera
+    private static long leerCabecera(FileChannel canal) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(LARGO_MAXIMO_CABECERA);
+        canal.read(bytes, 0);
+        bytes.flip();
+        int fin = 0;
+        while (fin < bytes.limit() && bytes.get(fin) != '\n') {
+            fin++;
+        }
+        if (fin == bytes.limit()) {
+            return -1;
+        }
+        String linea = new String(bytes.array(), 0, fin, StandardCharsets.US_ASCII);
+        if (!linea.startsWith(CABECERA)) {
+            return -1;
+        }
+        try {
+            long generacion = Long.parseLong(linea.substring(CABECERA.length()));
+            canal.position(fin + 1);
+            return generacion;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static boolean terminaEnLinea(FileChannel canal, long largo) throws IOException {
+        ByteBuffer ultimo = ByteBuffer.allocate(1);
+        canal.read(ultimo, largo - 1);
+        return ultimo.get(0) == '\n';
+    }
+
+    private static String cabecera(long generacion) {
+        return CABECERA + generacion + "\n";
+    }
+}
@@ -1,6 +1,8 @@
 package Modelo;
 
 import Carta.Carta;
+import EfectosEspeciales.GestorEfectos;
+import EfectosEspeciales.TipoEfecto;
 
 public class ResultadoApuesta {
 
@@ -26,6 +28,10 @@ public class ResultadoApuesta {
     private final String tipoApuesta;
 
     
+    // Ordinal de TipoApuesta, el mismo que guarda ResultadoCompacto
+    private final int ordinalApuesta;
+
+    
     private final boolean tieneEfecto;
 
     
@@ -35,15 +41,26 @@ public class ResultadoApuesta {
     private final String descripcionEfecto;
 
     
-    private final String resultadoEfecto;
+    // Se calcula al pedirlo cuando el resultado proviene de un código compacto
+    private String resultadoEfecto;
 
     
     private final boolean esModoSolo;
 
     
+    // Código de ResultadoCompacto; solo es válido si esCompacto
+    private final long codigo;
+
+    
+    private final boolean esCompacto;
+
+    
+    private final String nombreOponente;
+
+    
     public ResultadoApuesta(boolean acerto, boolean huboImpacto, int vidasRestantes,
                            String nombreJugador, Carta cartaAnterior, Carta nuevaCarta,
-                           String tipoApuesta, String tipoEfecto, String descripcionEfecto,
+                           String tipoApuesta, int ordinalApuesta, String tipoEfecto, String descripcionEfecto,
                            String resultadoEfecto, boolean esModoSolo) {
         this.acerto = acerto;
         this.huboImpacto = huboImpacto;
@@ -52,19 +69,44 @@ public class ResultadoApuesta {
         this.cartaAnterior = cartaAnterior;
         this.nuevaCarta = nuevaCarta;
         this.tipoApuesta = tipoApuesta;
+        this.ordinalApuesta = ordinalApuesta;
         this.tieneEfecto = (tipoEfecto != null);
         this.tipoEfecto = tipoEfecto;
         this.descripcionEfecto = descripcionEfecto;
         this.resultadoEfecto = resultadoEfecto;
         this.esModoSolo = esModoSolo;
+        this.codigo = 0L;
+        this.esCompacto = false;
+        this.nombreOponente = null;
+    }
+
+    
+    public ResultadoApuesta(long codigo, String nombreJugador, String nombreOponente, String tipoApuesta) {
+        TipoEfecto efecto = ResultadoCompacto.tipoEfecto(codigo);
+        this.acerto = ResultadoCompacto.acerto(codigo);
+        this.huboImpacto = ResultadoCompacto.huboImpacto(codigo);
+        this.vidasRestantes = ResultadoCompacto.vidasRestantes(codigo);
+        this.nombreJugador = nombreJugador;
+        this.cartaAnterior = ResultadoCompacto.cartaAnterior(codigo);
+        this.nuevaCarta = ResultadoCompacto.nuevaCarta(codigo);
+        this.tipoApuesta = tipoApuesta;
+        this.ordinalApuesta = ResultadoCompacto.ordinalApuesta(codigo);
+        this.tieneEfecto = (efecto != null);
+        this.tipoEfecto = efecto != null ? efecto.name() : null;
+        this.descripcionEfecto = efecto != null ? GestorEfectos.obtenerDescripcionEfecto(efecto) : null;
+        this.resultadoEfecto = null;
+        this.esModoSolo = ResultadoCompacto.esModoSolo(codigo);
+        this.codigo = codigo;
+        this.esCompacto = true;
+        this.nombreOponente = nombreOponente;
     }
     
     
     public ResultadoApuesta(boolean acerto, boolean huboImpacto, int vidasRestantes,
                            String nombreJugador, Carta cartaAnterior, Carta nuevaCarta,
-                           String tipoApuesta, boolean esModoSolo) {
+                           String tipoApuesta, int ordinalApuesta, boolean esModoSolo) {
         this(acerto, huboImpacto, vidasRestantes, nombreJugador, cartaAnterior,
-             nuevaCarta, tipoApuesta, null, null, null, esModoSolo);
+             nuevaCarta, tipoApuesta, ordinalApuesta, null, null, null, esModoSolo);
     }
     
     // ================ GETTERS ================
@@ -96,6 +138,10 @@ public class ResultadoApuesta {
         return tipoApuesta;
     }
     
+    public int getOrdinalApuesta() {
+        return ordinalApuesta;
+    }
+    
     public boolean tieneEfecto() {
         return tieneEfecto;
     }
@@ -109,9 +155,20 @@ public class ResultadoApuesta {
     }
     
     public String getResultadoEfecto() {
+        if (resultadoEfecto == null && esCompacto && tieneEfecto) {
+            resultadoEfecto = GestorEfectos.describirResultadoEfecto(codigo, nombreJugador, nombreOponente);
+        }
         return resultadoEfecto;
     }
     
+    public boolean esCompacto() {
+        return esCompacto;
+    }
+    
+    public long getCodigo() {
+        return codigo;
+    }
+    
     public boolean esModoSolo() {
         return esModoSolo;
     }
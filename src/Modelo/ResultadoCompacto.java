@@ -0,0 +1,157 @@
+package Modelo;
+
+import Carta.Carta;
+import Carta.CatalogoCartas;
+import EfectosEspeciales.CategoriaEfecto;
+import EfectosEspeciales.TipoEfecto;
+import Moneda.Lado;
+
+// Resultado de una apuesta empaquetado en un long, para el camino sin asignaciones de memoria.
+// Los textos se reconstruyen a partir del código solo cuando una vista los pide.
+public final class ResultadoCompacto {
+
+    // ================ DISPOSICIÓN DE BITS ================
+
+    private static final int BIT_ACERTO = 0;
+    private static final int BIT_IMPACTO = 1;
+    private static final int BIT_MODO_SOLO = 2;
+    private static final int BIT_JUGADOR_2 = 3;
+    private static final int POS_APUESTA = 4;          // 1 bit: ordinal de TipoApuesta
+    private static final int POS_VIDAS = 5;            // 8 bits
+    private static final int POS_CARTA_ANTERIOR = 13;  // 9 bits: Carta.getId()
+    private static final int POS_NUEVA_CARTA = 22;     // 9 bits: Carta.getId()
+    private static final int POS_EFECTO = 31;          // 3 bits: 0 sin efecto, ordinal + 1
+    private static final int POS_CATEGORIA = 34;       // 2 bits: ordinal de CategoriaEfecto
+    private static final int BIT_ELECCION_CRUZ = 36;
+    private static final int BIT_SALIO_CRUZ = 37;
+    private static final int BIT_ERROR_EFECTO = 38;
+    private static final int POS_DETALLE = 39;         // 16 bits: dato propio de cada efecto
+
+    private static final long MASCARA_VIDAS = 0xFF;
+    private static final long MASCARA_CARTA = 0x1FF;
+    private static final long MASCARA_EFECTO = 0x7;
+    private static final long MASCARA_CATEGORIA = 0x3;
+    private static final long MASCARA_DETALLE = 0xFFFF;
+
+
+    // Máscara con todos los campos que describen el efecto de la carta
+    public static final long MASCARA_CAMPOS_EFECTO =
+            (MASCARA_EFECTO << POS_EFECTO) | (MASCARA_CATEGORIA << POS_CATEGORIA)
+            | (1L << BIT_ELECCION_CRUZ) | (1L << BIT_SALIO_CRUZ) | (1L << BIT_ERROR_EFECTO)
+            | (MASCARA_DETALLE << POS_DETALLE);
+
+
+    public static final int MAX_DETALLE = (int) MASCARA_DETALLE;
+
+    private static final TipoEfecto[] TIPOS_EFECTO = TipoEfecto.values();
+    private static final CategoriaEfecto[] CATEGORIAS = CategoriaEfecto.values();
+
+    // ================ CONSTRUCTORES ================
+
+    private ResultadoCompacto() {
+    }
+
+    // ================ CODIFICACIÓN ================
+
+
+    public static long codificar(boolean acerto, boolean huboImpacto, int vidasRestantes, boolean esJugador2,
+                                 int ordinalApuesta, Carta cartaAnterior, Carta nuevaCarta, boolean esModoSolo) {
+        long codigo = 0L;
+        if (acerto) codigo |= 1L << BIT_ACERTO;
+        if (huboImpacto) codigo |= 1L << BIT_IMPACTO;
+        if (esModoSolo) codigo |= 1L << BIT_MODO_SOLO;
+        if (esJugador2) codigo |= 1L << BIT_JUGADOR_2;
+        codigo |= ((long) ordinalApuesta & 1L) << POS_APUESTA;
+        codigo |= ((long) vidasRestantes & MASCARA_VIDAS) << POS_VIDAS;
+        codigo |= ((long) cartaAnterior.getId() & MASCARA_CARTA) << POS_CARTA_ANTERIOR;
+        codigo |= ((long) nuevaCarta.getId() & MASCARA_CARTA) << POS_NUEVA_CARTA;
+        return codigo;
+    }
+
+
+    public static long codificarEfecto(TipoEfecto tipo, CategoriaEfecto categoria, Lado eleccion, Lado salio,
+                                       int detalle, boolean error) {
+        long codigo = ((long) (tipo.ordinal() + 1)) << POS_EFECTO;
+        codigo |= ((long) categoria.ordinal() & MASCARA_CATEGORIA) << POS_CATEGORIA;
+        if (eleccion == Lado.CRUZ) codigo |= 1L << BIT_ELECCION_CRUZ;
+        if (salio == Lado.CRUZ) codigo |= 1L << BIT_SALIO_CRUZ;
+        if (error) codigo |= 1L << BIT_ERROR_EFECTO;
+        codigo |= ((long) detalle & MASCARA_DETALLE) << POS_DETALLE;
+        return codigo;
+    }
+
+    // ================ DECODIFICACIÓN ================
+
+    public static boolean acerto(long codigo) {
+        return bit(codigo, BIT_ACERTO);
+    }
+
+    public static boolean huboImpacto(long codigo) {
+        return bit(codigo, BIT_IMPACTO);
+    }
+
+    public static boolean esModoSolo(long codigo) {
+        return bit(codigo, BIT_MODO_SOLO);
+    }
+
+    public static boolean esJugador2(long codigo) {
+        return bit(codigo, BIT_JUGADOR_2);
+    }
+
+    public static int ordinalApuesta(long codigo) {
+        return (int) ((codigo >>> POS_APUESTA) & 1L);
+    }
+
+    public static int vidasRestantes(long codigo) {
+        return (int) ((codigo >>> POS_VIDAS) & MASCARA_VIDAS);
+    }
+
+    public static int idCartaAnterior(long codigo) {
+        return (int) ((codigo >>> POS_CARTA_ANTERIOR) & MASCARA_CARTA);
+    }
+
+    public static int idNuevaCarta(long codigo) {
+        return (int) ((codigo >>> POS_NUEVA_CARTA) & MASCARA_CARTA);
+    }
+
+    public static Carta cartaAnterior(long codigo) {
+        return CatalogoCartas.obtener(idCartaAnterior(codigo));
+    }
+
+    public static Carta nuevaCarta(long codigo) {
+        return CatalogoCartas.obtener(idNuevaCarta(codigo));
+    }
+
+    public static boolean tieneEfecto(long codigo) {
+        return ((codigo >>> POS_EFECTO) & MASCARA_EFECTO) != 0;
+    }
+
+    public static TipoEfecto tipoEfecto(long codigo) {
+        int valor = (int) ((codigo >>> POS_EFECTO) & MASCARA_EFECTO);
+        return valor == 0 ? null : TIPOS_EFECTO[valor - 1];
+    }
+
+    public static CategoriaEfecto categoriaEfecto(long codigo) {
+        return CATEGORIAS[(int) ((codigo >>> POS_CATEGORIA) & MASCARA_CATEGORIA)];
+    }
+
+    public static Lado eleccionMoneda(long codigo) {
+        return bit(codigo, BIT_ELECCION_CRUZ) ? Lado.CRUZ : Lado.CARA;
+    }
+
+    public static Lado resultadoMoneda(long codigo) {
+        return bit(codigo, BIT_SALIO_CRUZ) ? Lado.CRUZ : Lado.CARA;
+    }
+
+    public static boolean errorEfecto(long codigo) {
+        return bit(codigo, BIT_ERROR_EFECTO);
+    }
+
+    public static int detalleEfecto(long codigo) {
+        return (int) ((codigo >>> POS_DETALLE) & MASCARA_DETALLE);
+    }
+
+    private static boolean bit(long codigo, int posicion) {
+        return ((codigo >>> posicion) & 1L) != 0;
+    }
+}
@@ -0,0 +1,367 @@
+package Modelo;
+
+import Exceptions.PuntuacionesCorruptasException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// Tabla de puntuaciones en formato binario de registros fijos, para historiales grandes.
+// Se lee a través de un MappedByteBuffer: el top y la posición de un puntaje se consultan
+// directamente sobre el archivo mapeado, sin cargarlo ni parsearlo.
+//
+// Formato (big-endian):
+//   cabecera   magia, versión, cantidad, reservado (int) · generación, desplazamiento,
+//              inicio y largo del área de textos (long)
+//   registros  'cantidad' registros de 16 bytes ordenados por puntaje descendente
+//              (a igual puntaje, el más antiguo primero): puntaje (int), posición del
+//              nombre dentro del área de textos (int), fecha (long)
+//   textos     cada nombre una sola vez: largo en bytes (u16) + UTF-8
+//
+// Generación y desplazamiento indican hasta dónde del registro de partidas llega la tabla,
+// igual que en la instantánea JSON.
+public final class TablaPuntuacionesBinaria {
+
+    // ================ CONSTANTES ================
+    private static final int MAGIA = 0x44444842; // "DDHB"
+    private static final int VERSION = 1;
+
+    static final int TAMANIO_CABECERA = 48;
+    static final int TAMANIO_REGISTRO = 16;
+
+    private static final int LARGO_MAXIMO_NOMBRE = 0xFFFF;
+    private static final int TAMANIO_BLOQUE = 64 * 1024;
+
+    // ================ ATRIBUTOS ================
+    // Solo se usan lecturas absolutas: la misma vista sirve a varios hilos a la vez
+    private final MappedByteBuffer datos;
+    private final int cantidad;
+    private final long generacion;
+    private final long desplazamiento;
+    private final int inicioTextos;
+    private final int largoTextos;
+
+    // ================ CONSTRUCTOR ================
+    private TablaPuntuacionesBinaria(MappedByteBuffer datos, Path ruta) {
+        this.datos = datos;
+        if (datos.capacity() < TAMANIO_CABECERA || datos.getInt(0) != MAGIA) {
+            throw new PuntuacionesCorruptasException("El archivo " + ruta + " no es una tabla binaria de puntuaciones.");
+        }
+        if (datos.getInt(4) != VERSION) {
+            throw new PuntuacionesCorruptasException("Versión de tabla binaria no soportada en " + ruta + ": " + datos.getInt(4));
+        }
+        this.cantidad = datos.getInt(8);
+        this.generacion = datos.getLong(16);
+        this.desplazamiento = datos.getLong(24);
+        long inicio = datos.getLong(32);
+        long largo = datos.getLong(40);
+        if (cantidad < 0 || inicio != TAMANIO_CABECERA + (long) cantidad * TAMANIO_REGISTRO
+                || largo < 0 || inicio + largo > datos.capacity()) {
+            throw new PuntuacionesCorruptasException("La cabecera de " + ruta + " no coincide con el tamaño del archivo.");
+        }
+        this.inicioTextos = (int) inicio;
+        this.largoTextos = (int) largo;
+    }
+
+    // Mapea el archivo en modo lectura; el mapeo sigue válido aunque después se reemplace el archivo
+    public static TablaPuntuacionesBinaria abrir(Path ruta) throws IOException {
+        try (FileChannel canal = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            long tamanio = canal.size();
+            if (tamanio > Integer.MAX_VALUE) {
+                throw new PuntuacionesCorruptasException("La tabla binaria " + ruta + " supera los 2 GB mapeables.");
+            }
+            return new TablaPuntuacionesBinaria(canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanio), ruta);
+        }
+    }
+
+    // ================ CONSULTAS ================
+    public int getCantidad() {
+        return cantidad;
+    }
+
+    long getGeneracion() {
+        return generacion;
+    }
+
+    long getDesplazamiento() {
+        return desplazamiento;
+    }
+
+    public int puntajeEn(int indice) {
+        return datos.getInt(registro(indice));
+    }
+
+    public long fechaEn(int indice) {
+        return datos.getLong(registro(indice) + 8);
+    }
+
+    public String nombreEn(int indice) {
+        int posicion = datos.getInt(registro(indice) + 4);
+        if (posicion < 0 || posicion + 2 > largoTextos) {
+            throw new PuntuacionesCorruptasException("Nombre fuera del área de textos en el registro " + indice + ".");
+        }
+        int inicio = inicioTextos + posicion;
+        int largo = datos.getShort(inicio) & 0xFFFF;
+        if (posicion + 2 + largo > largoTextos) {
+            throw new PuntuacionesCorruptasException("Nombre fuera del área de textos en el registro " + indice + ".");
+        }
+        byte[] bytes = new byte[largo];
+        datos.get(inicio + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public EntradaPuntuacion obtener(int indice) {
+        return new EntradaPuntuacion(nombreEn(indice), puntajeEn(indice), fechaEn(indice));
+    }
+
+    // Los registros ya están ordenados: el top son los primeros, sin recorrer el resto
+    public List<EntradaPuntuacion> top(int k) {
+        int n = Math.min(k, cantidad);
+        List<EntradaPuntuacion> top = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            top.add(obtener(i));
+        }
+        return top;
+    }
+
+    // Búsqueda binaria sobre los puntajes mapeados: O(log N) lecturas del archivo
+    public long contarMayoresQue(int puntaje) {
+        return primerIndiceConPuntajeHasta(puntaje);
+    }
+
+    public long contarMenoresQue(int puntaje) {
+        return puntaje == Integer.MIN_VALUE ? 0 : cantidad - primerIndiceConPuntajeHasta(puntaje - 1);
+    }
+
+    public PosicionRanking posicionDe(int puntaje) {
+        return new PosicionRanking(puntaje, contarMayoresQue(puntaje) + 1, cantidad, contarMenoresQue(puntaje));
+    }
+
+    // Primer índice cuyo puntaje es <= 'puntaje' (los anteriores son todos mayores)
+    private int primerIndiceConPuntajeHasta(int puntaje) {
+        int desde = 0;
+        int hasta = cantidad;
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (puntajeEn(medio) > puntaje) {
+                desde = medio + 1;
+            } else {
+                hasta = medio;
+            }
+        }
+        return desde;
+    }
+
+    private int registro(int indice) {
+        if (indice < 0 || indice >= cantidad) {
+            throw new IndexOutOfBoundsException("Registro " + indice + " fuera de la tabla (" + cantidad + ")");
+        }
+        return TAMANIO_CABECERA + indice * TAMANIO_REGISTRO;
+    }
+
+    // ================ ESCRITURA ================
+    // Escribe las entradas en cualquier orden; se ordenan antes (estable: los empates conservan su orden)
+    public static void escribir(Path destino, List<EntradaPuntuacion> entradas) throws IOException {
+        List<EntradaPuntuacion> ordenadas = new ArrayList<>(entradas);
+        ordenadas.sort(null);
+        escribir(destino, ordenadas.size(), ordenadas.iterator(), 0, 0);
+    }
+
+    // Une una tabla ya ordenada con partidas nuevas sin decodificar la anterior: sus registros se copian
+    // en tramos tal cual están mapeados (solo se busca dónde intercalar cada nueva) y su área de textos
+    // va entera al principio de la nueva, así las posiciones de nombre de los registros viejos siguen
+    // valiendo. Solo las nuevas se ordenan y sus nombres se agregan detrás. A igual puntaje quedan
+    // primero las anteriores
+    static void fusionar(TablaPuntuacionesBinaria anterior, List<EntradaPuntuacion> nuevas, Path destino,
+                         long generacion, long desplazamiento) throws IOException {
+        List<EntradaPuntuacion> ordenadas = new ArrayList<>(nuevas);
+        ordenadas.sort(null);
+        if (anterior == null) {
+            escribir(destino, ordenadas.size(), ordenadas.iterator(), generacion, desplazamiento);
+            return;
+        }
+        long total = (long) anterior.cantidad + ordenadas.size();
+        long inicioTextos = TAMANIO_CABECERA + total * TAMANIO_REGISTRO;
+        if (inicioTextos + anterior.largoTextos > Integer.MAX_VALUE) {
+            throw new IllegalStateException("La tabla binaria no admite " + total + " registros");
+        }
+        ArchivoSeguro.volcarAtomico(destino, canal -> {
+            escribirTodo(canal, anterior.datos.slice(anterior.inicioTextos, anterior.largoTextos), inicioTextos);
+            AreaTextos textos = new AreaTextos(inicioTextos, anterior.largoTextos);
+            ByteBuffer registros = ByteBuffer.allocate(TAMANIO_BLOQUE);
+            long posicionRegistros = TAMANIO_CABECERA;
+            int copiados = 0;
+
+            for (EntradaPuntuacion entrada : ordenadas) {
+                int hasta = anterior.primerIndiceConPuntajeMenorA(entrada.getPuntaje());
+                if (hasta > copiados) {
+                    posicionRegistros += volcarBloque(canal, registros, posicionRegistros);
+                    posicionRegistros += anterior.copiarRegistros(canal, copiados, hasta, posicionRegistros);
+                    copiados = hasta;
+                }
+                if (registros.remaining() < TAMANIO_REGISTRO) {
+                    posicionRegistros += volcarBloque(canal, registros, posicionRegistros);
+                }
+                int posicionNombre = textos.agregar(canal, entrada.getNombre());
+                registros.putInt(entrada.getPuntaje()).putInt(posicionNombre).putLong(entrada.getFecha());
+            }
+            posicionRegistros += volcarBloque(canal, registros, posicionRegistros);
+            anterior.copiarRegistros(canal, copiados, anterior.cantidad, posicionRegistros);
+            int largoTextos = textos.terminar(canal);
+            escribirCabecera(canal, (int) total, generacion, desplazamiento, inicioTextos, largoTextos);
+        });
+    }
+
+    // Registros y textos se escriben a la par en sus dos zonas del archivo; la cabecera va al final,
+    // cuando ya se conoce el largo de los textos. Todo dentro de una escritura atómica
+    private static void escribir(Path destino, int cantidad, Iterator<EntradaPuntuacion> ordenadas,
+                                 long generacion, long desplazamiento) throws IOException {
+        long inicioTextos = TAMANIO_CABECERA + (long) cantidad * TAMANIO_REGISTRO;
+        if (inicioTextos > Integer.MAX_VALUE) {
+            throw new IllegalStateException("La tabla binaria no admite " + cantidad + " registros");
+        }
+        ArchivoSeguro.volcarAtomico(destino, canal -> {
+            ByteBuffer registros = ByteBuffer.allocate(TAMANIO_BLOQUE);
+            AreaTextos textos = new AreaTextos(inicioTextos, 0);
+            long posicionRegistros = TAMANIO_CABECERA;
+            int escritos = 0;
+            int puntajeAnterior = Integer.MAX_VALUE;
+
+            while (ordenadas.hasNext()) {
+                EntradaPuntuacion entrada = ordenadas.next();
+                if (entrada.getPuntaje() > puntajeAnterior) {
+                    throw new IllegalArgumentException("Las entradas de la tabla binaria deben venir ordenadas");
+                }
+                puntajeAnterior = entrada.getPuntaje();
+
+                int posicionNombre = textos.agregar(canal, entrada.getNombre());
+                if (registros.remaining() < TAMANIO_REGISTRO) {
+                    posicionRegistros += volcarBloque(canal, registros, posicionRegistros);
+                }
+                registros.putInt(entrada.getPuntaje()).putInt(posicionNombre).putLong(entrada.getFecha());
+                escritos++;
+            }
+            if (escritos != cantidad) {
+                throw new IllegalStateException("Se esperaban " + cantidad + " registros y llegaron " + escritos);
+            }
+            volcarBloque(canal, registros, posicionRegistros);
+            int largoTextos = textos.terminar(canal);
+            escribirCabecera(canal, cantidad, generacion, desplazamiento, inicioTextos, largoTextos);
+        });
+    }
+
+    private static void escribirCabecera(FileChannel canal, int cantidad, long generacion, long desplazamiento,
+                                         long inicioTextos, int largoTextos) throws IOException {
+        ByteBuffer cabecera = ByteBuffer.allocate(TAMANIO_CABECERA);
+        cabecera.putInt(MAGIA).putInt(VERSION).putInt(cantidad).putInt(0)
+                .putLong(generacion).putLong(desplazamiento)
+                .putLong(inicioTextos).putLong(largoTextos);
+        volcarBloque(canal, cabecera, 0);
+    }
+
+    // Primer índice cuyo puntaje es menor que 'puntaje': ahí se intercala una entrada nueva con ese puntaje
+    private int primerIndiceConPuntajeMenorA(int puntaje) {
+        return puntaje == Integer.MIN_VALUE ? cantidad : primerIndiceConPuntajeHasta(puntaje - 1);
+    }
+
+    // Copia los registros [desde, hasta) tal cual están en el archivo mapeado; devuelve los bytes escritos
+    private int copiarRegistros(FileChannel canal, int desde, int hasta, long posicion) throws IOException {
+        if (desde >= hasta) {
+            return 0;
+        }
+        int inicio = TAMANIO_CABECERA + desde * TAMANIO_REGISTRO;
+        return escribirTodo(canal, datos.slice(inicio, (hasta - desde) * TAMANIO_REGISTRO), posicion);
+    }
+
+    // Escribe el bloque en la posición indicada y lo deja vacío; devuelve cuántos bytes escribió
+    private static int volcarBloque(FileChannel canal, ByteBuffer bloque, long posicion) throws IOException {
+        bloque.flip();
+        int escritos = escribirTodo(canal, bloque, posicion);
+        bloque.clear();
+        return escritos;
+    }
+
+    private static int escribirTodo(FileChannel canal, ByteBuffer bytes, long posicion) throws IOException {
+        int escritos = 0;
+        while (bytes.hasRemaining()) {
+            escritos += canal.write(bytes, posicion + escritos);
+        }
+        return escritos;
+    }
+
+    // ================ ÁREA DE TEXTOS ================
+    // Nombres que se agregan detrás de 'base' bytes ya escritos en el área. Un jugador con muchas
+    // partidas guarda su nombre una sola vez por escritura (al fusionar, una vez más por tanda nueva)
+    private static final class AreaTextos {
+        private final long inicio;
+        private final Map<String, Integer> nombres = new HashMap<>();
+        private ByteBuffer bloque = ByteBuffer.allocate(TAMANIO_BLOQUE);
+        private long posicion;
+        private int largo;
+
+        AreaTextos(long inicio, int base) {
+            this.inicio = inicio;
+            this.posicion = inicio + base;
+            this.largo = base;
+        }
+
+        // Devuelve la posición del nombre dentro del área
+        int agregar(FileChannel canal, String nombre) throws IOException {
+            Integer conocido = nombres.get(nombre);
+            if (conocido != null) {
+                return conocido;
+            }
+            byte[] bytes = nombre.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > LARGO_MAXIMO_NOMBRE) {
+                throw new IllegalArgumentException("Nombre demasiado largo para la tabla binaria: " + bytes.length + " bytes");
+            }
+            if (inicio + largo + 2 + bytes.length > Integer.MAX_VALUE) {
+                throw new IllegalStateException("El área de textos de la tabla binaria supera los 2 GB");
+            }
+            int posicionNombre = largo;
+            nombres.put(nombre, posicionNombre);
+            if (bloque.remaining() < 2 + bytes.length) {
+                posicion += volcarBloque(canal, bloque, posicion);
+            }
+            if (bloque.remaining() < 2 + bytes.length) {
+                // Solo pasa con nombres más largos que un bloque
+                bloque = ByteBuffer.allocate(2 + bytes.length);
+            }
+            bloque.putShort((short) bytes.length).put(bytes);
+            largo += 2 + bytes.length;
+            return posicionNombre;
+        }
+
+        // Vuelca lo pendiente y devuelve el largo total del área
+        int terminar(FileChannel canal) throws IOException {
+            volcarBloque(canal, bloque, posicion);
+            return largo;
+        }
+    }
+
+    // ================ JSON ================
+    // El JSON sigue siendo el formato de intercambio: una lista de entradas como la de siempre
+    public static void importarJson(Path json, Path binario) throws IOException {
+        escribir(binario, LectorPuntuacionesJson.leer(json));
+    }
+
+    public static void exportarJson(Path binario, Path json) throws IOException {
+        TablaPuntuacionesBinaria tabla = abrir(binario);
+        ArchivoSeguro.escribirAtomico(json, salida -> {
+            EscritorPuntuacionesJson escritor = new EscritorPuntuacionesJson(salida);
+            for (int i = 0; i < tabla.cantidad; i++) {
+                escritor.escribir(tabla.obtener(i));
+            }
+            escritor.terminar();
+        });
+    }
+}
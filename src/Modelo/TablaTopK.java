@@ -0,0 +1,139 @@
+package Modelo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Las K mejores entradas en un min-heap acotado: la raíz es la peor del top, así que
+// descartar un puntaje que no entra es O(1) y admitir uno que sí entra es O(log K).
+public class TablaTopK {
+
+    // ================ ATRIBUTOS ================
+    private final EntradaPuntuacion[] entradas;
+    // Orden de llegada de cada entrada: entre empates queda arriba la más antigua
+    private final long[] llegadas;
+    private int tamanio;
+    private long proximaLlegada;
+
+    // ================ CONSTRUCTOR ================
+    public TablaTopK(int capacidad) {
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("La capacidad del top debe ser positiva: " + capacidad);
+        }
+        this.entradas = new EntradaPuntuacion[capacidad];
+        this.llegadas = new long[capacidad];
+    }
+
+    // ================ CONSULTAS ================
+    public int getCapacidad() {
+        return entradas.length;
+    }
+
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    public boolean estaLlena() {
+        return tamanio == entradas.length;
+    }
+
+    // O(1): solo mira la raíz. Un empate con el último no desplaza a nadie
+    public boolean califica(int puntaje) {
+        return tamanio < entradas.length || puntaje > entradas[0].getPuntaje();
+    }
+
+    // Peor puntaje del top, o Integer.MIN_VALUE si todavía hay lugar
+    public int getUmbral() {
+        return estaLlena() ? entradas[0].getPuntaje() : Integer.MIN_VALUE;
+    }
+
+    // Ordena solo las K entradas del top, de mayor a menor
+    public List<EntradaPuntuacion> ordenadas() {
+        Integer[] indices = new Integer[tamanio];
+        for (int i = 0; i < tamanio; i++) {
+            indices[i] = i;
+        }
+        Arrays.sort(indices, (a, b) -> -comparar(a, b));
+        List<EntradaPuntuacion> resultado = new ArrayList<>(tamanio);
+        for (Integer indice : indices) {
+            resultado.add(entradas[indice]);
+        }
+        return resultado;
+    }
+
+    // ================ MODIFICACIÓN ================
+    public boolean ofrecer(EntradaPuntuacion entrada) {
+        if (!califica(entrada.getPuntaje())) {
+            return false;
+        }
+        long llegada = proximaLlegada++;
+        if (tamanio < entradas.length) {
+            entradas[tamanio] = entrada;
+            llegadas[tamanio] = llegada;
+            subir(tamanio++);
+        } else {
+            // Reemplaza a la peor y la hunde hasta su lugar
+            entradas[0] = entrada;
+            llegadas[0] = llegada;
+            bajar(0);
+        }
+        return true;
+    }
+
+    public void ofrecerTodas(Iterable<EntradaPuntuacion> nuevas) {
+        for (EntradaPuntuacion entrada : nuevas) {
+            ofrecer(entrada);
+        }
+    }
+
+    public void vaciar() {
+        Arrays.fill(entradas, 0, tamanio, null);
+        tamanio = 0;
+    }
+
+    // ================ HEAP ================
+    // Negativo si 'a' es peor que 'b': menor puntaje o, empatados, llegó después
+    private int comparar(int a, int b) {
+        int porPuntaje = Integer.compare(entradas[a].getPuntaje(), entradas[b].getPuntaje());
+        return porPuntaje != 0 ? porPuntaje : Long.compare(llegadas[b], llegadas[a]);
+    }
+
+    private void subir(int i) {
+        while (i > 0) {
+            int padre = (i - 1) >>> 1;
+            if (comparar(i, padre) >= 0) {
+                return;
+            }
+            intercambiar(i, padre);
+            i = padre;
+        }
+    }
+
+    private void bajar(int i) {
+        while (true) {
+            int menor = i;
+            int izquierdo = 2 * i + 1;
+            int derecho = izquierdo + 1;
+            if (izquierdo < tamanio && comparar(izquierdo, menor) < 0) {
+                menor = izquierdo;
+            }
+            if (derecho < tamanio && comparar(derecho, menor) < 0) {
+                menor = derecho;
+            }
+            if (menor == i) {
+                return;
+            }
+            intercambiar(i, menor);
+            i = menor;
+        }
+    }
+
+    private void intercambiar(int a, int b) {
+        EntradaPuntuacion entrada = entradas[a];
+        entradas[a] = entradas[b];
+        entradas[b] = entrada;
+        long llegada = llegadas[a];
+        llegadas[a] = llegadas[b];
+        llegadas[b] = llegada;
+    }
+}
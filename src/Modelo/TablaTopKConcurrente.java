@@ -0,0 +1,50 @@
+package Modelo;
+
+import java.util.List;
+
+// TablaTopK para muchos hilos. El umbral (la peor entrada del top) se publica en un campo volatile:
+// descartar un puntaje que no entra es una lectura sin bloqueo. Solo los que sí entran toman el
+// monitor de la tabla, vuelven a comprobar y publican el nuevo umbral y una copia del top,
+// así que leer el top tampoco bloquea.
+public class TablaTopKConcurrente {
+
+    // ================ ATRIBUTOS ================
+    private final TablaTopK top;
+    // Long.MIN_VALUE mientras haya lugar: cualquier puntaje entra
+    private volatile long umbral = Long.MIN_VALUE;
+    private volatile List<EntradaPuntuacion> vista = List.of();
+
+    // ================ CONSTRUCTOR ================
+    public TablaTopKConcurrente(int capacidad) {
+        this.top = new TablaTopK(capacidad);
+    }
+
+    // ================ CONSULTAS ================
+    public int getCapacidad() {
+        return top.getCapacidad();
+    }
+
+    public boolean califica(int puntaje) {
+        return puntaje > umbral;
+    }
+
+    public List<EntradaPuntuacion> ordenadas() {
+        return vista;
+    }
+
+    // ================ MODIFICACIÓN ================
+    public boolean ofrecer(EntradaPuntuacion entrada) {
+        if (!califica(entrada.getPuntaje())) {
+            return false;
+        }
+        synchronized (this) {
+            // Otro hilo pudo subir el umbral entre la lectura y el bloqueo
+            if (!top.ofrecer(entrada)) {
+                return false;
+            }
+            umbral = top.estaLlena() ? top.getUmbral() : Long.MIN_VALUE;
+            vista = List.copyOf(top.ordenadas());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package Modelo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+// Top K de los últimos N días. Cada día tiene su propia cubeta con su top K, y la ventana
+// mantiene además el top K combinado, así que leerla cuesta lo mismo que leer el histórico.
+// Cuando un día sale de la ventana se descarta su cubeta entera y el combinado se rehace con
+// las cubetas que quedan (a lo sumo N * K entradas), sin recorrer ninguna partida vieja.
+final class VentanaPuntuaciones {
+
+    // ================ ATRIBUTOS ================
+    private final int dias;
+    private final int capacidad;
+    // De la más vieja a la más nueva
+    private final ArrayDeque<Cubeta> cubetas = new ArrayDeque<>();
+    private TablaTopK combinada;
+
+    private static final class Cubeta {
+        final long dia;
+        final TablaTopK top;
+
+        Cubeta(long dia, int capacidad) {
+            this.dia = dia;
+            this.top = new TablaTopK(capacidad);
+        }
+    }
+
+    // ================ CONSTRUCTOR ================
+    VentanaPuntuaciones(int dias, int capacidad) {
+        if (dias <= 0) {
+            throw new IllegalArgumentException("La ventana debe abarcar al menos un día: " + dias);
+        }
+        this.dias = dias;
+        this.capacidad = capacidad;
+        this.combinada = new TablaTopK(capacidad);
+    }
+
+    // ================ MODIFICACIÓN ================
+    // 'dia' es el día de la entrada y 'hoy' el actual, ambos como días desde la época
+    void registrar(EntradaPuntuacion entrada, long dia, long hoy) {
+        avanzar(hoy);
+        if (dia <= hoy - dias || dia > hoy) {
+            return; // Fuera de la ventana
+        }
+        Cubeta cubeta = cubetaDe(dia);
+        if (cubeta.top.ofrecer(entrada)) {
+            // Solo puede entrar al combinado lo que entró al top de su día
+            combinada.ofrecer(entrada);
+        }
+    }
+
+    // Descarta los días que quedaron fuera de la ventana
+    void avanzar(long hoy) {
+        boolean descartadas = false;
+        while (!cubetas.isEmpty() && cubetas.peekFirst().dia <= hoy - dias) {
+            cubetas.pollFirst();
+            descartadas = true;
+        }
+        if (descartadas) {
+            combinada = new TablaTopK(capacidad);
+            for (Cubeta cubeta : cubetas) {
+                combinada.ofrecerTodas(cubeta.top.ordenadas());
+            }
+        }
+    }
+
+    // ================ CONSULTAS ================
+    List<EntradaPuntuacion> top(long hoy) {
+        avanzar(hoy);
+        return combinada.ordenadas();
+    }
+
+    // Peor puntaje del top de ese día, o Integer.MIN_VALUE si todavía hay lugar
+    int umbralDelDia(long dia) {
+        Cubeta ultima = cubetas.peekLast();
+        if (ultima != null && ultima.dia == dia) {
+            return ultima.top.getUmbral();
+        }
+        for (Cubeta cubeta : cubetas) {
+            if (cubeta.dia == dia) {
+                return cubeta.top.getUmbral();
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    // Lo que hace falta guardar para reconstruir la ventana: el top de cada día
+    List<EntradaPuntuacion> entradas() {
+        List<EntradaPuntuacion> todas = new ArrayList<>();
+        for (Cubeta cubeta : cubetas) {
+            todas.addAll(cubeta.top.ordenadas());
+        }
+        return todas;
+    }
+
+    private Cubeta cubetaDe(long dia) {
+        // Las partidas llegan casi siempre en orden: la cubeta es la última o hay que crearla al final
+        Cubeta ultima = cubetas.peekLast();
+        if (ultima != null && ultima.dia == dia) {
+            return ultima;
+        }
+        if (ultima == null || ultima.dia < dia) {
+            Cubeta nueva = new Cubeta(dia, capacidad);
+            cubetas.addLast(nueva);
+            return nueva;
+        }
+        // Un día anterior (registro de otro proceso que llegó tarde): se inserta en su lugar
+        List<Cubeta> siguientes = new ArrayList<>();
+        while (!cubetas.isEmpty() && cubetas.peekLast().dia > dia) {
+            siguientes.add(0, cubetas.pollLast());
+        }
+        Cubeta cubeta = !cubetas.isEmpty() && cubetas.peekLast().dia == dia ? cubetas.peekLast() : null;
+        if (cubeta == null) {
+            cubeta = new Cubeta(dia, capacidad);
+            cubetas.addLast(cubeta);
+        }
+        cubetas.addAll(siguientes);
+        return cubeta;
+    }
+}
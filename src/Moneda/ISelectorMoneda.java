@@ -0,0 +1,8 @@
+package Moneda;
+
+import Jugador.Jugador;
+
+public interface ISelectorMoneda {
+
+    Lado elegirLado(Jugador jugador);
+}
@@ -1,31 +1,17 @@
-import EfectosEspeciales.TipoEfecto;
 import Exceptions.*;
 import Jugador.Jugador;
 import Jugador.Revolver;
+import Carta.IMazo;
 import Carta.Mazo;
 import Carta.Carta;
 import EfectosEspeciales.GestorEfectos;
-import Moneda.Moneda;
-import Moneda.Lado;
 import Modelo.ResultadoApuesta;
+import Modelo.ResultadoCompacto;
 
-import java.util.Scanner;
+import java.util.random.RandomGenerator;
 
 public class Partida implements IPartida {
     
-    
-    private static class InfoEfecto {
-        String tipoEfecto;
-        String descripcion;
-        String resultado;
-        
-        InfoEfecto(String tipoEfecto, String descripcion, String resultado) {
-            this.tipoEfecto = tipoEfecto;
-            this.descripcion = descripcion;
-            this.resultado = resultado;
-        }
-    }
-    
     // ================ CONSTANTES ================
     
     private static final int MAX_JUGADORES = 2;
@@ -59,22 +45,48 @@ public class Partida implements IPartida {
     private final ModoJuego modoJuego;
     
     
-    private final Scanner scanner;
+    private IProveedorDecisiones proveedorDecisiones;
+    
+    
+    // Única fuente de azar de la partida: mazo, revólveres, moneda y efectos la comparten
+    private final RandomGenerator random;
 
     // ================ CONSTRUCTORES ================
     
     
     public Partida(ModoJuego modo) {
+        this(modo, new DecisionesConsola());
+    }
+
+    
+    public Partida(ModoJuego modo, IProveedorDecisiones proveedorDecisiones) {
+        this(modo, proveedorDecisiones, GeneradorAleatorio.crear());
+    }
+
+    
+    public Partida(ModoJuego modo, IProveedorDecisiones proveedorDecisiones, long semilla) {
+        this(modo, proveedorDecisiones, GeneradorAleatorio.crear(semilla));
+    }
+
+    
+    public Partida(ModoJuego modo, IProveedorDecisiones proveedorDecisiones, RandomGenerator random) {
         if (modo == null) {
             throw new NullPointerException("El modo de juego no puede ser null");
         }
+        if (proveedorDecisiones == null) {
+            throw new NullPointerException("El proveedor de decisiones no puede ser null");
+        }
+        if (random == null) {
+            throw new NullPointerException("El generador aleatorio no puede ser null");
+        }
         this.estado = Estado.NO_INICIADO;
         this.jugador1 = null;
         this.jugador2 = null;
         this.turnosContador = TURNO_INICIAL;
         this.cartaActual = null;
         this.modoJuego = modo;
-        this.scanner = new Scanner(System.in);
+        this.proveedorDecisiones = proveedorDecisiones;
+        this.random = random;
     }
 
     
@@ -100,6 +112,11 @@ public class Partida implements IPartida {
     }
 
     
+    public IMazo getMazo() {
+        return mazo;
+    }
+
+    
     public Carta getCartaActual() {
         return cartaActual;
     }
@@ -122,6 +139,24 @@ public class Partida implements IPartida {
     }
 
     
+    public RandomGenerator getGeneradorAleatorio() {
+        return random;
+    }
+
+    
+    public IProveedorDecisiones getProveedorDecisiones() {
+        return proveedorDecisiones;
+    }
+
+    
+    public void setProveedorDecisiones(IProveedorDecisiones proveedorDecisiones) {
+        if (proveedorDecisiones == null) {
+            throw new IllegalArgumentException("El proveedor de decisiones no puede ser null");
+        }
+        this.proveedorDecisiones = proveedorDecisiones;
+    }
+
+    
     public String agregarJugador(String nombre) throws JugadoresCompletosException {
         // Validar nombre
         if (nombre == null || nombre.trim().isEmpty()) {
@@ -142,7 +177,7 @@ public class Partida implements IPartida {
 
     
     private Jugador crearJugadorConRevolver(String nombre) {
-        Revolver revolver = new Revolver();
+        Revolver revolver = new Revolver(random);
         revolver.setBalas(modoJuego.getBalasIniciales());
         return new Jugador(nombre, revolver, modoJuego.getVidasIniciales());
     }
@@ -163,7 +198,7 @@ public class Partida implements IPartida {
         // Crear mazo según el modo de juego
         // En modo SOLO solo se incluyen efectos que no requieren segundo jugador
         boolean esModo2v2 = !esModoSolo();
-        this.mazo = Mazo.crearMazoEstandar(modoJuego.getProbabilidadEspeciales(), esModo2v2);
+        this.mazo = Mazo.crearMazoEstandar(modoJuego.getProbabilidadEspeciales(), esModo2v2, random);
 
         // Robar la carta inicial
         this.cartaActual = mazo.robarCarta();
@@ -220,8 +255,42 @@ public class Partida implements IPartida {
     }
 
     
+    public ResultadoApuesta procesarApuesta(Jugador jugador)
+            throws PartidaNoIniciadaException, CartaNulaException {
+        if (jugador == null) {
+            throw new IllegalArgumentException("El jugador no puede ser null");
+        }
+        validarPartidaActiva();
+
+        // La apuesta la decide el proveedor (consola, bot o guion)
+        TipoApuesta apuesta = proveedorDecisiones.elegirApuesta(jugador, cartaActual);
+        return procesarApuesta(jugador, apuesta);
+    }
+
+    
     public ResultadoApuesta procesarApuesta(Jugador jugador, TipoApuesta apuesta)
             throws PartidaNoIniciadaException, CartaNulaException {
+        long codigo = procesarApuestaCompacta(jugador, apuesta);
+        // Los textos del efecto se generan recién cuando la vista los pide
+        Jugador oponente = determinarOponente(jugador);
+        return new ResultadoApuesta(codigo, jugador.getNombre(),
+                oponente != null ? oponente.getNombre() : null, apuesta.toString());
+    }
+
+    
+    public long procesarApuestaCompacta(Jugador jugador)
+            throws PartidaNoIniciadaException, CartaNulaException {
+        if (jugador == null) {
+            throw new IllegalArgumentException("El jugador no puede ser null");
+        }
+        validarPartidaActiva();
+        return procesarApuestaCompacta(jugador, proveedorDecisiones.elegirApuesta(jugador, cartaActual));
+    }
+
+    
+    // Camino sin asignaciones: el resultado queda empaquetado en un long (ver Modelo.ResultadoCompacto)
+    public long procesarApuestaCompacta(Jugador jugador, TipoApuesta apuesta)
+            throws PartidaNoIniciadaException, CartaNulaException {
         // Validar parámetros
         if (jugador == null || apuesta == null) {
             throw new IllegalArgumentException("El jugador y la apuesta no pueden ser null");
@@ -265,40 +334,30 @@ public class Partida implements IPartida {
     }
 
     
-    private ResultadoApuesta procesarAcierto(Carta carta, Jugador jugador,
-                                             Carta cartaAnterior, TipoApuesta apuesta) {
-        if (carta.tieneEfecto()) {
-            InfoEfecto infoEfecto = manejarEfectoDeCarta(carta, jugador);
-            return new ResultadoApuesta(
-                true,  // acertó
-                false, // no hubo impacto (acertó)
-                jugador.getVidas(),
-                jugador.getNombre(),
-                cartaAnterior,
-                carta,
-                apuesta.toString(),
-                infoEfecto.tipoEfecto,
-                infoEfecto.descripcion,
-                infoEfecto.resultado,
-                esModoSolo()
-            );
-        } else {
-            return new ResultadoApuesta(
-                true,  // acertó
-                false, // no hubo impacto
-                jugador.getVidas(),
-                jugador.getNombre(),
-                cartaAnterior,
-                carta,
-                apuesta.toString(),
-                esModoSolo()
-            );
-        }
+    private long codificarResultado(boolean acerto, boolean huboImpacto, Jugador jugador,
+                                    Carta cartaAnterior, Carta nuevaCarta, TipoApuesta apuesta) {
+        return ResultadoCompacto.codificar(
+            acerto,
+            huboImpacto,
+            jugador.getVidas(),
+            jugador == jugador2,
+            apuesta.ordinal(),
+            cartaAnterior,
+            nuevaCarta,
+            esModoSolo()
+        );
     }
 
     
-    private ResultadoApuesta procesarFallo(Jugador jugador, Carta cartaAnterior,
-                                           Carta nuevaCarta, TipoApuesta apuesta) {
+    private long procesarAcierto(Carta carta, Jugador jugador,
+                                 Carta cartaAnterior, TipoApuesta apuesta) {
+        long camposEfecto = carta.tieneEfecto() ? manejarEfectoDeCarta(carta, jugador) : 0L;
+        return codificarResultado(true, false, jugador, cartaAnterior, carta, apuesta) | camposEfecto;
+    }
+
+    
+    private long procesarFallo(Jugador jugador, Carta cartaAnterior,
+                               Carta nuevaCarta, TipoApuesta apuesta) {
         if (esModoSolo()) {
             return procesarFalloModoSolo(jugador, cartaAnterior, nuevaCarta, apuesta);
         } else {
@@ -307,26 +366,18 @@ public class Partida implements IPartida {
     }
 
     
-    private ResultadoApuesta procesarFalloModoSolo(Jugador jugador, Carta cartaAnterior,
-                                                   Carta nuevaCarta, TipoApuesta apuesta) {
+    private long procesarFalloModoSolo(Jugador jugador, Carta cartaAnterior,
+                                       Carta nuevaCarta, TipoApuesta apuesta) {
         jugador.perderVida();
         this.estado = Estado.FINALIZADO;
         
-        return new ResultadoApuesta(
-            false, // falló
-            true,  // hubo impacto (modo SOLO siempre impacta)
-            jugador.getVidas(),
-            jugador.getNombre(),
-            cartaAnterior,
-            nuevaCarta,
-            apuesta.toString(),
-            true  // es modo SOLO
-        );
+        // Modo SOLO siempre impacta
+        return codificarResultado(false, true, jugador, cartaAnterior, nuevaCarta, apuesta);
     }
     
     
-    private ResultadoApuesta procesarFalloMultijugador(Jugador jugador, Carta cartaAnterior,
-                                                       Carta nuevaCarta, TipoApuesta apuesta) {
+    private long procesarFalloMultijugador(Jugador jugador, Carta cartaAnterior,
+                                           Carta nuevaCarta, TipoApuesta apuesta) {
         boolean hayBala = jugador.getRevolver().girarYDisparar();
         
         if (hayBala) {
@@ -338,42 +389,27 @@ public class Partida implements IPartida {
             jugador.getRevolver().cargarBala();
         }
         
-        return new ResultadoApuesta(
-            false,  // falló
-            hayBala, // si hubo impacto
-            jugador.getVidas(),
-            jugador.getNombre(),
-            cartaAnterior,
-            nuevaCarta,
-            apuesta.toString(),
-            false  // no es modo SOLO
-        );
-    }    
-    private InfoEfecto manejarEfectoDeCarta(Carta carta, Jugador jugador) 
+        return codificarResultado(false, hayBala, jugador, cartaAnterior, nuevaCarta, apuesta);
+    }
+
+    
+    private long manejarEfectoDeCarta(Carta carta, Jugador jugador) 
             throws CartaNulaException, EfectoInvalidoException {
         // Validar carta
         if (carta == null) {
             throw new CartaNulaException("LA CARTA ESPECIAL ES NULA");
         }
-        
-        // Obtener información del efecto
-        TipoEfecto tipoEfecto = carta.getEfecto().getTipoEfecto();
-        String descripcion = GestorEfectos.obtenerDescripcionEfecto(tipoEfecto);
 
         // Determinar oponente (null en modo SOLO)
         Jugador oponente = determinarOponente(jugador);
         
-        // Aplicar efecto según su tipo
-        String resultadoEfecto = aplicarEfectoSegunTipo(carta, jugador, oponente);
+        // Aplicar efecto: los neutrales sin moneda, el resto consulta al proveedor CARA/CRUZ
+        long camposEfecto = GestorEfectos.aplicarEfectoCompacto(carta, jugador, oponente, proveedorDecisiones, random);
 
         // Verificar si el efecto terminó la partida
         verificarFinalizacionPorEfecto();
         
-        return new InfoEfecto(
-            tipoEfecto.toString(),
-            descripcion,
-            resultadoEfecto
-        );
+        return camposEfecto;
     }
 
     
@@ -394,44 +430,6 @@ public class Partida implements IPartida {
         return (jugador == jugador1) ? jugador2 : jugador1;
     }
 
-    
-    private String aplicarEfectoSegunTipo(Carta carta, Jugador jugador, Jugador oponente) 
-            throws EfectoInvalidoException {
-        TipoEfecto tipo = carta.getEfecto().getTipoEfecto();
-        
-        // Efectos neutrales se aplican sin moneda
-        if (esEfectoNeutral(tipo)) {
-            return aplicarEfectoNeutral(carta, jugador, oponente);
-        } else {
-            return aplicarEfectoConMoneda(carta, jugador, oponente);
-        }
-    }
-
-    
-    private boolean esEfectoNeutral(TipoEfecto tipo) {
-        return tipo == TipoEfecto.SABOTAJE || tipo == TipoEfecto.CAOS;
-    }
-
-    
-    private String aplicarEfectoNeutral(Carta carta, Jugador jugador, Jugador oponente) 
-            throws EfectoInvalidoException {
-        try {
-            return GestorEfectos.aplicarEfectoDeCarta(carta, jugador, oponente, null);
-        } catch (EfectoInvalidoException e) {
-            return "ERROR: " + e.getMessage();
-        }
-    }
-    
-    
-    private String aplicarEfectoConMoneda(Carta carta, Jugador jugador, Jugador oponente) 
-            throws EfectoInvalidoException {
-        Lado eleccionMoneda = Moneda.solicitarEleccion(jugador, scanner);
-        try {
-            return GestorEfectos.aplicarEfectoDeCarta(carta, jugador, oponente, eleccionMoneda);
-        } catch (EfectoInvalidoException e) {
-            return "ERROR: " + e.getMessage();
-        }
-    }    
     private void verificarFinalizacionPorEfecto() {
         if (esModoSolo()) {
             // En modo SOLO verificar solo jugador1
@@ -493,7 +491,7 @@ public class Partida implements IPartida {
     
     private TipoApuesta generarApuestaAleatoria() {
         TipoApuesta[] opciones = {TipoApuesta.MAYOR, TipoApuesta.MENOR};
-        return opciones[(int) (Math.random() * opciones.length)];
+        return opciones[random.nextInt(opciones.length)];
     }
 
     
@@ -0,0 +1,209 @@
+import EfectosEspeciales.TipoEfecto;
+
+public class ResultadoSimulacion {
+
+    // ================ ATRIBUTOS ================
+
+    private final ModoJuego modo;
+
+
+    private final long partidas;
+
+
+    private final long victoriasJugador1;
+
+
+    private final long victoriasJugador2;
+
+
+    private final long partidasInconclusas;
+
+
+    private final long partidasEmpatadas;
+
+
+    private final long turnosTotales;
+
+
+    private final int turnosMaximo;
+
+
+    private final long aciertos;
+
+
+    private final int rachaMaxima;
+
+
+    private final long impactos;
+
+
+    private final long vidasPerdidas;
+
+
+    private final long[] efectos;
+
+
+    private final long semillaRaiz;
+
+
+    private final long semillaTurnosMaximo;
+
+
+    private final long semillaRachaMaxima;
+
+    // ================ CONSTRUCTORES ================
+
+
+    ResultadoSimulacion(ModoJuego modo, long partidas, long victoriasJugador1, long victoriasJugador2,
+                        long partidasInconclusas, long partidasEmpatadas, long turnosTotales, int turnosMaximo, long aciertos,
+                        int rachaMaxima, long impactos, long vidasPerdidas, long[] efectos,
+                        long semillaRaiz, long semillaTurnosMaximo, long semillaRachaMaxima) {
+        this.modo = modo;
+        this.partidas = partidas;
+        this.victoriasJugador1 = victoriasJugador1;
+        this.victoriasJugador2 = victoriasJugador2;
+        this.partidasInconclusas = partidasInconclusas;
+        this.partidasEmpatadas = partidasEmpatadas;
+        this.turnosTotales = turnosTotales;
+        this.turnosMaximo = turnosMaximo;
+        this.aciertos = aciertos;
+        this.rachaMaxima = rachaMaxima;
+        this.impactos = impactos;
+        this.vidasPerdidas = vidasPerdidas;
+        this.efectos = efectos;
+        this.semillaRaiz = semillaRaiz;
+        this.semillaTurnosMaximo = semillaTurnosMaximo;
+        this.semillaRachaMaxima = semillaRachaMaxima;
+    }
+
+    // ================ GETTERS ================
+
+    public ModoJuego getModo() {
+        return modo;
+    }
+
+    public long getPartidas() {
+        return partidas;
+    }
+
+    public long getVictoriasJugador1() {
+        return victoriasJugador1;
+    }
+
+    public long getVictoriasJugador2() {
+        return victoriasJugador2;
+    }
+
+    // Partidas cortadas al llegar a Simulador.MAX_TURNOS_POR_PARTIDA
+    public long getPartidasInconclusas() {
+        return partidasInconclusas;
+    }
+
+    public long getPartidasEmpatadas() {
+        return partidasEmpatadas;
+    }
+
+    public long getTurnosTotales() {
+        return turnosTotales;
+    }
+
+    public int getTurnosMaximo() {
+        return turnosMaximo;
+    }
+
+    public long getAciertos() {
+        return aciertos;
+    }
+
+    public int getRachaMaxima() {
+        return rachaMaxima;
+    }
+
+    public long getImpactos() {
+        return impactos;
+    }
+
+    public long getVidasPerdidas() {
+        return vidasPerdidas;
+    }
+
+    public long getConteoEfecto(TipoEfecto tipo) {
+        return efectos[tipo.ordinal()];
+    }
+
+    // Con Simulador.simular(modo, partidas, semillaRaiz) se repite la simulación completa
+    public long getSemillaRaiz() {
+        return semillaRaiz;
+    }
+
+    // Semilla de la partida más larga, para Simulador.reproducirPartida
+    public long getSemillaTurnosMaximo() {
+        return semillaTurnosMaximo;
+    }
+
+    // Semilla de la partida con más aciertos (la racha máxima en modo SOLO)
+    public long getSemillaRachaMaxima() {
+        return semillaRachaMaxima;
+    }
+
+    // ================ MÉTRICAS DERIVADAS ================
+
+
+    public double getTasaVictoriaJugador1() {
+        return proporcion(victoriasJugador1, partidas);
+    }
+
+
+    public double getTasaVictoriaJugador2() {
+        return proporcion(victoriasJugador2, partidas);
+    }
+
+
+    public double getTurnosPromedio() {
+        return proporcion(turnosTotales, partidas);
+    }
+
+
+    public double getVidasPerdidasPromedio() {
+        return proporcion(vidasPerdidas, partidas);
+    }
+
+
+    public double getRachaPromedio() {
+        // En modo SOLO la racha es la cantidad de aciertos antes del primer fallo
+        return proporcion(aciertos, partidas);
+    }
+
+
+    private static double proporcion(long parte, long total) {
+        return total == 0 ? 0.0 : (double) parte / total;
+    }
+
+    // ================ MÉTODOS DE OBJECT ================
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(modo.name()).append(": ").append(partidas).append(" partidas");
+        if (modo == ModoJuego.SOLO) {
+            sb.append(String.format(" | racha promedio %.3f | racha máxima %d", getRachaPromedio(), rachaMaxima));
+        } else {
+            sb.append(String.format(" | J1 %.2f%% | J2 %.2f%% | empates %d",
+                    getTasaVictoriaJugador1() * 100, getTasaVictoriaJugador2() * 100, partidasEmpatadas));
+        }
+        if (partidasInconclusas > 0) {
+            sb.append(" | inconclusas ").append(partidasInconclusas);
+        }
+        sb.append(String.format(" | turnos promedio %.2f (máx %d) | vidas perdidas promedio %.3f",
+                getTurnosPromedio(), turnosMaximo, getVidasPerdidasPromedio()));
+        sb.append(" | semilla ").append(semillaRaiz);
+        sb.append(" | efectos {");
+        TipoEfecto[] tipos = TipoEfecto.values();
+        for (int i = 0; i < tipos.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(tipos[i]).append('=').append(efectos[i]);
+        }
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,158 @@
+package Servidor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Difusión de una mesa a muchos espectadores. Los cuadros van a un único anillo compartido y la
+// cabeza (la secuencia del próximo cuadro) es volatile: publicar cuesta lo mismo con uno que con
+// diez mil espectadores. Cada suscripción es solo un cursor sobre el anillo; quien entrega (el hilo
+// del selector) lo avanza y ahí aplica la política de desborde. Un cursor que se queda más atrás
+// que el anillo pierde lo que se pisó.
+//
+// Los bytes se codifican una sola vez, en rebanadas de una losa directa grande: el socket los
+// escribe sin copia intermedia y no se pide memoria directa por cuadro. Una losa llena no se
+// reutiliza, se suelta y el GC la libera cuando ya nadie apunta a sus cuadros
+public final class CanalEspectadores {
+
+    // ================ CONSTANTES ================
+    private static final int CAPACIDAD_ANILLO_POR_DEFECTO = 1024;
+    private static final int TAMANIO_LOSA = 256 * 1024;
+
+    // ================ ATRIBUTOS ================
+    private final Cuadro[] anillo;
+    private final int mascara;
+
+    // Secuencia del próximo cuadro; todo lo anterior ya está en el anillo
+    private volatile long cabeza;
+
+    private final AtomicInteger suscriptores = new AtomicInteger();
+
+    // Quienes entregan (los servidores): se enteran de que hay cuadros nuevos, no de a quién darlos.
+    // Cambia solo al iniciar o cerrar un servidor
+    private volatile Runnable[] avisos = new Runnable[0];
+
+    // Solo bajo el monitor del canal, como la escritura del anillo
+    private ByteBuffer losa = ByteBuffer.allocateDirect(0);
+
+    // ================ CONSTRUCTORES ================
+    public CanalEspectadores() {
+        this(CAPACIDAD_ANILLO_POR_DEFECTO);
+    }
+
+    // 'capacidadAnillo': cuántos cuadros recientes se conservan; acota la cola de cada espectador
+    public CanalEspectadores(int capacidadAnillo) {
+        if (capacidadAnillo <= 0 || Integer.bitCount(capacidadAnillo) != 1) {
+            throw new IllegalArgumentException("La capacidad del anillo debe ser una potencia de dos: " + capacidadAnillo);
+        }
+        this.anillo = new Cuadro[capacidadAnillo];
+        this.mascara = capacidadAnillo - 1;
+    }
+
+    // ================ SUSCRIPCIONES ================
+    // El que llega tarde arranca con el último cuadro en vez de esperar al próximo turno
+    public SuscripcionEspectador suscribir(int capacidad, PoliticaDesborde politica) {
+        if (capacidad > anillo.length) {
+            throw new IllegalArgumentException("La cola de un espectador no puede superar el anillo del canal ("
+                    + anillo.length + "): " + capacidad);
+        }
+        long actual = cabeza;
+        SuscripcionEspectador suscripcion = new SuscripcionEspectador(this, capacidad, politica, Math.max(actual - 1, 0));
+        suscriptores.incrementAndGet();
+        return suscripcion;
+    }
+
+    void quitar(SuscripcionEspectador suscripcion) {
+        suscriptores.decrementAndGet();
+    }
+
+    // 'aviso' se llama desde el hilo que publica, una vez por cuadro; no debe bloquear
+    public synchronized void alPublicar(Runnable aviso) {
+        Runnable[] nuevos = Arrays.copyOf(avisos, avisos.length + 1);
+        nuevos[avisos.length] = aviso;
+        avisos = nuevos;
+    }
+
+    public synchronized void dejarDeAvisar(Runnable aviso) {
+        Runnable[] actuales = avisos;
+        for (int i = 0; i < actuales.length; i++) {
+            if (actuales[i] == aviso) {
+                Runnable[] nuevos = new Runnable[actuales.length - 1];
+                System.arraycopy(actuales, 0, nuevos, 0, i);
+                System.arraycopy(actuales, i + 1, nuevos, i, nuevos.length - i);
+                avisos = nuevos;
+                return;
+            }
+        }
+    }
+
+    // ================ PUBLICACIÓN ================
+    // Una línea de texto (un objeto JSON por línea, como lo lee nc o cualquier cliente de texto)
+    public void publicar(String linea) {
+        byte[] bytes = linea.getBytes(StandardCharsets.UTF_8);
+        synchronized (this) {
+            ByteBuffer cuadro = reservar(bytes.length + 1);
+            cuadro.put(bytes).put((byte) '\n').flip();
+            agregar(cuadro);
+        }
+        avisar();
+    }
+
+    // Toma el cuadro tal como está (de position a limit); no debe modificarse después
+    public void publicar(ByteBuffer cuadro) {
+        synchronized (this) {
+            agregar(cuadro);
+        }
+        avisar();
+    }
+
+    private void agregar(ByteBuffer cuadro) {
+        long secuencia = cabeza;
+        anillo[(int) secuencia & mascara] = new Cuadro(secuencia, cuadro.asReadOnlyBuffer());
+        cabeza = secuencia + 1;
+    }
+
+    private void avisar() {
+        for (Runnable aviso : avisos) {
+            aviso.run();
+        }
+    }
+
+    private ByteBuffer reservar(int tamanio) {
+        if (losa.remaining() < tamanio) {
+            losa = ByteBuffer.allocateDirect(Math.max(TAMANIO_LOSA, tamanio));
+        }
+        ByteBuffer rebanada = losa.slice(losa.position(), tamanio);
+        losa.position(losa.position() + tamanio);
+        return rebanada;
+    }
+
+    // ================ LECTURA (desde las suscripciones) ================
+    long getCabeza() {
+        return cabeza;
+    }
+
+    int getCapacidadAnillo() {
+        return anillo.length;
+    }
+
+    // El cuadro de esa secuencia, o null si el anillo ya lo pisó
+    ByteBuffer leer(long secuencia) {
+        Cuadro cuadro = anillo[(int) secuencia & mascara];
+        return cuadro != null && cuadro.secuencia == secuencia ? cuadro.datos : null;
+    }
+
+    // ================ CONSULTAS ================
+    public int getSuscriptores() {
+        return suscriptores.get();
+    }
+
+    public long getPublicados() {
+        return cabeza;
+    }
+
+    // Los campos finales hacen que quien lo lea del anillo, aun sin sincronizar, vea el buffer completo
+    private record Cuadro(long secuencia, ByteBuffer datos) {
+    }
+}
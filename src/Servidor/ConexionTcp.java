@@ -0,0 +1,250 @@
+package Servidor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Un cliente conectado. El selector es el único que toca el canal; la sesión (en su hilo virtual)
+// ve una entrada bloqueante y una salida que nunca bloquea, y se comunican a través de buffers
+final class ConexionTcp {
+
+    // ================ CONSTANTES ================
+    private static final int CAPACIDAD_ENTRADA = 4096;
+    private static final int CAPACIDAD_CUADRO = 4096;
+
+    // Salida acumulada sin entregar a partir de la que el cliente se considera colgado
+    static final long MAXIMO_SALIDA_PENDIENTE = 1 << 20;
+
+    // ================ ATRIBUTOS ================
+    private final ServidorJuegoTcp servidor;
+    private final SocketChannel canal;
+    private SelectionKey clave; // Solo desde el hilo del selector
+
+    // Entrada: el selector escribe en 'recibidos', la sesión lee. Protegido por 'cerrojo'
+    private final ReentrantLock cerrojo = new ReentrantLock();
+    private final Condition hayDatos = cerrojo.newCondition();
+    private final ByteBuffer recibidos = ByteBuffer.allocate(CAPACIDAD_ENTRADA);
+    private boolean finEntrada;
+
+    // Salida: la sesión arma un cuadro por flush y lo encola; el selector lo escribe cuando se puede
+    private final Queue<ByteBuffer> aEnviar = new ConcurrentLinkedQueue<>();
+    private final AtomicLong bytesPendientes = new AtomicLong();
+    private volatile boolean cerrarAlVaciar;
+    private volatile boolean forzarCierre;
+    private volatile boolean cerrada;
+
+    private final InputStream entrada = new Entrada();
+    private final OutputStream salida = new Salida();
+
+    // ================ CONSTRUCTOR ================
+    ConexionTcp(ServidorJuegoTcp servidor, SocketChannel canal) {
+        this.servidor = servidor;
+        this.canal = canal;
+    }
+
+    void registrada(SelectionKey clave) {
+        this.clave = clave;
+    }
+
+    InputStream getEntrada() {
+        return entrada;
+    }
+
+    OutputStream getSalida() {
+        return salida;
+    }
+
+    boolean estaCerrada() {
+        return cerrada;
+    }
+
+    // ================ LADO DEL SELECTOR ================
+    void alPoderLeer() throws IOException {
+        int leidos;
+        cerrojo.lock();
+        try {
+            leidos = canal.read(recibidos);
+            if (leidos < 0) {
+                finEntrada = true;
+            }
+            if (leidos != 0) {
+                hayDatos.signalAll();
+            }
+        } finally {
+            cerrojo.unlock();
+        }
+        actualizarInteres();
+    }
+
+    void alPoderEscribir() throws IOException {
+        ByteBuffer cabeza;
+        while ((cabeza = aEnviar.peek()) != null) {
+            int escritos = canal.write(cabeza);
+            bytesPendientes.addAndGet(-escritos);
+            if (cabeza.hasRemaining()) {
+                break; // El socket se llenó: se sigue cuando vuelva a estar listo
+            }
+            aEnviar.poll();
+        }
+        actualizarInteres();
+    }
+
+    // Lee de nuevo mientras haya lugar para guardar lo recibido (así el cliente que manda de más
+    // frena por TCP) y escribe mientras quede salida encolada
+    void actualizarInteres() {
+        if (cerrada || !clave.isValid()) {
+            return;
+        }
+        if (forzarCierre || (cerrarAlVaciar && aEnviar.isEmpty())) {
+            cerrar();
+            return;
+        }
+        int interes = 0;
+        cerrojo.lock();
+        try {
+            if (!finEntrada && recibidos.hasRemaining()) {
+                interes |= SelectionKey.OP_READ;
+            }
+        } finally {
+            cerrojo.unlock();
+        }
+        if (!aEnviar.isEmpty()) {
+            interes |= SelectionKey.OP_WRITE;
+        }
+        clave.interestOps(interes);
+    }
+
+    void cerrar() {
+        if (cerrada) {
+            return;
+        }
+        cerrada = true;
+        try {
+            canal.close();
+        } catch (IOException e) {
+            // Ya no hay nada que hacer con un canal que falla al cerrarse
+        }
+        // La sesión que espera entrada se entera y termina
+        cerrojo.lock();
+        try {
+            finEntrada = true;
+            hayDatos.signalAll();
+        } finally {
+            cerrojo.unlock();
+        }
+        aEnviar.clear();
+        servidor.conexionCerrada(this);
+    }
+
+    // ================ LADO DE LA SESIÓN ================
+    // Se cierra cuando termina de salir lo que la sesión ya escribió
+    void terminarSesion() {
+        cerrarAlVaciar = true;
+        servidor.pedirActualizacion(this);
+    }
+
+    // Corta sin esperar a que salga lo pendiente; el canal lo cierra el selector
+    void desconectar() {
+        forzarCierre = true;
+        servidor.pedirActualizacion(this);
+    }
+
+    private final class Entrada extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            byte[] uno = new byte[1];
+            return read(uno, 0, 1) < 0 ? -1 : uno[0] & 0xFF;
+        }
+
+        // Bloquea el hilo virtual de la sesión, no al selector
+        @Override
+        public int read(byte[] destino, int desde, int largo) throws IOException {
+            if (largo == 0) {
+                return 0;
+            }
+            boolean estabaLleno;
+            int copiados;
+            cerrojo.lock();
+            try {
+                while (recibidos.position() == 0 && !finEntrada) {
+                    hayDatos.awaitUninterruptibly();
+                }
+                if (recibidos.position() == 0) {
+                    return -1;
+                }
+                estabaLleno = !recibidos.hasRemaining();
+                recibidos.flip();
+                copiados = Math.min(largo, recibidos.remaining());
+                recibidos.get(destino, desde, copiados);
+                recibidos.compact();
+            } finally {
+                cerrojo.unlock();
+            }
+            if (estabaLleno) {
+                servidor.pedirActualizacion(ConexionTcp.this);
+            }
+            return copiados;
+        }
+
+        @Override
+        public void close() {
+            terminarSesion();
+        }
+    }
+
+    // No bloquea nunca: la sesión corre dentro de monitores (el renderizador) y no debe quedar
+    // trabada por un cliente lento. Si el cliente no lee, se lo desconecta
+    private final class Salida extends OutputStream {
+        private byte[] cuadro = new byte[CAPACIDAD_CUADRO];
+        private int largo;
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        // Los clientes de terminal (telnet, nc) esperan \r\n
+        @Override
+        public void write(byte[] origen, int desde, int cantidad) {
+            asegurarLugar(cantidad * 2);
+            for (int i = desde; i < desde + cantidad; i++) {
+                if (origen[i] == '\n') {
+                    cuadro[largo++] = '\r';
+                }
+                cuadro[largo++] = origen[i];
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (largo == 0 || cerrada) {
+                largo = 0;
+                return;
+            }
+            if (bytesPendientes.addAndGet(largo) > MAXIMO_SALIDA_PENDIENTE) {
+                desconectar();
+                largo = 0;
+                return;
+            }
+            aEnviar.add(ByteBuffer.wrap(Arrays.copyOf(cuadro, largo)));
+            largo = 0;
+            servidor.pedirActualizacion(ConexionTcp.this);
+        }
+
+        private void asegurarLugar(int adicional) {
+            if (largo + adicional > cuadro.length) {
+                cuadro = Arrays.copyOf(cuadro, Math.max(cuadro.length * 2, largo + adicional));
+            }
+        }
+    }
+}
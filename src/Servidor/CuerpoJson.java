@@ -0,0 +1,154 @@
+package Servidor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Cuerpo de una petición: un objeto JSON plano ({"modo":"CLASICO"}). Los valores se guardan como
+// texto (cadenas sin comillas, números y literales tal cual); objetos y listas anidados no se aceptan
+public final class CuerpoJson {
+
+    // ================ CONSTANTES ================
+    private static final CuerpoJson VACIO = new CuerpoJson(Map.of());
+
+    // ================ ATRIBUTOS ================
+    private final Map<String, String> valores;
+
+    private CuerpoJson(Map<String, String> valores) {
+        this.valores = valores;
+    }
+
+    // ================ CONSULTAS ================
+    public String texto(String clave) {
+        return valores.get(clave);
+    }
+
+    public String requerido(String clave) {
+        String valor = valores.get(clave);
+        if (valor == null || valor.isBlank()) {
+            throw new IllegalArgumentException("Falta el campo '" + clave + "'");
+        }
+        return valor;
+    }
+
+    // ================ LECTURA ================
+    // Un cuerpo vacío equivale a {}
+    public static CuerpoJson leer(String json) {
+        if (json == null || json.isBlank()) {
+            return VACIO;
+        }
+        return new Lector(json).objeto();
+    }
+
+    private static final class Lector {
+        private final String json;
+        private int pos;
+
+        Lector(String json) {
+            this.json = json;
+        }
+
+        CuerpoJson objeto() {
+            Map<String, String> valores = new HashMap<>();
+            esperar('{');
+            if (siguiente() == '}') {
+                pos++;
+            } else {
+                do {
+                    String clave = cadena();
+                    esperar(':');
+                    valores.put(clave, valor());
+                } while (consumirSi(','));
+                esperar('}');
+            }
+            if (siguiente() != 0) {
+                throw error("contenido después del objeto");
+            }
+            return new CuerpoJson(valores);
+        }
+
+        private String valor() {
+            char c = siguiente();
+            if (c == '"') {
+                return cadena();
+            }
+            if (c == '{' || c == '[') {
+                throw error("solo se aceptan valores simples");
+            }
+            int inicio = pos;
+            while (pos < json.length() && ",} \t\r\n".indexOf(json.charAt(pos)) < 0) {
+                pos++;
+            }
+            if (pos == inicio) {
+                throw error("falta un valor");
+            }
+            String literal = json.substring(inicio, pos);
+            return "null".equals(literal) ? null : literal;
+        }
+
+        private String cadena() {
+            esperar('"');
+            StringBuilder texto = new StringBuilder();
+            while (pos < json.length()) {
+                char c = json.charAt(pos++);
+                if (c == '"') {
+                    return texto.toString();
+                }
+                if (c != '\\') {
+                    texto.append(c);
+                    continue;
+                }
+                if (pos >= json.length()) {
+                    break;
+                }
+                char escape = json.charAt(pos++);
+                switch (escape) {
+                    case 'n' -> texto.append('\n');
+                    case 'r' -> texto.append('\r');
+                    case 't' -> texto.append('\t');
+                    case 'b' -> texto.append('\b');
+                    case 'f' -> texto.append('\f');
+                    case 'u' -> {
+                        if (pos + 4 > json.length()) {
+                            throw error("escape \\u incompleto");
+                        }
+                        try {
+                            texto.append((char) Integer.parseInt(json, pos, pos + 4, 16));
+                        } catch (NumberFormatException e) {
+                            throw error("escape \\u inválido");
+                        }
+                        pos += 4;
+                    }
+                    default -> texto.append(escape); // \" \\ \/
+                }
+            }
+            throw error("cadena sin cerrar");
+        }
+
+        private void esperar(char esperado) {
+            if (siguiente() != esperado) {
+                throw error("se esperaba '" + esperado + "'");
+            }
+            pos++;
+        }
+
+        private boolean consumirSi(char c) {
+            if (siguiente() == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        // Salta espacios y devuelve el próximo carácter sin consumirlo (0 al final)
+        private char siguiente() {
+            while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+                pos++;
+            }
+            return pos < json.length() ? json.charAt(pos) : 0;
+        }
+
+        private IllegalArgumentException error(String detalle) {
+            return new IllegalArgumentException("JSON inválido en la posición " + pos + ": " + detalle);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package Servidor;
+
+import Vista.InterfazConsola;
+
+// Arma lo que corre del lado del servidor para cada conexión, sobre la consola de esa conexión
+public interface IFabricaSesiones {
+
+    Runnable crear(InterfazConsola consola);
+}
@@ -0,0 +1,16 @@
+package Servidor;
+
+// Qué hace la cola de un espectador cuando llega un cuadro y ya está llena. Ninguna espera:
+// el que publica (el bucle de turnos) nunca queda frenado por un espectador lento
+public enum PoliticaDesborde {
+
+    // Se pierde el cuadro que llega; el espectador ve los turnos en orden pero con un hueco al final
+    DESCARTAR_NUEVO,
+
+    // Se pierde el cuadro más viejo de la cola; el espectador queda siempre cerca del presente
+    DESCARTAR_ANTIGUO,
+
+    // Se tira todo lo pendiente y queda solo el último: cada cuadro describe la mesa entera,
+    // así que alcanza con él para ponerse al día
+    COALESCER
+}
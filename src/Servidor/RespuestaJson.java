@@ -0,0 +1,182 @@
+package Servidor;
+
+import Carta.Carta;
+import Modelo.EntradaPuntuacion;
+import Modelo.EscritorPuntuacionesJson;
+import Modelo.PosicionRanking;
+import Modelo.ResultadoApuesta;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+// Respuesta JSON compacta armada de corrido sobre un único StringBuilder, sin árbol de objetos.
+// El objeto raíz se abre al crearla; terminar() cierra lo que haya quedado abierto
+public final class RespuestaJson {
+
+    // ================ CONSTANTES ================
+    private static final int CAPACIDAD_INICIAL = 256;
+    private static final int PROFUNDIDAD_MAXIMA = 8;
+
+    // ================ ATRIBUTOS ================
+    private final StringBuilder texto = new StringBuilder(CAPACIDAD_INICIAL);
+    private final char[] cierres = new char[PROFUNDIDAD_MAXIMA];
+    private final boolean[] conElementos = new boolean[PROFUNDIDAD_MAXIMA];
+    private int profundidad;
+
+    // ================ CONSTRUCTOR ================
+    public RespuestaJson() {
+        abrir('{', '}');
+    }
+
+    public static String error(String mensaje) {
+        return new RespuestaJson().campo("error", mensaje).terminar();
+    }
+
+    // ================ VALORES ================
+    public RespuestaJson campo(String nombre, String valor) {
+        nombre(nombre);
+        if (valor == null) {
+            texto.append("null");
+        } else {
+            cadena(valor);
+        }
+        return this;
+    }
+
+    public RespuestaJson campo(String nombre, long valor) {
+        nombre(nombre).append(valor);
+        return this;
+    }
+
+    public RespuestaJson campo(String nombre, boolean valor) {
+        nombre(nombre).append(valor);
+        return this;
+    }
+
+    public RespuestaJson campo(String nombre, double valor) {
+        nombre(nombre).append(valor);
+        return this;
+    }
+
+    // ================ ANIDADOS ================
+    // Con nombre dentro de un objeto, o con nombre null como elemento de una lista
+    public RespuestaJson objeto(String nombre) {
+        nombre(nombre);
+        abrir('{', '}');
+        return this;
+    }
+
+    public RespuestaJson lista(String nombre) {
+        nombre(nombre);
+        abrir('[', ']');
+        return this;
+    }
+
+    public RespuestaJson fin() {
+        if (profundidad == 1) {
+            throw new IllegalStateException("No hay objeto ni lista abiertos para cerrar");
+        }
+        texto.append(cierres[--profundidad]);
+        return this;
+    }
+
+    public String terminar() {
+        while (profundidad > 0) {
+            texto.append(cierres[--profundidad]);
+        }
+        return texto.toString();
+    }
+
+    // ================ PIEZAS DEL JUEGO ================
+    // Los textos del efecto se decodifican del código compacto solo acá, al responder
+    public RespuestaJson resultado(String nombre, ResultadoApuesta resultado) {
+        objeto(nombre)
+                .campo("jugador", resultado.getNombreJugador())
+                .campo("apuesta", resultado.getTipoApuesta())
+                .campo("acerto", resultado.acerto())
+                .campo("impacto", resultado.huboImpacto())
+                .campo("vidas", resultado.getVidasRestantes())
+                .carta("cartaAnterior", resultado.getCartaAnterior())
+                .carta("nuevaCarta", resultado.getNuevaCarta());
+        if (resultado.esCompacto()) {
+            campo("codigo", resultado.getCodigo());
+        }
+        if (resultado.tieneEfecto()) {
+            objeto("efecto")
+                    .campo("tipo", resultado.getTipoEfecto())
+                    .campo("descripcion", resultado.getDescripcionEfecto())
+                    .campo("resultado", resultado.getResultadoEfecto())
+                    .fin();
+        }
+        return fin();
+    }
+
+    public RespuestaJson carta(String nombre, Carta carta) {
+        if (carta == null) {
+            nombre(nombre).append("null");
+            return this;
+        }
+        objeto(nombre)
+                .campo("id", carta.getId())
+                .campo("valor", carta.getValor())
+                .campo("palo", carta.getPalo().name());
+        if (carta.tieneEfecto()) {
+            campo("efecto", carta.getEfecto().getTipoEfecto().name());
+        }
+        return fin();
+    }
+
+    public RespuestaJson puntuaciones(String nombre, List<EntradaPuntuacion> entradas) {
+        lista(nombre);
+        for (EntradaPuntuacion entrada : entradas) {
+            objeto(null).campo("nombre", entrada.getNombre()).campo("puntaje", entrada.getPuntaje());
+            if (entrada.tieneFecha()) {
+                campo("fecha", entrada.getFecha());
+            }
+            fin();
+        }
+        return fin();
+    }
+
+    public RespuestaJson posicion(String nombre, PosicionRanking posicion) {
+        return objeto(nombre)
+                .campo("puntaje", posicion.getPuntaje())
+                .campo("posicion", posicion.getPosicion())
+                .campo("total", posicion.getTotal())
+                .campo("percentil", posicion.getPercentil())
+                .fin();
+    }
+
+    // ================ AUXILIARES ================
+    private StringBuilder nombre(String nombre) {
+        if (conElementos[profundidad - 1]) {
+            texto.append(',');
+        }
+        conElementos[profundidad - 1] = true;
+        if (nombre != null) {
+            cadena(nombre);
+            texto.append(':');
+        }
+        return texto;
+    }
+
+    // Un StringBuilder no lanza IOException: el catch es solo por la firma de Appendable
+    private void cadena(String valor) {
+        try {
+            EscritorPuntuacionesJson.escribirTexto(texto, valor);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void abrir(char apertura, char cierre) {
+        if (profundidad == PROFUNDIDAD_MAXIMA) {
+            throw new IllegalStateException("Respuesta JSON demasiado anidada");
+        }
+        texto.append(apertura);
+        cierres[profundidad] = cierre;
+        conElementos[profundidad] = false;
+        profundidad++;
+    }
+}
@@ -0,0 +1,215 @@
+package Servidor;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Entrega un CanalEspectadores por TCP: cada conexión aceptada es un espectador con su cursor sobre
+// el anillo del canal. Publicar solo despierta al selector (una vez, aunque lleguen varios cuadros);
+// es este hilo el que recorre a los espectadores que estaban al día y les vuelve a pedir escritura.
+// Escribe con escrituras agrupadas (varios cuadros por llamada) sobre vistas de los buffers
+// compartidos. Lo que manden los espectadores se ignora
+public class ServidorEspectadores extends ServidorSelector {
+
+    // ================ CONSTANTES ================
+    // Cuadros que se intentan escribir en una sola llamada por espectador
+    private static final int LOTE_ESCRITURA = 16;
+
+    private static final int TAMANIO_DESCARTE = 256;
+
+    // ================ ATRIBUTOS ================
+    private final CanalEspectadores canal;
+    private final int capacidadCola;
+    private final PoliticaDesborde politica;
+
+    private final Set<Espectador> espectadores = ConcurrentHashMap.newKeySet();
+
+    // Evita un wakeup por cuadro: el que publica despierta al selector solo si nadie lo hizo ya
+    private final AtomicBoolean despertarPedido = new AtomicBoolean();
+    private final Runnable alPublicar = () -> {
+        if (!despertarPedido.getAndSet(true)) {
+            despertar();
+        }
+    };
+
+    // Solo los usa el hilo del selector
+    private final List<Espectador> alDia = new ArrayList<>();
+    private long cabezaVista;
+    private final ByteBuffer descarte = ByteBuffer.allocate(TAMANIO_DESCARTE);
+
+    // ================ CONSTRUCTOR ================
+    public ServidorEspectadores(InetSocketAddress direccion, CanalEspectadores canal, int capacidadCola, PoliticaDesborde politica) {
+        super(direccion, "servidor de espectadores", "deathdraw-espectadores");
+        if (direccion == null || canal == null || politica == null) {
+            throw new IllegalArgumentException("La dirección, el canal y la política no pueden ser null");
+        }
+        if (capacidadCola <= 0 || capacidadCola > canal.getCapacidadAnillo()) {
+            throw new IllegalArgumentException("La capacidad de la cola debe ser positiva y no superar el anillo del canal ("
+                    + canal.getCapacidadAnillo() + "): " + capacidadCola);
+        }
+        this.canal = canal;
+        this.capacidadCola = capacidadCola;
+        this.politica = politica;
+    }
+
+    // ================ CICLO DE VIDA ================
+    @Override
+    public synchronized void iniciar() {
+        super.iniciar();
+        canal.alPublicar(alPublicar);
+    }
+
+    @Override
+    public synchronized void close() {
+        canal.dejarDeAvisar(alPublicar);
+        super.close();
+    }
+
+    // ================ CONSULTAS ================
+    public int getEspectadores() {
+        return espectadores.size();
+    }
+
+    // Cuadros perdidos por todos los espectadores conectados, según la política de desborde
+    public long getDescartados() {
+        long total = 0;
+        for (Espectador espectador : espectadores) {
+            total += espectador.suscripcion.getDescartados();
+        }
+        return total;
+    }
+
+    // ================ LADO DEL SELECTOR ================
+    // Hubo cuadros nuevos: los que estaban al día vuelven a tener algo para escribir
+    @Override
+    void alDespertar() {
+        despertarPedido.set(false);
+        long cabeza = canal.getCabeza();
+        if (cabeza == cabezaVista) {
+            return;
+        }
+        cabezaVista = cabeza;
+        for (Espectador espectador : alDia) {
+            try {
+                espectador.pedirEscritura();
+            } catch (RuntimeException e) {
+                avisarFallo(e);
+                espectador.cerrar();
+            }
+        }
+        alDia.clear();
+    }
+
+    @Override
+    void atender(SelectionKey clave) {
+        Espectador espectador = (Espectador) clave.attachment();
+        try {
+            if (clave.isReadable()) {
+                espectador.descartarEntrada();
+            }
+            if (clave.isValid() && clave.isWritable()) {
+                espectador.escribir();
+            }
+        } catch (IOException e) {
+            espectador.cerrar();
+        }
+    }
+
+    // Arranca pidiendo escritura: puede tener ya el último cuadro publicado
+    @Override
+    void aceptada(SocketChannel socket) throws IOException {
+        Espectador espectador = new Espectador(socket, canal.suscribir(capacidadCola, politica));
+        espectador.clave = registrar(socket, SelectionKey.OP_READ | SelectionKey.OP_WRITE, espectador);
+        espectadores.add(espectador);
+    }
+
+    @Override
+    void cerrar(SelectionKey clave) {
+        ((Espectador) clave.attachment()).cerrar();
+    }
+
+    @Override
+    void cerrarConexiones() {
+        for (Espectador espectador : espectadores) {
+            espectador.cerrar();
+        }
+        alDia.clear();
+    }
+
+    // ================ ESPECTADOR ================
+    // Todo su estado lo toca solo el hilo del selector
+    private final class Espectador {
+        private final SocketChannel socket;
+        private final SuscripcionEspectador suscripcion;
+        private SelectionKey clave;
+
+        // Cuadros tomados del anillo y todavía no escritos del todo
+        private final ByteBuffer[] enVuelo = new ByteBuffer[LOTE_ESCRITURA];
+        private int primero;
+        private int cantidad;
+
+        Espectador(SocketChannel socket, SuscripcionEspectador suscripcion) {
+            this.socket = socket;
+            this.suscripcion = suscripcion;
+        }
+
+        void pedirEscritura() {
+            if (clave.isValid()) {
+                clave.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            }
+        }
+
+        void escribir() throws IOException {
+            while (true) {
+                if (cantidad == 0) {
+                    primero = 0;
+                    cantidad = suscripcion.tomar(enVuelo, 0, LOTE_ESCRITURA);
+                    if (cantidad == 0) {
+                        // Al día: se deja de pedir escritura hasta que el canal avise de cuadros nuevos
+                        clave.interestOps(SelectionKey.OP_READ);
+                        alDia.add(this);
+                        return;
+                    }
+                }
+                socket.write(enVuelo, primero, cantidad);
+                while (cantidad > 0 && !enVuelo[primero].hasRemaining()) {
+                    enVuelo[primero++] = null;
+                    cantidad--;
+                }
+                if (cantidad > 0) {
+                    return; // El socket se llenó: se sigue cuando vuelva a estar listo
+                }
+            }
+        }
+
+        void descartarEntrada() throws IOException {
+            int leidos;
+            do {
+                descarte.clear();
+                leidos = socket.read(descarte);
+            } while (leidos > 0);
+            if (leidos < 0) {
+                cerrar();
+            }
+        }
+
+        void cerrar() {
+            if (!espectadores.remove(this)) {
+                return;
+            }
+            suscripcion.cancelar();
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Ya no hay nada que hacer con un canal que falla al cerrarse
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package Servidor;
+
+import Vista.InterfazConsola;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Servidor TCP de texto: cada conexión es una mesa con su propia sesión de juego.
+// Un único hilo con un Selector hace toda la E/S de red sin bloquear; las sesiones, que leen la
+// consola de forma bloqueante, corren cada una en un hilo virtual. Así miles de mesas ocupan unos
+// pocos hilos de plataforma (el selector y los portadores de los hilos virtuales)
+public class ServidorJuegoTcp extends ServidorSelector {
+
+    // ================ ATRIBUTOS ================
+    private final IFabricaSesiones fabrica;
+
+    // Conexiones cuyo interés hay que recalcular; las sesiones no pueden tocar las claves directamente
+    private final Queue<ConexionTcp> pendientes = new ConcurrentLinkedQueue<>();
+    private final Set<ConexionTcp> conexiones = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong sesionesCreadas = new AtomicLong();
+    private final AtomicLong sesionesActivas = new AtomicLong();
+
+    // ================ CONSTRUCTOR ================
+    // Con puerto 0 el sistema elige uno libre (ver getPuerto), útil para probar por loopback
+    public ServidorJuegoTcp(InetSocketAddress direccion, IFabricaSesiones fabrica) {
+        super(direccion, "servidor", "deathdraw-selector");
+        if (direccion == null || fabrica == null) {
+            throw new IllegalArgumentException("La dirección y la fábrica de sesiones no pueden ser null");
+        }
+        this.fabrica = fabrica;
+    }
+
+    // ================ CONSULTAS ================
+    public int getConexionesAbiertas() {
+        return conexiones.size();
+    }
+
+    public long getSesionesActivas() {
+        return sesionesActivas.get();
+    }
+
+    public long getSesionesCreadas() {
+        return sesionesCreadas.get();
+    }
+
+    // ================ LADO DEL SELECTOR ================
+    @Override
+    void alDespertar() {
+        ConexionTcp conexion;
+        while ((conexion = pendientes.poll()) != null) {
+            try {
+                conexion.actualizarInteres();
+            } catch (RuntimeException e) {
+                avisarFallo(e);
+                conexion.cerrar();
+            }
+        }
+    }
+
+    @Override
+    void atender(SelectionKey clave) {
+        ConexionTcp conexion = (ConexionTcp) clave.attachment();
+        try {
+            if (clave.isReadable()) {
+                conexion.alPoderLeer();
+            }
+            if (clave.isValid() && clave.isWritable()) {
+                conexion.alPoderEscribir();
+            }
+        } catch (IOException e) {
+            // El cliente cortó de golpe (reset): se libera la mesa
+            conexion.cerrar();
+        }
+    }
+
+    @Override
+    void aceptada(SocketChannel canal) throws IOException {
+        ConexionTcp conexion = new ConexionTcp(this, canal);
+        conexion.registrada(registrar(canal, SelectionKey.OP_READ, conexion));
+        conexiones.add(conexion);
+        iniciarSesion(conexion);
+    }
+
+    @Override
+    void cerrar(SelectionKey clave) {
+        ((ConexionTcp) clave.attachment()).cerrar();
+    }
+
+    // Corta las conexiones abiertas: sus sesiones ven la entrada cerrada y terminan solas
+    @Override
+    void cerrarConexiones() {
+        for (ConexionTcp conexion : conexiones) {
+            conexion.cerrar();
+        }
+    }
+
+    private void iniciarSesion(ConexionTcp conexion) {
+        long numero = sesionesCreadas.incrementAndGet();
+        sesionesActivas.incrementAndGet();
+        Thread.ofVirtual().name("deathdraw-sesion-" + numero).start(() -> {
+            InterfazConsola consola = new InterfazConsola(conexion.getEntrada(), conexion.getSalida(), StandardCharsets.UTF_8);
+            try {
+                fabrica.crear(consola).run();
+            } catch (RuntimeException e) {
+                System.err.println("La sesión " + numero + " terminó con error: " + e);
+            } finally {
+                consola.cerrar();
+                conexion.terminarSesion();
+                sesionesActivas.decrementAndGet();
+            }
+        });
+    }
+
+    // ================ AVISOS DESDE LAS CONEXIONES ================
+    void pedirActualizacion(ConexionTcp conexion) {
+        pendientes.add(conexion);
+        despertar();
+    }
+
+    void conexionCerrada(ConexionTcp conexion) {
+        conexiones.remove(conexion);
+    }
+}
@@ -0,0 +1,186 @@
+package Servidor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+
+// Lo común a los servidores TCP no bloqueantes: abrir el puerto, un único hilo con un Selector que
+// acepta y atiende, y el cierre ordenado. Cada servidor decide qué hacer con una conexión aceptada
+// y con sus claves listas; todo eso corre en el hilo del selector
+abstract class ServidorSelector implements AutoCloseable {
+
+    // ================ CONSTANTES ================
+    private static final int CONEXIONES_EN_ESPERA = 1024;
+
+    // ================ ATRIBUTOS ================
+    private final InetSocketAddress direccion;
+    private final String nombre;
+    private final String nombreHilo;
+
+    private Selector selector;
+    private ServerSocketChannel aceptador;
+    private Thread hiloSelector;
+    private volatile boolean activo;
+
+    // ================ CONSTRUCTOR ================
+    // 'nombre' aparece en los mensajes ("servidor", "servidor de espectadores")
+    ServidorSelector(InetSocketAddress direccion, String nombre, String nombreHilo) {
+        this.direccion = direccion;
+        this.nombre = nombre;
+        this.nombreHilo = nombreHilo;
+    }
+
+    // ================ CICLO DE VIDA ================
+    public synchronized void iniciar() {
+        if (activo) {
+            throw new IllegalStateException("El " + nombre + " ya está iniciado");
+        }
+        try {
+            selector = Selector.open();
+            aceptador = ServerSocketChannel.open();
+            aceptador.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            aceptador.bind(direccion, CONEXIONES_EN_ESPERA);
+            aceptador.configureBlocking(false);
+            aceptador.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el " + nombre + " en " + direccion, e);
+        }
+        activo = true;
+        hiloSelector = Thread.ofPlatform().name(nombreHilo).start(this::bucle);
+    }
+
+    // Primero se detiene el selector y después se cortan las conexiones: ninguna queda a medio atender
+    @Override
+    public synchronized void close() {
+        if (!activo) {
+            return;
+        }
+        activo = false;
+        selector.wakeup();
+        try {
+            hiloSelector.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        cerrarConexiones();
+        try {
+            aceptador.close();
+            selector.close();
+        } catch (IOException e) {
+            // Se está apagando: no hay a quién avisarle
+        }
+    }
+
+    // Bloquea hasta que otro hilo cierre el servidor
+    public void esperarCierre() throws InterruptedException {
+        Thread hilo;
+        synchronized (this) {
+            hilo = hiloSelector;
+        }
+        if (hilo != null) {
+            hilo.join();
+        }
+    }
+
+    public int getPuerto() {
+        if (aceptador == null) {
+            throw new IllegalStateException("El " + nombre + " no está iniciado");
+        }
+        return aceptador.socket().getLocalPort();
+    }
+
+    // ================ PARA LOS SERVIDORES ================
+    // Una conexión recién aceptada, ya no bloqueante y sin Nagle
+    abstract void aceptada(SocketChannel canal) throws IOException;
+
+    // Una clave lista que no es la del aceptador
+    abstract void atender(SelectionKey clave);
+
+    // Al despertar, antes de atender las claves: lo que otros hilos dejaron pedido
+    void alDespertar() {
+    }
+
+    // Cierra la conexión de una clave cuyo atender falló de forma inesperada
+    abstract void cerrar(SelectionKey clave);
+
+    abstract void cerrarConexiones();
+
+    // Un error inesperado con una conexión se anota y cuesta solo esa conexión, no el selector
+    final void avisarFallo(RuntimeException e) {
+        System.err.println("Se cierra una conexión del " + nombre + " por un error inesperado: " + e);
+        e.printStackTrace();
+    }
+
+    // Desde cualquier hilo
+    final void despertar() {
+        selector.wakeup();
+    }
+
+    // Solo desde el hilo del selector
+    final SelectionKey registrar(SocketChannel canal, int intereses, Object adjunto) throws IOException {
+        return canal.register(selector, intereses, adjunto);
+    }
+
+    // ================ BUCLE DEL SELECTOR ================
+    private void bucle() {
+        try {
+            while (activo) {
+                selector.select();
+                try {
+                    alDespertar();
+                } catch (RuntimeException e) {
+                    System.err.println("Error inesperado en el " + nombre + " al despertar: " + e);
+                    e.printStackTrace();
+                }
+                Iterator<SelectionKey> listas = selector.selectedKeys().iterator();
+                while (listas.hasNext()) {
+                    SelectionKey clave = listas.next();
+                    listas.remove();
+                    if (!clave.isValid()) {
+                        continue;
+                    }
+                    if (clave.isAcceptable()) {
+                        aceptar();
+                    } else {
+                        try {
+                            atender(clave);
+                        } catch (RuntimeException e) {
+                            avisarFallo(e);
+                            cerrar(clave);
+                        }
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (activo) {
+                System.err.println("El selector del " + nombre + " se detuvo: " + e.getMessage());
+            }
+        }
+    }
+
+    // Acepta todo lo que esté en espera de una vez, para no volver al select por cada cliente
+    private void aceptar() {
+        SocketChannel canal;
+        try {
+            while ((canal = aceptador.accept()) != null) {
+                canal.configureBlocking(false);
+                canal.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                try {
+                    aceptada(canal);
+                } catch (RuntimeException e) {
+                    avisarFallo(e);
+                    canal.close();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("No se pudo aceptar una conexión en el " + nombre + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package Servidor;
+
+import java.nio.ByteBuffer;
+
+// Un espectador sobre el anillo del canal: solo su cursor (el próximo cuadro que le toca) y la
+// política de desborde. No guarda cuadros ni copias; cada uno recibe su propia vista (duplicate)
+// recién al tomarlo, para tener posición propia. Lo avanza un único hilo, el que entrega
+public final class SuscripcionEspectador {
+
+    // ================ ATRIBUTOS ================
+    private final CanalEspectadores canal;
+    private final int capacidad;
+    private final PoliticaDesborde politica;
+
+    // Escritos solo por el hilo que entrega; volatile para las consultas desde otros hilos
+    private volatile long siguiente;
+    private volatile long descartados;
+    private volatile boolean cancelada;
+
+    // DESCARTAR_NUEVO: se entrega hasta 'corte' y de ahí se salta a 'saltoA'; -1 si no hay corte
+    private long corte = -1;
+    private long saltoA;
+
+    // ================ CONSTRUCTOR ================
+    SuscripcionEspectador(CanalEspectadores canal, int capacidad, PoliticaDesborde politica, long desde) {
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("La capacidad de la cola debe ser positiva: " + capacidad);
+        }
+        if (politica == null) {
+            throw new IllegalArgumentException("La política de desborde no puede ser null");
+        }
+        this.canal = canal;
+        this.capacidad = capacidad;
+        this.politica = politica;
+        this.siguiente = desde;
+    }
+
+    // ================ LADO DEL QUE ENTREGA ================
+    // Pasa hasta 'maximo' cuadros a destino[desde..], cada uno como vista propia sobre los mismos
+    // bytes. Devuelve cuántos pasó (0 si está al día). Si quedó más atrás que su capacidad, antes
+    // aplica la política; si el anillo ya pisó lo que le tocaba, eso también cuenta como descartado
+    public int tomar(ByteBuffer[] destino, int desde, int maximo) {
+        if (cancelada) {
+            return 0;
+        }
+        long cabeza = canal.getCabeza();
+        long cursor = siguiente;
+        if (cabeza - cursor > capacidad && corte < 0) {
+            switch (politica) {
+                case DESCARTAR_NUEVO -> {
+                    corte = cursor + capacidad;
+                    saltoA = cabeza;
+                }
+                case DESCARTAR_ANTIGUO -> {
+                    descartados += cabeza - capacidad - cursor;
+                    cursor = cabeza - capacidad;
+                }
+                case COALESCER -> {
+                    // Cada cuadro describe la mesa entera: alcanza con el último
+                    descartados += cabeza - 1 - cursor;
+                    cursor = cabeza - 1;
+                }
+            }
+        }
+
+        int tomados = 0;
+        while (tomados < maximo && cursor < cabeza) {
+            if (cursor == corte) {
+                descartados += saltoA - corte;
+                cursor = saltoA;
+                corte = -1;
+                continue;
+            }
+            ByteBuffer datos = canal.leer(cursor);
+            if (datos == null) {
+                // El anillo dio la vuelta: se sigue desde el cuadro más viejo que sigue en él
+                long vivo = canal.getCabeza() - canal.getCapacidadAnillo();
+                if (corte >= 0 && vivo >= corte) {
+                    vivo = corte;
+                }
+                descartados += vivo - cursor;
+                cursor = vivo;
+                continue;
+            }
+            destino[desde + tomados++] = datos.duplicate();
+            cursor++;
+        }
+        siguiente = cursor;
+        return tomados;
+    }
+
+    public void cancelar() {
+        if (cancelada) {
+            return;
+        }
+        cancelada = true;
+        canal.quitar(this);
+    }
+
+    // ================ CONSULTAS ================
+    // Cuántos cuadros le faltan, sin contar los que la política va a descartar
+    public int getPendientes() {
+        if (cancelada) {
+            return 0;
+        }
+        return (int) Math.min(canal.getCabeza() - siguiente, capacidad);
+    }
+
+    public long getDescartados() {
+        return descartados;
+    }
+
+    public PoliticaDesborde getPolitica() {
+        return politica;
+    }
+
+    public boolean estaCancelada() {
+        return cancelada;
+    }
+}
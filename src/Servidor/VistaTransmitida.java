@@ -0,0 +1,162 @@
+package Servidor;
+
+import Carta.Carta;
+import Jugador.Jugador;
+import Modelo.ResultadoApuesta;
+import Vista.IVista;
+import Vista.VistaNula;
+
+// Vista que además transmite la partida a un CanalEspectadores: un cuadro JSON por apuesta y uno
+// al terminar. Envuelve a otra vista (la de la terminal, o VistaNula en partidas sin pantalla), así
+// que ControladorJuego la usa sin saber que hay espectadores. Cada cuadro lleva la mesa completa,
+// por eso un espectador puede perder cuadros viejos (ver PoliticaDesborde) sin quedar desorientado
+public class VistaTransmitida implements IVista {
+
+    // ================ ATRIBUTOS ================
+    private final IVista vista;
+    private final CanalEspectadores canal;
+
+    // Lo último que mostró el controlador antes de la apuesta
+    private Jugador jugador1;
+    private Jugador jugador2;
+    private int racha;
+    private int turno;
+
+    // ================ CONSTRUCTORES ================
+    public VistaTransmitida(CanalEspectadores canal) {
+        this(new VistaNula(), canal);
+    }
+
+    public VistaTransmitida(IVista vista, CanalEspectadores canal) {
+        if (vista == null || canal == null) {
+            throw new IllegalArgumentException("La vista y el canal no pueden ser null");
+        }
+        this.vista = vista;
+        this.canal = canal;
+    }
+
+    // ================ TRANSMISIÓN ================
+
+    @Override
+    public void mostrarEstadoJuegoMultijugador(Jugador jugador1, Jugador jugador2, Carta cartaActual) {
+        this.jugador1 = jugador1;
+        this.jugador2 = jugador2;
+        vista.mostrarEstadoJuegoMultijugador(jugador1, jugador2, cartaActual);
+    }
+
+
+    @Override
+    public void mostrarEstadoJuegoSolo(Jugador jugador, Carta cartaActual, int rachaActual) {
+        this.jugador1 = jugador;
+        this.jugador2 = null;
+        this.racha = rachaActual;
+        vista.mostrarEstadoJuegoSolo(jugador, cartaActual, rachaActual);
+    }
+
+
+    // Se codifica una vez, acá, sin importar cuántos espectadores haya
+    @Override
+    public void mostrarResultadoApuesta(ResultadoApuesta resultado) {
+        vista.mostrarResultadoApuesta(resultado);
+        turno++;
+        RespuestaJson cuadro = new RespuestaJson()
+                .campo("tipo", "turno")
+                .campo("turno", turno)
+                .resultado("resultado", resultado);
+        agregarMesa(cuadro);
+        canal.publicar(cuadro.terminar());
+    }
+
+
+    @Override
+    public void mostrarVictoria(String nombreGanador) {
+        vista.mostrarVictoria(nombreGanador);
+        RespuestaJson cuadro = new RespuestaJson()
+                .campo("tipo", "fin")
+                .campo("turno", turno)
+                .campo("ganador", nombreGanador);
+        agregarMesa(cuadro);
+        publicarFin(cuadro);
+    }
+
+
+    @Override
+    public void mostrarFinSolo(int rachaMaxima) {
+        vista.mostrarFinSolo(rachaMaxima);
+        racha = rachaMaxima;
+        RespuestaJson cuadro = new RespuestaJson()
+                .campo("tipo", "fin")
+                .campo("turno", turno);
+        agregarMesa(cuadro);
+        publicarFin(cuadro);
+    }
+
+    private void publicarFin(RespuestaJson cuadro) {
+        canal.publicar(cuadro.terminar());
+        // La próxima partida sobre la misma vista arranca la cuenta de cero
+        turno = 0;
+        racha = 0;
+    }
+
+    private void agregarMesa(RespuestaJson cuadro) {
+        cuadro.lista("jugadores");
+        agregarJugador(cuadro, jugador1);
+        agregarJugador(cuadro, jugador2);
+        cuadro.fin();
+        if (jugador2 == null) {
+            cuadro.campo("racha", racha);
+        }
+    }
+
+    private static void agregarJugador(RespuestaJson cuadro, Jugador jugador) {
+        if (jugador != null) {
+            cuadro.objeto(null)
+                    .campo("nombre", jugador.getNombre())
+                    .campo("vidas", jugador.getVidas())
+                    .fin();
+        }
+    }
+
+    // ================ DELEGADOS ================
+
+    @Override
+    public void mostrarEncabezadoTurno(String nombreJugador) {
+        vista.mostrarEncabezadoTurno(nombreJugador);
+    }
+
+
+    @Override
+    public void mostrarEncabezadoTurnoSolo(String nombreJugador) {
+        vista.mostrarEncabezadoTurnoSolo(nombreJugador);
+    }
+
+
+    @Override
+    public void mostrarError(String mensaje) {
+        vista.mostrarError(mensaje);
+    }
+
+
+    @Override
+    public void mostrarMensaje(String mensaje) {
+        vista.mostrarMensaje(mensaje);
+    }
+
+
+    @Override
+    public void mostrarExito(String mensaje) {
+        vista.mostrarExito(mensaje);
+    }
+
+
+    @Override
+    public void mostrarTabla(String contenido) {
+        vista.mostrarTabla(contenido);
+    }
+
+
+    @Override
+    public void esperarContinuar() {
+        vista.esperarContinuar();
+    }
+}
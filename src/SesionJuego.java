@@ -0,0 +1,128 @@
+import Exceptions.EntradaCerradaException;
+import Exceptions.NombreInvalidoException;
+import Modelo.IGestorPuntuaciones;
+import Modelo.PeriodoPuntuaciones;
+import Vista.InterfazConsola;
+import Vista.MenuPrincipal;
+import Vista.VistaJuego;
+
+// Una persona jugando: menú, partidas y tablas sobre su propia consola. La tabla de puntuaciones
+// se comparte, así que varias sesiones pueden correr a la vez en la misma JVM
+public class SesionJuego implements Runnable {
+
+    private final InterfazConsola consola;
+
+    private final MenuPrincipal menu;
+
+    private final IGestorPuntuaciones gestorPuntuaciones;
+
+    public SesionJuego(InterfazConsola consola, IGestorPuntuaciones gestorPuntuaciones) {
+        this.consola = consola;
+        this.menu = new MenuPrincipal(consola);
+        this.gestorPuntuaciones = gestorPuntuaciones;
+    }
+
+    // Termina cuando el usuario sale o cuando se cierra su entrada (por ejemplo, se desconecta)
+    @Override
+    public void run() {
+        try {
+            jugar();
+        } catch (EntradaCerradaException e) {
+            // Nadie más del otro lado: la sesión termina sin más
+        }
+        consola.presentar();
+    }
+
+    private void jugar() {
+        // Mostrar bienvenida
+        menu.mostrarBienvenida();
+
+        // Bucle principal del menú
+        while (true) {
+            // Seleccionar modo de juego
+            String modoSeleccionadoStr = menu.seleccionarModo();
+
+            // Opción para salir del juego
+            if ("SALIR".equalsIgnoreCase(modoSeleccionadoStr)) {
+                consola.mostrarMensaje("\n¡Gracias por jugar a DEATH DRAW! ¡Hasta la próxima!");
+                return;
+            }
+
+            if ("VER_TOP".equalsIgnoreCase(modoSeleccionadoStr)) {
+                // Mostrar el top de cada modo (una fila por jugador) y volver al menú
+                // Usamos un controlador temporal para mostrar la tabla y mantener el código DRY
+                ControladorJuego controladorTablas = new ControladorJuego(null, null, gestorPuntuaciones, new VistaJuego(consola), menu);
+                for (ModoJuego modoTabla : ModoJuego.values()) {
+                    controladorTablas.mostrarTablaJugadores(gestorPuntuaciones, modoTabla);
+                    controladorTablas.mostrarTablaPeriodo(gestorPuntuaciones, modoTabla, PeriodoPuntuaciones.SEMANA);
+                }
+                consola.esperarEnter();
+                continue; // volver a mostrar el menú
+            }
+
+            ModoJuego modoSeleccionado;
+            try {
+                modoSeleccionado = ModoJuego.fromString(modoSeleccionadoStr);
+            } catch (IllegalArgumentException e) {
+                menu.mostrarError("Error: " + e.getMessage());
+                continue; // Volver al menú en vez de salir
+            }
+
+            // Bucle para jugar el mismo modo múltiples veces
+            boolean jugarMismoModo = true;
+
+            while (jugarMismoModo) {
+                // La moneda y las apuestas se piden por la consola de esta sesión
+                Partida partida = new Partida(modoSeleccionado, new DecisionesConsola(consola, menu));
+
+                // Registrar jugadores
+                if (!registrarJugadores(partida, modoSeleccionado)) {
+                    break; // Salir del bucle del modo si hay error
+                }
+
+                // Iniciar y jugar partida
+                try {
+                    String resultado = partida.iniciarPartida();
+                    menu.mostrarInicioPartida(resultado);
+
+                    // El controlador se encarga de la partida
+                    ControladorJuego controlador = new ControladorJuego(partida, modoSeleccionado, gestorPuntuaciones, new VistaJuego(consola), menu);
+                    controlador.jugar();
+
+                } catch (EntradaCerradaException e) {
+                    throw e;
+                } catch (Exception e) {
+                    menu.mostrarError("Error durante la partida: " + e.getMessage());
+                }
+
+                // Preguntar si quiere jugar de nuevo o volver al menú
+                jugarMismoModo = menu.preguntarJugarDeNuevo();
+                if (menu.quiereSalir()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean registrarJugadores(Partida partida, ModoJuego modo) {
+        String[] nombresJugadores;
+        while (true) {
+            try {
+                nombresJugadores = menu.solicitarNombresJugadores(modo.equals(ModoJuego.SOLO));
+                break; // Nombres válidos, salimos del bucle
+            } catch (NombreInvalidoException e) {
+                menu.mostrarError("ERROR: " + e.getMessage() + ". Por favor inténtelo nuevamente.");
+            }
+        }
+
+        try {
+            for (String nombre : nombresJugadores) {
+                menu.mostrarJugadorAgregado(partida.agregarJugador(nombre));
+            }
+            return true;
+        } catch (Exception e) {
+            menu.mostrarError("Error al agregar jugadores: " + e.getMessage());
+            return false;
+        }
+    }
+}
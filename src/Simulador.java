@@ -0,0 +1,226 @@
+import Jugador.Jugador;
+import Modelo.ResultadoCompacto;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+public class Simulador {
+
+    // ================ CONSTANTES ================
+
+    // Cantidad de partidas que una tarea juega sin volver a dividirse
+    private static final int PARTIDAS_POR_TAREA = 2_048;
+
+
+    // Corte de seguridad: una partida que supera este número de turnos se cuenta como inconclusa
+    static final int MAX_TURNOS_POR_PARTIDA = 100_000;
+
+
+    private static final String NOMBRE_JUGADOR_1 = "J1";
+
+
+    private static final String NOMBRE_JUGADOR_2 = "J2";
+
+    // ================ ATRIBUTOS ================
+
+    private final ForkJoinPool pool;
+
+
+    // Generador raíz: de él sale la semilla de cada simulación
+    private final SplittableGenerator generador;
+
+    // ================ CONSTRUCTORES ================
+
+
+    public Simulador() {
+        this(ForkJoinPool.commonPool(), GeneradorAleatorio.crear());
+    }
+
+
+    public Simulador(long semilla) {
+        this(ForkJoinPool.commonPool(), GeneradorAleatorio.crear(semilla));
+    }
+
+
+    public Simulador(ForkJoinPool pool, long semilla) {
+        this(pool, GeneradorAleatorio.crear(semilla));
+    }
+
+
+    private Simulador(ForkJoinPool pool, SplittableGenerator generador) {
+        if (pool == null) {
+            throw new NullPointerException("El pool de ejecución no puede ser null");
+        }
+        this.pool = pool;
+        this.generador = generador;
+    }
+
+    // ================ MÉTODOS PÚBLICOS ================
+
+
+    public ResultadoSimulacion simular(ModoJuego modo, int cantidadPartidas) {
+        if (modo == null) {
+            throw new NullPointerException("El modo de juego no puede ser null");
+        }
+        if (cantidadPartidas < 0) {
+            throw new IllegalArgumentException("La cantidad de partidas no puede ser negativa");
+        }
+        long semillaRaiz;
+        synchronized (generador) {
+            semillaRaiz = generador.nextLong();
+        }
+        return simular(modo, cantidadPartidas, semillaRaiz);
+    }
+
+
+    // La partida i se juega con semillaDePartida(semillaRaiz, i): repetir la misma semilla raíz
+    // repite la simulación entera, y cualquier partida suelta se reproduce con reproducirPartida
+    public ResultadoSimulacion simular(ModoJuego modo, int cantidadPartidas, long semillaRaiz) {
+        if (modo == null) {
+            throw new NullPointerException("El modo de juego no puede ser null");
+        }
+        if (cantidadPartidas < 0) {
+            throw new IllegalArgumentException("La cantidad de partidas no puede ser negativa");
+        }
+        EstadisticasSimulacion estadisticas = pool.invoke(new TareaSimulacion(modo, 0, cantidadPartidas, semillaRaiz));
+        return estadisticas.aResultado(semillaRaiz);
+    }
+
+
+    // Mezcla de SplitMix64 sobre (raíz, índice): semillas bien repartidas aunque los índices sean consecutivos
+    public static long semillaDePartida(long semillaRaiz, long indice) {
+        long z = semillaRaiz + (indice + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+
+    public ResultadoSimulacion reproducirPartida(ModoJuego modo, long semilla) {
+        if (modo == null) {
+            throw new NullPointerException("El modo de juego no puede ser null");
+        }
+        EstadisticasSimulacion estadisticas = new EstadisticasSimulacion(modo);
+        jugarPartida(modo, semilla, estadisticas);
+        return estadisticas.aResultado(semilla);
+    }
+
+
+    public Map<ModoJuego, ResultadoSimulacion> simularTodos(int cantidadPartidasPorModo) {
+        Map<ModoJuego, ResultadoSimulacion> resultados = new EnumMap<>(ModoJuego.class);
+        for (ModoJuego modo : ModoJuego.values()) {
+            resultados.put(modo, simular(modo, cantidadPartidasPorModo));
+        }
+        return resultados;
+    }
+
+    // ================ PARTIDA INDIVIDUAL ================
+
+
+    static void jugarPartida(ModoJuego modo, long semilla, EstadisticasSimulacion estadisticas) {
+        boolean esSolo = modo == ModoJuego.SOLO;
+
+        // Toda decisión y todo azar de la partida salen de la semilla, así puede reproducirse
+        RandomGenerator random = GeneradorAleatorio.crear(semilla);
+        Partida partida = new Partida(modo, new DecisionesAleatorias(random), random);
+        partida.agregarJugador(NOMBRE_JUGADOR_1);
+        if (!esSolo) {
+            partida.agregarJugador(NOMBRE_JUGADOR_2);
+        }
+        partida.iniciarPartida();
+
+        Jugador jugador1 = partida.getJugador1();
+        Jugador jugador2 = partida.getJugador2();
+
+        int turnos = 0;
+        int aciertos = 0;
+        while (!partidaTerminada(partida, jugador1, jugador2) && turnos < MAX_TURNOS_POR_PARTIDA) {
+            Jugador jugadorActual = (esSolo || partida.getTurnosContador() % 2 == 1) ? jugador1 : jugador2;
+            int vidasAntes = sumarVidas(jugador1, jugador2);
+
+            long resultado = partida.procesarApuestaCompacta(jugadorActual);
+
+            int vidasPerdidas = Math.max(0, vidasAntes - sumarVidas(jugador1, jugador2));
+            boolean acerto = ResultadoCompacto.acerto(resultado);
+            estadisticas.registrarTurno(acerto, ResultadoCompacto.huboImpacto(resultado), vidasPerdidas,
+                    ResultadoCompacto.tipoEfecto(resultado));
+            if (acerto) {
+                aciertos++;
+            }
+
+            partida.incrementarTurno();
+            turnos++;
+        }
+
+        boolean inconclusa = turnos >= MAX_TURNOS_POR_PARTIDA && !partidaTerminada(partida, jugador1, jugador2);
+        estadisticas.registrarPartida(turnos, aciertos, determinarGanador(esSolo, jugador1, jugador2), inconclusa, semilla);
+    }
+
+
+    private static boolean partidaTerminada(Partida partida, Jugador jugador1, Jugador jugador2) {
+        if (partida.getEstado().haFinalizado()) {
+            return true;
+        }
+        return jugador1.getVidas() <= 0 || (jugador2 != null && jugador2.getVidas() <= 0);
+    }
+
+
+    private static int sumarVidas(Jugador jugador1, Jugador jugador2) {
+        return jugador1.getVidas() + (jugador2 != null ? jugador2.getVidas() : 0);
+    }
+
+
+    private static int determinarGanador(boolean esSolo, Jugador jugador1, Jugador jugador2) {
+        // En modo SOLO no hay ganador: la métrica relevante es la racha
+        if (esSolo) {
+            return 0;
+        }
+        if (jugador1.getVidas() > 0 && jugador2.getVidas() <= 0) {
+            return 1;
+        }
+        if (jugador2.getVidas() > 0 && jugador1.getVidas() <= 0) {
+            return 2;
+        }
+        return 0;
+    }
+
+    // ================ TAREA FORK-JOIN ================
+
+    private static class TareaSimulacion extends RecursiveTask<EstadisticasSimulacion> {
+
+        private final ModoJuego modo;
+        private final int desde;
+        private final int hasta;
+        private final long semillaRaiz;
+
+        TareaSimulacion(ModoJuego modo, int desde, int hasta, long semillaRaiz) {
+            this.modo = modo;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.semillaRaiz = semillaRaiz;
+        }
+
+        @Override
+        protected EstadisticasSimulacion compute() {
+            if (hasta - desde <= PARTIDAS_POR_TAREA) {
+                EstadisticasSimulacion estadisticas = new EstadisticasSimulacion(modo);
+                for (int i = desde; i < hasta; i++) {
+                    jugarPartida(modo, semillaDePartida(semillaRaiz, i), estadisticas);
+                }
+                return estadisticas;
+            }
+
+            int medio = (desde + hasta) >>> 1;
+            // Cada partida depende solo de su índice: el reparto entre tareas no cambia el resultado
+            TareaSimulacion izquierda = new TareaSimulacion(modo, desde, medio, semillaRaiz);
+            TareaSimulacion derecha = new TareaSimulacion(modo, medio, hasta, semillaRaiz);
+            izquierda.fork();
+            EstadisticasSimulacion resultadoDerecha = derecha.compute();
+            return izquierda.join().combinar(resultadoDerecha);
+        }
+    }
+}
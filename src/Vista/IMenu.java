@@ -25,4 +25,7 @@ public interface IMenu {
     
     
     boolean preguntarJugarDeNuevo();
+    
+    // Si el usuario eligió salir del juego al terminar una partida
+    boolean quiereSalir();
 }
@@ -31,5 +31,14 @@ public interface IVista {
     void mostrarError(String mensaje);
     
     
+    void mostrarMensaje(String mensaje);
+    
+    
+    void mostrarExito(String mensaje);
+    
+    
+    void mostrarTabla(String contenido);
+    
+    
     void esperarContinuar();
 }
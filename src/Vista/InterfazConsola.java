@@ -1,7 +1,18 @@
 package Vista;
 
-import java.util.Scanner;
+import Exceptions.EntradaCerradaException;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
+// Una sesión de consola: su propia entrada y su propia salida en cuadros. Cada jugador conectado
+// tiene la suya, así varias sesiones conviven en la misma JVM sin pisarse la entrada
 public class InterfazConsola {
     
     // ================ CONSTANTES DE FORMATO ================
@@ -17,6 +28,12 @@ public class InterfazConsola {
     
     public static final String SEPARADOR_SECCION = "─".repeat(ANCHO_SEPARADOR - 2);
     
+    
+    public static final String BORDE_CAJA_SUPERIOR = "┌" + SEPARADOR_SECCION + "┐";
+    
+    
+    public static final String BORDE_CAJA_INFERIOR = "└" + SEPARADOR_SECCION + "┘";
+    
     // ================ EMOJIS PARA FEEDBACK VISUAL ================
     
     public static final String EMOJI_ACIERTO = "✅";
@@ -45,29 +62,60 @@ public class InterfazConsola {
     
     public static final String EMOJI_ESTRELLA = "🌟";
     
-    // ================ SINGLETON ================
+    // ================ PANTALLA ================
     
-    private static InterfazConsola instancia;
+    // -Ddeathdraw.ansi=true: solo se redibujan las líneas que cambian entre cuadros
+    private static final String PROPIEDAD_ANSI = "deathdraw.ansi";
     
     
-    private final Scanner scanner;
+    private static final String PROPIEDAD_ALTO = "deathdraw.alto";
     
     
-    private InterfazConsola() {
-        this.scanner = new Scanner(System.in);
+    private static final int ALTO_POR_DEFECTO = 24;
+    
+    // ================ TERMINAL DEL PROCESO ================
+    
+    // System.in hay uno solo: su sesión se crea una vez, al primer uso, y el holder la hace segura entre hilos
+    private static final class Terminal {
+        static final InterfazConsola SESION = new InterfazConsola(
+                new InputStreamReader(System.in, Charset.defaultCharset()),
+                new RenderizadorConsola(System.out, System.out.charset(),
+                        Boolean.getBoolean(PROPIEDAD_ANSI), Integer.getInteger(PROPIEDAD_ALTO, ALTO_POR_DEFECTO)));
     }
     
+    // ================ SESIÓN ================
     
-    public static InterfazConsola obtenerInstancia() {
-        if (instancia == null) {
-            instancia = new InterfazConsola();
-        }
-        return instancia;
+    private final BufferedReader entrada;
+    
+    
+    private final RenderizadorConsola renderizador;
+    
+    
+    public InterfazConsola(InputStream entrada, OutputStream salida, Charset charset) {
+        this(new InputStreamReader(entrada, charset), new RenderizadorConsola(salida, charset));
+    }
+    
+    
+    public InterfazConsola(Reader entrada, RenderizadorConsola renderizador) {
+        this.entrada = entrada instanceof BufferedReader lector ? lector : new BufferedReader(entrada);
+        this.renderizador = renderizador;
     }
     
     
-    public Scanner getScanner() {
-        return scanner;
+    public static InterfazConsola deTerminal() {
+        return Terminal.SESION;
+    }
+    
+    // ================ CUADROS ================
+    
+    
+    public void nuevoCuadro() {
+        renderizador.nuevoCuadro();
+    }
+    
+    
+    public void presentar() {
+        renderizador.presentar();
     }
     
     // ================ MÉTODOS DE ENTRADA ================
@@ -78,9 +126,8 @@ public class InterfazConsola {
         boolean valido = false;
         
         while (!valido) {
-            System.out.print(mensaje);
             try {
-                String input = scanner.nextLine().trim();
+                String input = leerLinea(mensaje).trim();
                 numero = Integer.parseInt(input);
                 
                 if (numero >= min && numero <= max) {
@@ -101,8 +148,7 @@ public class InterfazConsola {
         String texto = "";
         
         while (texto.trim().isEmpty()) {
-            System.out.print(mensaje);
-            texto = scanner.nextLine().trim();
+            texto = leerLinea(mensaje).trim();
             
             if (texto.isEmpty()) {
                 mostrarError("El texto no puede estar vacío. Intenta de nuevo.");
@@ -114,55 +160,77 @@ public class InterfazConsola {
     
     
     public void esperarEnter() {
-        System.out.println("\nPresiona ENTER para continuar...");
-        scanner.nextLine();
+        leerLinea("\nPresiona ENTER para continuar...\n");
+    }
+    
+    // Todo lo acumulado llega a la terminal antes de quedar esperando al usuario
+    private String leerLinea(String aviso) {
+        renderizador.texto(aviso);
+        renderizador.presentar();
+        String linea;
+        try {
+            linea = entrada.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (linea == null) {
+            throw new EntradaCerradaException("Se cerró la entrada de la consola");
+        }
+        renderizador.entradaLeida(linea);
+        return linea;
     }
     
     // ================ MÉTODOS DE SALIDA ================
     
     
-    public void mostrarMensaje(String mensaje) {
-        System.out.println(mensaje);
+    public void mostrarMensaje(CharSequence mensaje) {
+        renderizador.linea(mensaje);
     }
     
     
     public void mostrarExito(String mensaje) {
-        System.out.println(EMOJI_ACIERTO + " " + mensaje);
+        renderizador.linea(EMOJI_ACIERTO + " " + mensaje);
     }
     
     
     public void mostrarError(String mensaje) {
-        System.out.println(EMOJI_ERROR + " " + mensaje);
+        renderizador.linea(EMOJI_ERROR + " " + mensaje);
     }
     
     public void mostrarTitulo(String titulo) {
-        System.out.println("\n" + SEPARADOR_PRINCIPAL);
-        System.out.println(centrarTexto(titulo, ANCHO_SEPARADOR));
-        System.out.println(SEPARADOR_PRINCIPAL);
+        renderizador.linea("");
+        renderizador.linea(SEPARADOR_PRINCIPAL);
+        renderizador.linea(centrarTexto(titulo, ANCHO_SEPARADOR));
+        renderizador.linea(SEPARADOR_PRINCIPAL);
     }
     
     
     public void mostrarSubtitulo(String subtitulo) {
-        System.out.println("\n" + SEPARADOR_SECUNDARIO);
-        System.out.println(subtitulo);
-        System.out.println(SEPARADOR_SECUNDARIO);
+        renderizador.linea("");
+        renderizador.linea(SEPARADOR_SECUNDARIO);
+        renderizador.linea(subtitulo);
+        renderizador.linea(SEPARADOR_SECUNDARIO);
     }
     
     
     public void mostrarCaja(String contenido) {
-        System.out.println("┌" + SEPARADOR_SECCION + "┐");
+        renderizador.linea(BORDE_CAJA_SUPERIOR);
         
+        StringBuilder fila = new StringBuilder(ANCHO_SEPARADOR + 8);
         String[] lineas = contenido.split("\n");
         for (String linea : lineas) {
-            System.out.println("│ " + ajustarLinea(linea, ANCHO_SEPARADOR - 4) + " │");
+            fila.setLength(0);
+            fila.append("│ ");
+            ajustarLinea(fila, linea, ANCHO_SEPARADOR - 4);
+            renderizador.linea(fila.append(" │"));
         }
         
-        System.out.println("└" + SEPARADOR_SECCION + "┘");
+        renderizador.linea(BORDE_CAJA_INFERIOR);
     }
     
     public void limpiarPantalla() {
         for (int i = 0; i < 2; i++) {
-            System.out.println();
+            renderizador.linea("");
         }
     }
     
@@ -174,14 +242,37 @@ public class InterfazConsola {
         return " ".repeat(Math.max(0, espacios)) + texto;
     }
 
-    private String ajustarLinea(String linea, int ancho) {
+    private void ajustarLinea(StringBuilder destino, String linea, int ancho) {
         if (linea.length() > ancho) {
-            return linea.substring(0, ancho);
+            destino.append(linea, 0, ancho);
+        } else {
+            rellenar(destino, linea, ancho);
+        }
+    }
+    
+    // Como "%-Ns" de String.format, sin armar el formato en cada llamada
+    public static StringBuilder rellenar(StringBuilder destino, CharSequence texto, int ancho) {
+        destino.append(texto);
+        for (int i = texto.length(); i < ancho; i++) {
+            destino.append(' ');
         }
-        return String.format("%-" + ancho + "s", linea);
+        return destino;
+    }
+    
+    // Como "%Ns": alineado a la derecha
+    public static StringBuilder rellenarIzquierda(StringBuilder destino, CharSequence texto, int ancho) {
+        for (int i = texto.length(); i < ancho; i++) {
+            destino.append(' ');
+        }
+        return destino.append(texto);
     }
     
     public void cerrar() {
-        scanner.close();
+        renderizador.presentar();
+        try {
+            entrada.close();
+        } catch (IOException e) {
+            // Se está cerrando la sesión: no queda a quién avisarle
+        }
     }
 }
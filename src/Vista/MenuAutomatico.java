@@ -0,0 +1,80 @@
+package Vista;
+
+import java.util.random.RandomGenerator;
+
+// Menú que responde solo: apuestas al azar y nombres fijos. Junto con VistaNula permite correr el
+// bucle completo de ControladorJuego sin nadie frente a la terminal
+public class MenuAutomatico implements IMenu {
+
+    private static final String[] NOMBRES = {"Jugador 1", "Jugador 2"};
+
+
+    private final RandomGenerator random;
+
+
+    private final String modo;
+
+
+    public MenuAutomatico(RandomGenerator random) {
+        this(random, "CLASICO");
+    }
+
+
+    public MenuAutomatico(RandomGenerator random, String modo) {
+        if (random == null) {
+            throw new IllegalArgumentException("El generador aleatorio no puede ser null");
+        }
+        this.random = random;
+        this.modo = modo;
+    }
+
+
+    @Override
+    public void mostrarBienvenida() {
+    }
+
+
+    @Override
+    public String seleccionarModo() {
+        return modo;
+    }
+
+
+    @Override
+    public String[] solicitarNombresJugadores(boolean esModoSolo) {
+        return esModoSolo ? new String[]{NOMBRES[0]} : NOMBRES.clone();
+    }
+
+
+    @Override
+    public String solicitarApuesta(String nombreJugador) {
+        return random.nextBoolean() ? "MAYOR" : "MENOR";
+    }
+
+
+    @Override
+    public void mostrarInicioPartida(String mensaje) {
+    }
+
+
+    @Override
+    public void mostrarJugadorAgregado(String mensaje) {
+    }
+
+
+    @Override
+    public void mostrarError(String mensaje) {
+    }
+
+
+    @Override
+    public boolean preguntarJugarDeNuevo() {
+        return false;
+    }
+
+
+    @Override
+    public boolean quiereSalir() {
+        return false;
+    }
+}
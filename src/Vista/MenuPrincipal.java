@@ -6,8 +6,16 @@ public class MenuPrincipal implements IMenu {
     private final InterfazConsola consola;
     
     
+    private boolean quiereSalir;
+    
+    
     public MenuPrincipal() {
-        this.consola = InterfazConsola.obtenerInstancia();
+        this(InterfazConsola.deTerminal());
+    }
+    
+    
+    public MenuPrincipal(InterfazConsola consola) {
+        this.consola = consola;
     }
     
     // ================ PANTALLAS DE BIENVENIDA ================
@@ -24,6 +32,7 @@ public class MenuPrincipal implements IMenu {
     
     @Override
     public String seleccionarModo() {
+        consola.nuevoCuadro();
         consola.mostrarMensaje("Selecciona el modo de juego:");
         consola.mostrarMensaje("");
 
@@ -31,7 +40,7 @@ public class MenuPrincipal implements IMenu {
         mostrarOpcionModo(2, "MODO SOBRECARGA", 5, 2, 20);
         mostrarOpcionModo(3, "MODO MUERTE SÚBITA", 1, 6, 5);
         mostrarOpcionModoSolo(4, "MODO SOLO", 1, 1);
-        consola.mostrarMensaje("5.  VER TOP 5 (SOLO)");
+        consola.mostrarMensaje("5.  VER PUNTUACIONES ALTAS (TODOS LOS MODOS)");
         consola.mostrarMensaje("");
         consola.mostrarMensaje("6.  SALIR DEL JUEGO");
         consola.mostrarMensaje("");
@@ -150,10 +159,16 @@ public class MenuPrincipal implements IMenu {
         
         if (opcion == 3) {
             consola.mostrarMensaje("\n¡Gracias por jugar a DEATH DRAW! ¡Hasta la próxima!");
-            consola.cerrar();
-            System.exit(0);
+            // Sin System.exit: termina esta sesión, no la JVM con las demás
+            quiereSalir = true;
         }
         
         return opcion == 1; // true = jugar de nuevo, false = volver al menú
     }
+    
+    
+    @Override
+    public boolean quiereSalir() {
+        return quiereSalir;
+    }
 }
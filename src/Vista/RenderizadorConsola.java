@@ -0,0 +1,228 @@
+package Vista;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+// Arma cada pantalla en un buffer reutilizable y la manda a la terminal de una sola vez: una
+// escritura y un flush por cuadro, en lugar de un println (con su bloqueo y su flush) por línea.
+// El cuadro pendiente se presenta cuando hace falta leer la entrada del usuario.
+//
+// En modo diferencial cada cuadro se dibuja desde la primera fila y solo se reenvían las líneas
+// que cambiaron respecto del cuadro anterior, ubicando el cursor con secuencias ANSI. Si un cuadro
+// no entra en la pantalla se sigue escribiendo de corrido y el siguiente se redibuja entero.
+public final class RenderizadorConsola {
+
+    // ================ CONSTANTES ================
+    private static final String CSI = "\u001b[";
+    private static final String LIMPIAR_PANTALLA = CSI + "H" + CSI + "2J";
+    private static final String LIMPIAR_LINEA = CSI + "2K";
+    private static final String LIMPIAR_HASTA_EL_FINAL = CSI + "J";
+
+    private static final int CAPACIDAD_INICIAL = 4096;
+    private static final int TAMANIO_BLOQUE = 4096;
+
+    // ================ ATRIBUTOS ================
+    private final Writer salida;
+    private final boolean diferencial;
+    private final int alto;
+
+    // Cuadro en curso; [0, enviado) ya está en la terminal
+    private StringBuilder cuadro = new StringBuilder(CAPACIDAD_INICIAL);
+    private int enviado;
+
+    // Secuencias ANSI + texto de un envío diferencial
+    private final StringBuilder envio = new StringBuilder(CAPACIDAD_INICIAL);
+    private final char[] bloque = new char[TAMANIO_BLOQUE];
+
+    // Solo en modo diferencial: dónde empieza cada fila del cuadro en curso y del anterior
+    private StringBuilder anterior = new StringBuilder(CAPACIDAD_INICIAL);
+    private int[] inicios = new int[64];
+    private int[] iniciosAnterior = new int[64];
+    private int filas;
+    private boolean lineaEnCurso;
+    private int filasAnteriores;
+    private int filasValidas;
+    private boolean limpiarAlPresentar = true;
+    private boolean desbordado;
+
+    // ================ CONSTRUCTOR ================
+    public RenderizadorConsola(OutputStream salida, Charset charset) {
+        this(salida, charset, false, 0);
+    }
+
+    // 'alto': filas de la terminal, para saber cuándo un cuadro ya no entra y la pantalla se desplaza
+    public RenderizadorConsola(OutputStream salida, Charset charset, boolean diferencial, int alto) {
+        if (diferencial && alto <= 1) {
+            throw new IllegalArgumentException("El alto de la pantalla debe ser mayor a 1: " + alto);
+        }
+        this.salida = new OutputStreamWriter(salida, charset);
+        this.diferencial = diferencial;
+        this.alto = alto;
+    }
+
+    // ================ COMPOSICIÓN ================
+    public synchronized void linea(CharSequence texto) {
+        cuadro.append(texto).append('\n');
+    }
+
+    // Texto sin salto de línea: un aviso que espera la respuesta en la misma línea
+    public synchronized void texto(CharSequence texto) {
+        cuadro.append(texto);
+    }
+
+    // La terminal ya mostró lo que tipeó el usuario (eco) y pasó a la línea siguiente
+    public synchronized void entradaLeida(CharSequence entrada) {
+        if (!diferencial || desbordado) {
+            return;
+        }
+        presentar();
+        if (!lineaEnCurso) {
+            registrarFila(cuadro.length());
+        }
+        cuadro.append(entrada).append('\n');
+        enviado = cuadro.length();
+        lineaEnCurso = false;
+        filas++;
+        filasValidas = Math.min(filasValidas, filas);
+        if (filas >= alto - 1) {
+            desbordado = true;
+        }
+    }
+
+    // Empieza una pantalla nueva; lo que quedaba pendiente se presenta antes
+    public synchronized void nuevoCuadro() {
+        presentar();
+        if (!diferencial) {
+            return;
+        }
+        StringBuilder libre = anterior;
+        anterior = cuadro;
+        cuadro = libre;
+        int[] iniciosLibres = iniciosAnterior;
+        iniciosAnterior = inicios;
+        inicios = iniciosLibres;
+
+        // Una fila que quedó a medio escribir no sirve para comparar
+        filasAnteriores = desbordado ? 0 : filas;
+        filasValidas = filasAnteriores;
+        limpiarAlPresentar |= desbordado;
+        cuadro.setLength(0);
+        enviado = 0;
+        filas = 0;
+        lineaEnCurso = false;
+        desbordado = false;
+    }
+
+    // ================ SALIDA ================
+    // Manda lo pendiente del cuadro y hace un único flush
+    public synchronized void presentar() {
+        int largo = cuadro.length();
+        if (enviado == largo) {
+            return;
+        }
+        try {
+            if (!diferencial) {
+                escribir(cuadro, enviado, largo);
+                // Lo enviado no se vuelve a comparar: el buffer se reutiliza entero
+                cuadro.setLength(0);
+                enviado = 0;
+            } else {
+                armarEnvioDiferencial(largo);
+                escribir(envio, 0, envio.length());
+                enviado = largo;
+                if (desbordado) {
+                    cuadro.setLength(0);
+                    enviado = 0;
+                }
+            }
+            salida.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void armarEnvioDiferencial(int largo) {
+        envio.setLength(0);
+        if (limpiarAlPresentar) {
+            envio.append(LIMPIAR_PANTALLA);
+            limpiarAlPresentar = false;
+            filasValidas = 0;
+        }
+        if (desbordado) {
+            envio.append(cuadro, enviado, largo);
+            return;
+        }
+        int posicion = enviado;
+        while (posicion < largo) {
+            int salto = cuadro.indexOf("\n", posicion);
+            boolean completa = salto >= 0;
+            int fin = completa ? salto : largo;
+            if (lineaEnCurso) {
+                // El cursor ya está al final de lo que se mandó de esta fila
+                envio.append(cuadro, posicion, fin);
+            } else if (filas >= alto - 1) {
+                // No entra: de acá en adelante la terminal se desplaza y las filas dejan de ser fijas
+                desbordado = true;
+                envio.append(CSI).append(filas + 1).append(";1H").append(LIMPIAR_HASTA_EL_FINAL).append(cuadro, posicion, largo);
+                return;
+            } else {
+                registrarFila(posicion);
+                if (!completa || filas >= filasValidas || !igualAlAnterior(filas, posicion, fin)) {
+                    envio.append(CSI).append(filas + 1).append(";1H").append(LIMPIAR_LINEA).append(cuadro, posicion, fin);
+                }
+            }
+            if (completa) {
+                filas++;
+                lineaEnCurso = false;
+                posicion = salto + 1;
+            } else {
+                lineaEnCurso = true;
+                posicion = largo;
+            }
+        }
+        if (!lineaEnCurso) {
+            envio.append(CSI).append(filas + 1).append(";1H");
+        }
+        // Lo que quedaba del cuadro anterior debajo del cursor ya no corresponde
+        envio.append(LIMPIAR_HASTA_EL_FINAL);
+        filasValidas = Math.min(filasValidas, filas);
+    }
+
+    private void registrarFila(int inicio) {
+        if (filas == inicios.length) {
+            inicios = Arrays.copyOf(inicios, filas * 2);
+        }
+        inicios[filas] = inicio;
+    }
+
+    private boolean igualAlAnterior(int fila, int inicio, int fin) {
+        if (fila >= filasAnteriores) {
+            return false;
+        }
+        int inicioAnterior = iniciosAnterior[fila];
+        int finAnterior = anterior.indexOf("\n", inicioAnterior);
+        if (finAnterior - inicioAnterior != fin - inicio) {
+            return false;
+        }
+        for (int i = 0; i < fin - inicio; i++) {
+            if (anterior.charAt(inicioAnterior + i) != cuadro.charAt(inicio + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Sin Strings intermedios: los caracteres pasan del buffer a la salida por bloques
+    private void escribir(StringBuilder origen, int desde, int hasta) throws IOException {
+        for (int i = desde; i < hasta; i += TAMANIO_BLOQUE) {
+            int fin = Math.min(hasta, i + TAMANIO_BLOQUE);
+            origen.getChars(i, fin, bloque, 0);
+            salida.write(bloque, 0, fin - i);
+        }
+    }
+}
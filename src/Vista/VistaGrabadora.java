@@ -0,0 +1,136 @@
+package Vista;
+
+import Jugador.Jugador;
+import Carta.Carta;
+import Modelo.ResultadoApuesta;
+import Modelo.ResultadoCompacto;
+
+import java.util.Arrays;
+
+// Vista sin pantalla que guarda cada apuesta como su código de ResultadoCompacto: 8 bytes por
+// evento en un arreglo que crece de a duplicaciones. Sirve para verificar partidas por lotes
+// sin pagar el costo de mostrar nada
+public class VistaGrabadora extends VistaNula {
+
+    // ================ CONSTANTES ================
+    private static final int CAPACIDAD_INICIAL = 256;
+
+    // ================ ATRIBUTOS ================
+    private long[] codigos = new long[CAPACIDAD_INICIAL];
+    private int cantidad;
+
+    private String nombreJugador2;
+    private String ganador;
+    private int rachaFinal = -1;
+    private int errores;
+
+    // ================ GRABACIÓN ================
+
+    @Override
+    public void mostrarEstadoJuegoMultijugador(Jugador jugador1, Jugador jugador2, Carta cartaActual) {
+        nombreJugador2 = jugador2.getNombre();
+    }
+
+
+    @Override
+    public void mostrarResultadoApuesta(ResultadoApuesta resultado) {
+        if (cantidad == codigos.length) {
+            codigos = Arrays.copyOf(codigos, cantidad * 2);
+        }
+        codigos[cantidad++] = resultado.esCompacto() ? resultado.getCodigo() : codificar(resultado);
+    }
+
+
+    @Override
+    public void mostrarVictoria(String nombreGanador) {
+        ganador = nombreGanador;
+    }
+
+
+    @Override
+    public void mostrarFinSolo(int rachaMaxima) {
+        rachaFinal = rachaMaxima;
+    }
+
+
+    @Override
+    public void mostrarError(String mensaje) {
+        errores++;
+    }
+
+    // Los resultados armados a mano no traen código: se recodifican sin los datos del efecto
+    private long codificar(ResultadoApuesta resultado) {
+        boolean esJugador2 = nombreJugador2 != null && nombreJugador2.equals(resultado.getNombreJugador());
+        return ResultadoCompacto.codificar(resultado.acerto(), resultado.huboImpacto(), resultado.getVidasRestantes(),
+                esJugador2, resultado.getOrdinalApuesta(), resultado.getCartaAnterior(), resultado.getNuevaCarta(), resultado.esModoSolo());
+    }
+
+    // ================ CONSULTAS ================
+
+    public int getCantidad() {
+        return cantidad;
+    }
+
+
+    // Se decodifica con los métodos de ResultadoCompacto
+    public long getCodigo(int indice) {
+        if (indice < 0 || indice >= cantidad) {
+            throw new IndexOutOfBoundsException("Evento " + indice + " fuera de la grabación (" + cantidad + ")");
+        }
+        return codigos[indice];
+    }
+
+
+    public long[] getCodigos() {
+        return Arrays.copyOf(codigos, cantidad);
+    }
+
+
+    public int contarAciertos() {
+        int aciertos = 0;
+        for (int i = 0; i < cantidad; i++) {
+            if (ResultadoCompacto.acerto(codigos[i])) {
+                aciertos++;
+            }
+        }
+        return aciertos;
+    }
+
+
+    public int contarImpactos() {
+        int impactos = 0;
+        for (int i = 0; i < cantidad; i++) {
+            if (ResultadoCompacto.huboImpacto(codigos[i])) {
+                impactos++;
+            }
+        }
+        return impactos;
+    }
+
+
+    // null si todavía no terminó una partida multijugador
+    public String getGanador() {
+        return ganador;
+    }
+
+
+    // -1 si todavía no terminó una partida solo
+    public int getRachaFinal() {
+        return rachaFinal;
+    }
+
+
+    public int getErrores() {
+        return errores;
+    }
+
+
+    // Vacía la grabación conservando el arreglo, para reutilizar la vista entre partidas
+    public void reiniciar() {
+        cantidad = 0;
+        nombreJugador2 = null;
+        ganador = null;
+        rachaFinal = -1;
+        errores = 0;
+    }
+}
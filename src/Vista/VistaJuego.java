@@ -7,12 +7,37 @@ import Modelo.ResultadoApuesta;
 
 public class VistaJuego implements IVista {
     
+    // ================ CADENAS FIJAS ================
+    // Se arman una vez: cada turno solo compone las partes que cambian
+    
+    private static final String TITULO_ESTADO = "\nESTADO DEL JUEGO:";
+    
+    
+    private static final String BANNER_ESTRELLAS = InterfazConsola.EMOJI_ESTRELLA.repeat(60);
+    
+    
+    private static final String BANNER_TROFEOS = InterfazConsola.EMOJI_TROFEO.repeat(30);
+    
+    
+    private static final String BANNER_MUERTE = InterfazConsola.EMOJI_MUERTE.repeat(15);
+    
+    
+    private static final String PREFIJO_TURNO = "TURNO DE: ";
+    
     
     private final InterfazConsola consola;
     
+    // Línea en composición, reutilizada en todo el cuadro
+    private final StringBuilder linea = new StringBuilder(128);
+    
     
     public VistaJuego() {
-        this.consola = InterfazConsola.obtenerInstancia();
+        this(InterfazConsola.deTerminal());
+    }
+    
+    
+    public VistaJuego(InterfazConsola consola) {
+        this.consola = consola;
     }
     
     // ================ MÉTODOS DE VISUALIZACIÓN DE ESTADO ================
@@ -20,28 +45,14 @@ public class VistaJuego implements IVista {
     
     @Override
     public void mostrarEstadoJuegoMultijugador(Jugador jugador1, Jugador jugador2, Carta cartaActual) {
-        consola.mostrarMensaje("\nESTADO DEL JUEGO:");
-        consola.mostrarMensaje("┌" + "─".repeat(58) + "┐");
-        
-        // Mostrar estado de jugador 1
-        String estadoJ1 = String.format("│ %-20s %s Vidas: %d      %s Balas: %d      │",
-                jugador1.getNombre(),
-                InterfazConsola.EMOJI_VIDAS,
-                jugador1.getVidas(),
-                InterfazConsola.EMOJI_BALAS,
-                contarBalas(jugador1.getRevolver()));
-        consola.mostrarMensaje(estadoJ1);
+        consola.mostrarMensaje(TITULO_ESTADO);
+        consola.mostrarMensaje(InterfazConsola.BORDE_CAJA_SUPERIOR);
         
-        // Mostrar estado de jugador 2
-        String estadoJ2 = String.format("│ %-20s %s Vidas: %d      %s Balas: %d      │",
-                jugador2.getNombre(),
-                InterfazConsola.EMOJI_VIDAS,
-                jugador2.getVidas(),
-                InterfazConsola.EMOJI_BALAS,
-                contarBalas(jugador2.getRevolver()));
-        consola.mostrarMensaje(estadoJ2);
+        // Mostrar estado de cada jugador
+        mostrarFilaJugador(jugador1);
+        mostrarFilaJugador(jugador2);
         
-        consola.mostrarMensaje("└" + "─".repeat(58) + "┘");
+        consola.mostrarMensaje(InterfazConsola.BORDE_CAJA_INFERIOR);
         
         // Mostrar carta actual
         mostrarCartaActual(cartaActual);
@@ -50,23 +61,42 @@ public class VistaJuego implements IVista {
     
     @Override
     public void mostrarEstadoJuegoSolo(Jugador jugador, Carta cartaActual, int rachaActual) {
-        consola.mostrarMensaje("\nESTADO DEL JUEGO:");
-        consola.mostrarMensaje("┌" + "─".repeat(58) + "┐");
+        consola.mostrarMensaje(TITULO_ESTADO);
+        consola.mostrarMensaje(InterfazConsola.BORDE_CAJA_SUPERIOR);
         
-        String estado = String.format("│ %20s | Racha actual: %-20d│",
-                jugador.getNombre(), rachaActual);
-        consola.mostrarMensaje(estado);
+        // "│ %20s | Racha actual: %-20d│"
+        linea.setLength(0);
+        linea.append("│ ");
+        InterfazConsola.rellenarIzquierda(linea, jugador.getNombre(), 20).append(" | Racha actual: ");
+        int inicioRacha = linea.length();
+        linea.append(rachaActual);
+        InterfazConsola.rellenar(linea, "", 20 - (linea.length() - inicioRacha)).append('│');
+        consola.mostrarMensaje(linea);
         
-        consola.mostrarMensaje("└" + "─".repeat(58) + "┘");
+        consola.mostrarMensaje(InterfazConsola.BORDE_CAJA_INFERIOR);
         
         // Mostrar carta actual
         mostrarCartaActual(cartaActual);
     }
     
     
+    // "│ %-20s %s Vidas: %d      %s Balas: %d      │"
+    private void mostrarFilaJugador(Jugador jugador) {
+        linea.setLength(0);
+        linea.append("│ ");
+        InterfazConsola.rellenar(linea, jugador.getNombre(), 20)
+                .append(' ').append(InterfazConsola.EMOJI_VIDAS).append(" Vidas: ").append(jugador.getVidas())
+                .append("      ").append(InterfazConsola.EMOJI_BALAS).append(" Balas: ").append(contarBalas(jugador.getRevolver()))
+                .append("      │");
+        consola.mostrarMensaje(linea);
+    }
+    
+    
     public void mostrarCartaActual(Carta carta) {
         if (carta != null) {
-            consola.mostrarMensaje("\nCARTA ACTUAL EN MESA: " + carta.obtenerRepresentacion());
+            linea.setLength(0);
+            linea.append("\nCARTA ACTUAL EN MESA: ").append(carta.obtenerRepresentacion());
+            consola.mostrarMensaje(linea);
             consola.mostrarMensaje("");
         }
     }
@@ -81,16 +111,23 @@ public class VistaJuego implements IVista {
     
     @Override
     public void mostrarEncabezadoTurno(String nombreJugador) {
-        consola.mostrarMensaje("\n" + InterfazConsola.SEPARADOR_PRINCIPAL);
-        consola.mostrarMensaje("TURNO DE: " + nombreJugador.toUpperCase());
-        consola.mostrarMensaje(InterfazConsola.SEPARADOR_PRINCIPAL);
+        mostrarEncabezado(nombreJugador, "");
     }
     
     
     @Override
     public void mostrarEncabezadoTurnoSolo(String nombreJugador) {
-        consola.mostrarMensaje("\n" + InterfazConsola.SEPARADOR_PRINCIPAL);
-        consola.mostrarMensaje("TURNO DE: " + nombreJugador.toUpperCase() + " (SOLO)");
+        mostrarEncabezado(nombreJugador, " (SOLO)");
+    }
+    
+    // Cada turno es un cuadro nuevo: se arma entero y sale junto al pedir la apuesta
+    private void mostrarEncabezado(String nombreJugador, String sufijo) {
+        consola.nuevoCuadro();
+        consola.mostrarMensaje("");
+        consola.mostrarMensaje(InterfazConsola.SEPARADOR_PRINCIPAL);
+        linea.setLength(0);
+        linea.append(PREFIJO_TURNO).append(nombreJugador.toUpperCase()).append(sufijo);
+        consola.mostrarMensaje(linea);
         consola.mostrarMensaje(InterfazConsola.SEPARADOR_PRINCIPAL);
     }
     
@@ -142,9 +179,11 @@ public class VistaJuego implements IVista {
     
     public void mostrarInformacionApuesta(String nombreJugador, String apuesta, 
                                          Carta cartaActual, Carta nuevaCarta) {
-        String mensaje = String.format("%s apuesta: %s | Carta actual: %s | Carta a revelar: %s",
-                nombreJugador, apuesta, cartaActual, nuevaCarta);
-        consola.mostrarMensaje(mensaje);
+        linea.setLength(0);
+        linea.append(nombreJugador).append(" apuesta: ").append(apuesta)
+                .append(" | Carta actual: ").append(cartaActual)
+                .append(" | Carta a revelar: ").append(nuevaCarta);
+        consola.mostrarMensaje(linea);
     }
     
     
@@ -171,33 +210,36 @@ public class VistaJuego implements IVista {
     
     
     public void mostrarImpacto(String nombreJugador, int vidasRestantes) {
-        String mensaje = String.format("%s %s recibe un impacto y pierde 1 vida. Vidas restantes: %d",
-                InterfazConsola.EMOJI_IMPACTO, nombreJugador, vidasRestantes);
-        consola.mostrarMensaje(mensaje);
+        linea.setLength(0);
+        linea.append(InterfazConsola.EMOJI_IMPACTO).append(' ').append(nombreJugador)
+                .append(" recibe un impacto y pierde 1 vida. Vidas restantes: ").append(vidasRestantes);
+        consola.mostrarMensaje(linea);
     }
     
     
     public void mostrarSinImpacto(String nombreJugador) {
-        String mensaje = String.format("%s %s no recibió impacto. Se agrega una bala al revólver, apreta bien el chupete",
-                InterfazConsola.EMOJI_SUERTE, nombreJugador);
-        consola.mostrarMensaje(mensaje);
+        linea.setLength(0);
+        linea.append(InterfazConsola.EMOJI_SUERTE).append(' ').append(nombreJugador)
+                .append(" no recibió impacto. Se agrega una bala al revólver, apreta bien el chupete");
+        consola.mostrarMensaje(linea);
     }
     
     
     public void mostrarImpactoSolo(String nombreJugador) {
-        String mensaje = String.format("%s recibe un impacto y pierde 1 vida.\nEL JUEGO TERMINO",
-                nombreJugador);
-        consola.mostrarMensaje(mensaje);
+        linea.setLength(0);
+        linea.append(nombreJugador).append(" recibe un impacto y pierde 1 vida.\nEL JUEGO TERMINO");
+        consola.mostrarMensaje(linea);
     }
     
     // ================ MÉTODOS DE VISUALIZACIÓN DE EFECTOS ================
     
     
     public void mostrarEfectoEspecial(String tipoEfecto, String descripcion) {
-        consola.mostrarMensaje("\n" + InterfazConsola.EMOJI_ESTRELLA.repeat(60));
+        consola.mostrarMensaje("");
+        consola.mostrarMensaje(BANNER_ESTRELLAS);
         consola.mostrarMensaje("¡CARTA ESPECIAL! Efecto: " + tipoEfecto);
         consola.mostrarMensaje("Descripción: " + descripcion);
-        consola.mostrarMensaje(InterfazConsola.EMOJI_ESTRELLA.repeat(60));
+        consola.mostrarMensaje(BANNER_ESTRELLAS);
     }
     
     
@@ -212,19 +254,23 @@ public class VistaJuego implements IVista {
     
     @Override
     public void mostrarVictoria(String nombreGanador) {
-        consola.mostrarMensaje("\n" + InterfazConsola.EMOJI_TROFEO.repeat(30));
+        consola.mostrarMensaje("");
+        consola.mostrarMensaje(BANNER_TROFEOS);
         consola.mostrarMensaje("      ¡PARTIDA FINALIZADA!");
         consola.mostrarMensaje("      GANADOR: " + nombreGanador.toUpperCase());
-        consola.mostrarMensaje(InterfazConsola.EMOJI_TROFEO.repeat(30) + "\n");
+        consola.mostrarMensaje(BANNER_TROFEOS);
+        consola.mostrarMensaje("");
     }
     
     
     @Override
     public void mostrarFinSolo(int rachaMaxima) {
-        consola.mostrarMensaje("\n" + InterfazConsola.EMOJI_MUERTE.repeat(15));
+        consola.mostrarMensaje("");
+        consola.mostrarMensaje(BANNER_MUERTE);
         consola.mostrarMensaje("      ¡FIN DEL JUEGO SOLO!");
         consola.mostrarMensaje("      Racha máxima: " + rachaMaxima + " aciertos");
-        consola.mostrarMensaje(InterfazConsola.EMOJI_MUERTE.repeat(15) + "\n");
+        consola.mostrarMensaje(BANNER_MUERTE);
+        consola.mostrarMensaje("");
     }
     
     // ================ MÉTODOS DE UTILIDAD ================
@@ -236,6 +282,24 @@ public class VistaJuego implements IVista {
     }
     
     
+    @Override
+    public void mostrarMensaje(String mensaje) {
+        consola.mostrarMensaje(mensaje);
+    }
+    
+    
+    @Override
+    public void mostrarExito(String mensaje) {
+        consola.mostrarExito(mensaje);
+    }
+    
+    
+    @Override
+    public void mostrarTabla(String contenido) {
+        consola.mostrarCaja(contenido);
+    }
+    
+    
     @Override
     public void esperarContinuar() {
         consola.esperarEnter();
@@ -0,0 +1,70 @@
+package Vista;
+
+import Jugador.Jugador;
+import Carta.Carta;
+import Modelo.ResultadoApuesta;
+
+// Vista que no muestra nada ni espera al usuario: para correr partidas enteras sin terminal
+// (pruebas de carga, simulaciones por lotes)
+public class VistaNula implements IVista {
+
+
+    @Override
+    public void mostrarEstadoJuegoMultijugador(Jugador jugador1, Jugador jugador2, Carta cartaActual) {
+    }
+
+
+    @Override
+    public void mostrarEstadoJuegoSolo(Jugador jugador, Carta cartaActual, int rachaActual) {
+    }
+
+
+    @Override
+    public void mostrarEncabezadoTurno(String nombreJugador) {
+    }
+
+
+    @Override
+    public void mostrarEncabezadoTurnoSolo(String nombreJugador) {
+    }
+
+
+    @Override
+    public void mostrarResultadoApuesta(ResultadoApuesta resultado) {
+    }
+
+
+    @Override
+    public void mostrarVictoria(String nombreGanador) {
+    }
+
+
+    @Override
+    public void mostrarFinSolo(int rachaMaxima) {
+    }
+
+
+    @Override
+    public void mostrarError(String mensaje) {
+    }
+
+
+    @Override
+    public void mostrarMensaje(String mensaje) {
+    }
+
+
+    @Override
+    public void mostrarExito(String mensaje) {
+    }
+
+
+    @Override
+    public void mostrarTabla(String contenido) {
+    }
+
+
+    @Override
+    public void esperarContinuar() {
+    }
+}
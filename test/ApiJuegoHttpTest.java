@@ -0,0 +1,145 @@
+import Modelo.GestorPuntuacionesConcurrente;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Por loopback contra la API de verdad; vive en el paquete por defecto como ApiJuegoHttp
+@Timeout(30)
+class ApiJuegoHttpTest {
+
+    private static final Duration ESPERA = Duration.ofSeconds(10);
+
+    private final GestorPuntuacionesConcurrente gestor = new GestorPuntuacionesConcurrente();
+    private final HttpClient cliente = HttpClient.newBuilder().connectTimeout(ESPERA).build();
+    private ApiJuegoHttp api;
+
+    private void iniciar(int maximoMesas) {
+        api = new ApiJuegoHttp(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), gestor,
+                maximoMesas, Duration.ofMinutes(5));
+        api.iniciar();
+    }
+
+    @AfterEach
+    void cerrar() {
+        if (api != null) {
+            api.close();
+        }
+    }
+
+    private HttpResponse<String> pedir(String metodo, String camino, String cuerpo) throws IOException, InterruptedException {
+        HttpRequest peticion = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + api.getPuerto() + camino))
+                .timeout(ESPERA)
+                .method(metodo, cuerpo == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(cuerpo))
+                .build();
+        return cliente.send(peticion, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String camino, String cuerpo) throws IOException, InterruptedException {
+        return pedir("POST", camino, cuerpo);
+    }
+
+    // Primer valor de texto con esa clave; las respuestas anidan objetos, así que alcanza con buscarla
+    private static String campo(HttpResponse<String> respuesta, String clave) {
+        Matcher valor = Pattern.compile("\"" + clave + "\":\"([^\"]*)\"").matcher(respuesta.body());
+        return valor.find() ? valor.group(1) : null;
+    }
+
+    private String crearMesa(String modo) throws IOException, InterruptedException {
+        HttpResponse<String> creada = post("/partidas", "{\"modo\":\"" + modo + "\"}");
+        assertEquals(201, creada.statusCode(), creada.body());
+        return campo(creada, "id");
+    }
+
+    @Test
+    void unaPartidaSoloSeJuegaHastaElFinalYQuedaRegistrada() throws Exception {
+        iniciar(10);
+        String id = crearMesa("SOLO");
+        assertEquals(200, post("/partidas/" + id + "/jugadores", "{\"nombre\":\"Ana\"}").statusCode());
+        assertEquals(200, post("/partidas/" + id + "/iniciar", null).statusCode());
+
+        HttpResponse<String> apuesta;
+        int apuestas = 0;
+        do {
+            apuesta = post("/partidas/" + id + "/apuestas", "{\"apuesta\":\"MAYOR\",\"lado\":\"CARA\"}");
+            assertEquals(200, apuesta.statusCode(), apuesta.body());
+            assertTrue(++apuestas < 10_000, "La partida no termina");
+        } while (!apuesta.body().contains("\"final\":"));
+
+        assertEquals("FINALIZADO", campo(apuesta, "estado"));
+        assertEquals("Ana", campo(apuesta, "ganador"));
+        assertFalse(gestor.obtenerTopDeModo("SOLO").isEmpty());
+        assertEquals(409, post("/partidas/" + id + "/apuestas", "{\"apuesta\":\"MAYOR\"}").statusCode());
+
+        HttpResponse<String> puntuaciones = pedir("GET", "/puntuaciones/solo", null);
+        assertEquals(200, puntuaciones.statusCode());
+        assertEquals("Ana", campo(puntuaciones, "nombre"));
+
+        assertEquals(200, pedir("DELETE", "/partidas/" + id, null).statusCode());
+        assertEquals(404, pedir("GET", "/partidas/" + id, null).statusCode());
+    }
+
+    @Test
+    void apostarFueraDeTurnoDevuelve409ConElMotivo() throws Exception {
+        iniciar(10);
+        String id = crearMesa("CLASICO");
+        post("/partidas/" + id + "/jugadores", "{\"nombre\":\"Ana\"}");
+        post("/partidas/" + id + "/jugadores", "{\"nombre\":\"Beto\"}");
+        HttpResponse<String> iniciada = post("/partidas/" + id + "/iniciar", null);
+        String deTurno = campo(iniciada, "turnoDe");
+        String otro = "Ana".equals(deTurno) ? "Beto" : "Ana";
+
+        HttpResponse<String> fuera = post("/partidas/" + id + "/apuestas", "{\"apuesta\":\"MENOR\",\"jugador\":\"" + otro + "\"}");
+
+        assertEquals(409, fuera.statusCode());
+        assertEquals("No es el turno de " + otro + ": le toca a " + deTurno, campo(fuera, "error"));
+        assertEquals(deTurno, campo(pedir("GET", "/partidas/" + id, null), "turnoDe"));
+        assertEquals(200, post("/partidas/" + id + "/apuestas", "{\"apuesta\":\"MENOR\",\"jugador\":\"" + deTurno + "\"}").statusCode());
+    }
+
+    @Test
+    void lasRutasDesconocidasDevuelven404() throws Exception {
+        iniciar(10);
+        assertEquals(404, pedir("GET", "/partidasX", null).statusCode());
+        assertEquals(404, pedir("GET", "/puntuacionesX/solo", null).statusCode());
+        assertEquals(404, pedir("GET", "/partidas/no-existe", null).statusCode());
+        assertEquals(404, post("/partidas/" + crearMesa("SOLO") + "/volar", null).statusCode());
+    }
+
+    @Test
+    void alLlegarAlTopeDeMesasDevuelve503() throws Exception {
+        iniciar(2);
+        String primera = crearMesa("SOLO");
+        crearMesa("SOLO");
+
+        assertEquals(503, post("/partidas", "{\"modo\":\"SOLO\"}").statusCode());
+        assertEquals(2, api.getMesasAbiertas());
+
+        pedir("DELETE", "/partidas/" + primera, null);
+        assertEquals(201, post("/partidas", "{\"modo\":\"SOLO\"}").statusCode());
+    }
+
+    @Test
+    void unCuerpoInvalidoDevuelve400() throws Exception {
+        iniciar(10);
+        assertEquals(400, post("/partidas", "{\"modo\":").statusCode());
+        assertEquals(400, post("/partidas", "no es json").statusCode());
+        assertEquals(400, post("/partidas", "{\"modo\":\"AJEDREZ\"}").statusCode());
+        assertEquals(400, post("/partidas", "{}").statusCode());
+        assertEquals(0, api.getMesasAbiertas());
+    }
+}
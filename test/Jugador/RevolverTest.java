@@ -0,0 +1,113 @@
+package Jugador;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RevolverTest {
+
+    // Generador que siempre "gira" a la posición indicada, para apuntar a un bit concreto
+    private static final class PosicionFija implements RandomGenerator {
+        int posicion;
+
+        @Override
+        public long nextLong() {
+            return 0L;
+        }
+
+        @Override
+        public int nextInt(int limite) {
+            return posicion;
+        }
+    }
+
+    private final PosicionFija giro = new PosicionFija();
+
+    private boolean dispararEn(Revolver revolver, int posicion) {
+        giro.posicion = posicion;
+        return revolver.girarYDisparar();
+    }
+
+    @Test
+    void cargarBalaLlenaHastaLaCapacidad() {
+        Revolver revolver = new Revolver(6, giro);
+        for (int i = 1; i <= 6; i++) {
+            assertTrue(revolver.cargarBala());
+            assertEquals(i, revolver.contarBalas());
+        }
+        assertFalse(revolver.cargarBala());
+        assertEquals(6, revolver.contarBalas());
+        assertEquals(100.0, revolver.getProbabilidadImpacto());
+    }
+
+    @Test
+    void quitarBalaVaciaHastaCero() {
+        Revolver revolver = new Revolver(6, giro);
+        revolver.setBalas(3);
+        assertTrue(revolver.quitarBala());
+        assertTrue(revolver.quitarBala());
+        assertTrue(revolver.quitarBala());
+        assertFalse(revolver.quitarBala());
+        assertEquals(0, revolver.contarBalas());
+    }
+
+    @Test
+    void setBalasCargaLasPosicionesMasBajas() {
+        Revolver revolver = new Revolver(6, giro);
+        revolver.setBalas(2);
+        assertTrue(dispararEn(revolver, 0));
+        assertTrue(dispararEn(revolver, 1));
+        for (int posicion = 2; posicion < 6; posicion++) {
+            assertFalse(dispararEn(revolver, posicion));
+        }
+    }
+
+    @Test
+    void cargarBalaOcupaElHuecoMasBajo() {
+        Revolver revolver = new Revolver(6, giro);
+        revolver.setBalas(3);
+        revolver.quitarBala(); // Libera la posición 0
+        assertFalse(dispararEn(revolver, 0));
+        assertTrue(revolver.cargarBala());
+        assertTrue(dispararEn(revolver, 0));
+        assertFalse(dispararEn(revolver, 3));
+    }
+
+    @Test
+    void dispararNoQuitaLaBala() {
+        Revolver revolver = new Revolver(6, giro);
+        revolver.setBalas(1);
+        assertTrue(dispararEn(revolver, 0));
+        assertTrue(dispararEn(revolver, 0));
+        assertEquals(1, revolver.contarBalas());
+    }
+
+    @Test
+    void capacidadMaximaUsaTodosLosBitsDelLong() {
+        Revolver revolver = new Revolver(Revolver.CAPACIDAD_MAXIMA, giro);
+        revolver.setBalas(Revolver.CAPACIDAD_MAXIMA);
+        assertEquals(Revolver.CAPACIDAD_MAXIMA, revolver.contarBalas());
+        assertFalse(revolver.cargarBala());
+        assertTrue(dispararEn(revolver, Revolver.CAPACIDAD_MAXIMA - 1));
+
+        revolver.vaciarRevolver();
+        assertEquals(0, revolver.contarBalas());
+        assertFalse(dispararEn(revolver, Revolver.CAPACIDAD_MAXIMA - 1));
+    }
+
+    @Test
+    void rechazaCapacidadesYCargasFueraDeRango() {
+        assertThrows(IllegalArgumentException.class, () -> new Revolver(0, giro));
+        assertThrows(IllegalArgumentException.class, () -> new Revolver(Revolver.CAPACIDAD_MAXIMA + 1, giro));
+        assertThrows(IllegalArgumentException.class, () -> new Revolver(6, null));
+
+        Revolver revolver = new Revolver(6, giro);
+        assertThrows(IllegalArgumentException.class, () -> revolver.setBalas(-1));
+        assertThrows(IllegalArgumentException.class, () -> revolver.setBalas(7));
+    }
+}
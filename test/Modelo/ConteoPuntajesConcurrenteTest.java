@@ -0,0 +1,62 @@
+package Modelo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConteoPuntajesConcurrenteTest {
+
+    private static final int PUNTAJE_MAXIMO = 255;
+
+    @Test
+    void lasFranjasSeRedondeanAPotenciaDeDos() {
+        assertEquals(1, new ConteoPuntajesConcurrente(PUNTAJE_MAXIMO, 1).getFranjas());
+        assertEquals(4, new ConteoPuntajesConcurrente(PUNTAJE_MAXIMO, 3).getFranjas());
+        assertEquals(8, new ConteoPuntajesConcurrente(PUNTAJE_MAXIMO, 8).getFranjas());
+        assertEquals(64, new ConteoPuntajesConcurrente(PUNTAJE_MAXIMO, 1000).getFranjas());
+    }
+
+    @Test
+    void variosHilosSumanExactoEnReposo() throws InterruptedException {
+        int hilos = 8;
+        int porHilo = 20_000;
+        ConteoPuntajesConcurrente conteo = new ConteoPuntajesConcurrente(PUNTAJE_MAXIMO, hilos);
+        ConteoPuntajes esperado = new ConteoPuntajes();
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> corredores = new ArrayList<>();
+        for (int h = 0; h < hilos; h++) {
+            SplittableRandom random = new SplittableRandom(h);
+            int[] puntajes = new int[porHilo];
+            for (int i = 0; i < porHilo; i++) {
+                // Algunos por encima del máximo: comparten el último casillero
+                puntajes[i] = random.nextInt(-2, PUNTAJE_MAXIMO + 20);
+                esperado.agregar(Math.min(puntajes[i], PUNTAJE_MAXIMO), 1);
+            }
+            corredores.add(Thread.ofPlatform().start(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int puntaje : puntajes) {
+                    conteo.agregar(puntaje);
+                }
+            }));
+        }
+        largada.countDown();
+        for (Thread corredor : corredores) {
+            corredor.join();
+        }
+
+        assertEquals((long) hilos * porHilo, conteo.getTotal());
+        for (int puntaje = -1; puntaje <= PUNTAJE_MAXIMO + 1; puntaje++) {
+            assertEquals(esperado.contarMayoresQue(Math.min(puntaje, PUNTAJE_MAXIMO)), conteo.contarMayoresQue(puntaje), "mayores que " + puntaje);
+            assertEquals(esperado.contarMenoresQue(Math.min(puntaje, PUNTAJE_MAXIMO)), conteo.contarMenoresQue(puntaje), "menores que " + puntaje);
+        }
+    }
+}
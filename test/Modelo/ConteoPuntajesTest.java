@@ -0,0 +1,110 @@
+package Modelo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConteoPuntajesTest {
+
+    private static final int ALTO = ConteoPuntajes.PUNTAJE_MAXIMO_EXACTO;
+
+    // Cuenta a mano, recorriendo todas las partidas
+    private static void verificar(ConteoPuntajes conteo, List<Integer> puntajes, int puntaje) {
+        int consultado = Math.max(puntaje, 0);
+        long mayores = puntajes.stream().filter(p -> Math.max(p, 0) > consultado).count();
+        long menores = puntajes.stream().filter(p -> Math.max(p, 0) < consultado).count();
+        assertEquals(mayores, conteo.contarMayoresQue(puntaje), "mayores que " + puntaje);
+        assertEquals(menores, conteo.contarMenoresQue(puntaje), "menores que " + puntaje);
+    }
+
+    @Test
+    void coincideConElConteoDirecto() {
+        SplittableRandom random = new SplittableRandom(7);
+        ConteoPuntajes conteo = new ConteoPuntajes();
+        List<Integer> puntajes = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            // Crece de a poco para atravesar varias duplicaciones del árbol
+            int puntaje = random.nextInt(Math.min(ALTO + 1, 8 + i * 3));
+            conteo.agregar(puntaje, 1);
+            puntajes.add(puntaje);
+            if (i % 97 == 0) {
+                verificar(conteo, puntajes, puntaje);
+            }
+        }
+
+        assertEquals(puntajes.size(), conteo.getTotal());
+        for (int puntaje = -1; puntaje <= ALTO + 1; puntaje += 13) {
+            verificar(conteo, puntajes, puntaje);
+        }
+    }
+
+    @Test
+    void bordesDeCadaDuplicacion() {
+        ConteoPuntajes conteo = new ConteoPuntajes();
+        List<Integer> puntajes = new ArrayList<>();
+        for (int potencia = 1; potencia <= ALTO + 1; potencia <<= 1) {
+            for (int puntaje : new int[]{potencia - 2, potencia - 1, potencia}) {
+                if (puntaje >= 0) {
+                    conteo.agregar(puntaje, 1);
+                    puntajes.add(puntaje);
+                }
+            }
+        }
+        for (int puntaje : puntajes) {
+            verificar(conteo, puntajes, puntaje);
+        }
+    }
+
+    @Test
+    void negativosCuentanComoCero() {
+        ConteoPuntajes conteo = new ConteoPuntajes();
+        conteo.agregar(-5, 2);
+        conteo.agregar(0, 1);
+        conteo.agregar(3, 1);
+
+        assertEquals(4, conteo.getTotal());
+        assertEquals(0, conteo.contarMenoresQue(0));
+        assertEquals(1, conteo.contarMayoresQue(0));
+        assertEquals(3, conteo.contarMenoresQue(3));
+    }
+
+    @Test
+    void puntajesAltosSonExactosSinAgrandarElArbol() {
+        ConteoPuntajes conteo = new ConteoPuntajes();
+        List<Integer> puntajes = List.of(3, ALTO, ALTO + 1, 50_000, 2_000_000_000, 50_000, 10);
+        for (int puntaje : puntajes) {
+            conteo.agregar(puntaje, 1);
+        }
+
+        assertEquals(puntajes.size(), conteo.getTotal());
+        for (int puntaje : new int[]{0, 3, 10, ALTO - 1, ALTO, ALTO + 1, 49_999, 50_000, 50_001, 2_000_000_000, Integer.MAX_VALUE}) {
+            verificar(conteo, puntajes, puntaje);
+        }
+    }
+
+    @Test
+    void recorrerEntregaCadaPuntajeEnOrdenYSeRecompone() {
+        ConteoPuntajes conteo = new ConteoPuntajes();
+        conteo.agregar(7, 3);
+        conteo.agregar(0, 1);
+        conteo.agregar(ALTO + 10, 2);
+        conteo.agregar(100, 4);
+        conteo.agregar(7, 1);
+
+        List<String> pares = new ArrayList<>();
+        conteo.recorrer((puntaje, cantidad) -> pares.add(puntaje + "x" + cantidad));
+        assertEquals(List.of("0x1", "7x4", "100x4", (ALTO + 10) + "x2"), pares);
+
+        ConteoPuntajes copia = new ConteoPuntajes();
+        copia.agregarTodo(conteo);
+        assertEquals(conteo.getTotal(), copia.getTotal());
+        for (int puntaje : new int[]{0, 7, 50, 100, ALTO, ALTO + 10, ALTO + 11}) {
+            assertEquals(conteo.contarMayoresQue(puntaje), copia.contarMayoresQue(puntaje));
+            assertEquals(conteo.contarMenoresQue(puntaje), copia.contarMenoresQue(puntaje));
+        }
+    }
+}
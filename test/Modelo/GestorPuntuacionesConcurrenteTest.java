@@ -0,0 +1,202 @@
+package Modelo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GestorPuntuacionesConcurrenteTest {
+
+    private static final String MODO = "CLASICO";
+    private static final int CAPACIDAD = 10;
+    private static final int HILOS = 8;
+    private static final int POR_HILO = 5_000;
+    private static final long MS_POR_DIA = 86_400_000L;
+    private static final long AHORA = Instant.parse("2025-03-05T12:00:00Z").toEpochMilli();
+    // Días atrás de cada partida: la mayoría de hoy, algunas en la semana y otras ya fuera de ella
+    private static final int[] DIAS_ATRAS = {0, 0, 0, 0, 1, 2, 3, 6, 7, 12};
+
+    // Reloj fijo en 'ahora' salvo para la próxima lectura del hilo que anotó una fecha: así cada
+    // partida lleva su fecha y el gestor sigue viendo el mismo "hoy"
+    private static final class RelojDePrueba extends Clock {
+        private final ThreadLocal<Long> proxima = new ThreadLocal<>();
+        private volatile long ahora = AHORA;
+
+        void proximaLectura(long fecha) {
+            proxima.set(fecha);
+        }
+
+        @Override
+        public long millis() {
+            Long fecha = proxima.get();
+            if (fecha == null) {
+                return ahora;
+            }
+            proxima.remove();
+            return fecha;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zona) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    // Las mismas partidas, registradas a la vez desde varios hilos y en orden en las tablas secuenciales
+    private static final class Comparacion {
+        final RelojDePrueba reloj = new RelojDePrueba();
+        final GestorPuntuacionesConcurrente gestor = new GestorPuntuacionesConcurrente(CAPACIDAD, 1_000, reloj);
+        final TablaTopK historico = new TablaTopK(CAPACIDAD);
+        final VentanaPuntuaciones hoy = new VentanaPuntuaciones(PeriodoPuntuaciones.HOY.getDias(), CAPACIDAD);
+        final VentanaPuntuaciones semana = new VentanaPuntuaciones(PeriodoPuntuaciones.SEMANA.getDias(), CAPACIDAD);
+        final IndiceJugadores jugadores = new IndiceJugadores();
+
+        // Con el reloj en 'ahora' durante toda la tanda
+        void jugar(List<List<EntradaPuntuacion>> porHilo, long ahora) throws InterruptedException {
+            reloj.ahora = ahora;
+            long hoyTanda = dia(ahora);
+            CountDownLatch largada = new CountDownLatch(1);
+            List<Thread> corredores = new ArrayList<>();
+            for (List<EntradaPuntuacion> partidas : porHilo) {
+                for (EntradaPuntuacion entrada : partidas) {
+                    long dia = dia(entrada.getFecha());
+                    historico.ofrecer(entrada);
+                    hoy.registrar(entrada, dia, hoyTanda);
+                    semana.registrar(entrada, dia, hoyTanda);
+                    jugadores.registrar(entrada);
+                }
+                corredores.add(Thread.ofPlatform().start(() -> {
+                    try {
+                        largada.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (EntradaPuntuacion entrada : partidas) {
+                        reloj.proximaLectura(entrada.getFecha());
+                        gestor.actualizarPuntuacionDeModo(MODO, entrada.getNombre(), entrada.getPuntaje());
+                    }
+                }));
+            }
+            largada.countDown();
+            for (Thread corredor : corredores) {
+                corredor.join();
+            }
+        }
+    }
+
+    private static long dia(long fecha) {
+        return Math.floorDiv(fecha, MS_POR_DIA);
+    }
+
+    private static List<List<EntradaPuntuacion>> generar(int[] puntajes, long semilla, long ahora) {
+        SplittableRandom random = new SplittableRandom(semilla);
+        List<List<EntradaPuntuacion>> porHilo = new ArrayList<>();
+        for (int h = 0; h < HILOS; h++) {
+            List<EntradaPuntuacion> partidas = new ArrayList<>();
+            for (int i = 0; i < POR_HILO; i++) {
+                long fecha = ahora - DIAS_ATRAS[random.nextInt(DIAS_ATRAS.length)] * MS_POR_DIA - random.nextLong(MS_POR_DIA / 2);
+                partidas.add(new EntradaPuntuacion("Jugador" + random.nextInt(400), puntajes[h * POR_HILO + i], fecha));
+            }
+            porHilo.add(partidas);
+        }
+        return porHilo;
+    }
+
+    private static List<String> completas(List<EntradaPuntuacion> entradas) {
+        return entradas.stream().map(e -> e.getNombre() + ":" + e.getPuntaje() + ":" + e.getFecha()).toList();
+    }
+
+    private static List<Integer> puntajes(List<EntradaPuntuacion> entradas) {
+        return entradas.stream().map(EntradaPuntuacion::getPuntaje).toList();
+    }
+
+    // Sin empates el resultado no depende del orden de llegada: tiene que ser idéntico entrada por entrada
+    @Test
+    void conPuntajesDistintosCadaVistaEsIgualALaSecuencial() throws InterruptedException {
+        List<Integer> orden = new ArrayList<>();
+        for (int i = 0; i < HILOS * POR_HILO; i++) {
+            orden.add(i);
+        }
+        Collections.shuffle(orden, new Random(3));
+        int[] distintos = orden.stream().mapToInt(Integer::intValue).toArray();
+        Comparacion comparacion = new Comparacion();
+
+        comparacion.jugar(generar(distintos, 11, AHORA), AHORA);
+
+        GestorPuntuacionesConcurrente gestor = comparacion.gestor;
+        assertEquals(completas(comparacion.historico.ordenadas()), completas(gestor.obtenerTopDeModo(MODO)));
+        assertEquals(completas(comparacion.hoy.top(dia(AHORA))), completas(gestor.obtenerTopDeModo(MODO, PeriodoPuntuaciones.HOY)));
+        assertEquals(completas(comparacion.semana.top(dia(AHORA))), completas(gestor.obtenerTopDeModo(MODO, PeriodoPuntuaciones.SEMANA)));
+        assertEquals(completas(comparacion.jugadores.top(CAPACIDAD)), completas(gestor.obtenerTopJugadoresDeModo(MODO)));
+    }
+
+    // Con muchos empates, cuál de los empatados queda depende de quién llegó antes; los puntajes
+    // del top y la mejor marca de cada jugador no
+    @Test
+    void conEmpatesCoincidenLosPuntajesYLaMejorMarcaDeCadaJugador() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(5);
+        int[] conEmpates = new int[HILOS * POR_HILO];
+        for (int i = 0; i < conEmpates.length; i++) {
+            conEmpates[i] = random.nextInt(300);
+        }
+        Comparacion comparacion = new Comparacion();
+
+        comparacion.jugar(generar(conEmpates, 13, AHORA), AHORA);
+
+        GestorPuntuacionesConcurrente gestor = comparacion.gestor;
+        assertEquals(puntajes(comparacion.historico.ordenadas()), puntajes(gestor.obtenerTopDeModo(MODO)));
+        assertEquals(puntajes(comparacion.hoy.top(dia(AHORA))), puntajes(gestor.obtenerTopDeModo(MODO, PeriodoPuntuaciones.HOY)));
+        assertEquals(puntajes(comparacion.semana.top(dia(AHORA))), puntajes(gestor.obtenerTopDeModo(MODO, PeriodoPuntuaciones.SEMANA)));
+        assertEquals(puntajes(comparacion.jugadores.top(CAPACIDAD)), puntajes(gestor.obtenerTopJugadoresDeModo(MODO)));
+        for (int n = 0; n < 400; n++) {
+            String nombre = "Jugador" + n;
+            EntradaPuntuacion esperada = comparacion.jugadores.mejorDe(nombre);
+            EntradaPuntuacion obtenida = gestor.obtenerMejorDeJugador(MODO, nombre);
+            assertEquals(esperada == null ? null : esperada.getPuntaje(), obtenida == null ? null : obtenida.getPuntaje(), nombre);
+        }
+        assertEquals((long) HILOS * POR_HILO, gestor.obtenerPosicionDeModo(MODO, 0).getTotal());
+    }
+
+    // Los cortes publicados llevan su día: los umbrales altos de ayer no frenan las partidas de hoy
+    @Test
+    void alCambiarElDiaLasVentanasNoUsanElUmbralDeAyer() throws InterruptedException {
+        int[] altos = new int[HILOS * POR_HILO];
+        int[] bajos = new int[HILOS * POR_HILO];
+        for (int i = 0; i < altos.length; i++) {
+            altos[i] = 1_000_000 + i;
+            bajos[i] = i;
+        }
+        long manana = AHORA + MS_POR_DIA;
+        Comparacion comparacion = new Comparacion();
+
+        comparacion.jugar(generar(altos, 17, AHORA), AHORA);
+        GestorPuntuacionesConcurrente gestor = comparacion.gestor;
+        assertEquals(completas(comparacion.hoy.top(dia(AHORA))), completas(gestor.obtenerTopDeModo(MODO, PeriodoPuntuaciones.HOY)));
+
+        comparacion.jugar(generar(bajos, 19, manana), manana);
+        assertEquals(completas(comparacion.historico.ordenadas()), completas(gestor.obtenerTopDeModo(MODO)));
+        assertEquals(completas(comparacion.hoy.top(dia(manana))), completas(gestor.obtenerTopDeModo(MODO, PeriodoPuntuaciones.HOY)));
+        assertEquals(completas(comparacion.semana.top(dia(manana))), completas(gestor.obtenerTopDeModo(MODO, PeriodoPuntuaciones.SEMANA)));
+        assertEquals(completas(comparacion.jugadores.top(CAPACIDAD)), completas(gestor.obtenerTopJugadoresDeModo(MODO)));
+    }
+}
@@ -0,0 +1,143 @@
+package Modelo;
+
+import Exceptions.PuntuacionesCorruptasException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LectorPuntuacionesJsonTest {
+
+    private static LectorPuntuacionesJson lector(String json) {
+        return new LectorPuntuacionesJson(new StringReader(json));
+    }
+
+    @Test
+    void leeLoQueEscribeElEscritor() throws IOException {
+        List<EntradaPuntuacion> entradas = List.of(
+                new EntradaPuntuacion("Ana", 15, 1_700_000_000_000L),
+                new EntradaPuntuacion("comillas \" y \\ barra", 7),
+                new EntradaPuntuacion("ñandú\tcon tab", 0));
+        StringWriter salida = new StringWriter();
+        EscritorPuntuacionesJson.escribirTodas(salida, entradas);
+
+        List<EntradaPuntuacion> leidas = lector(salida.toString()).leerTodas();
+
+        assertEquals(entradas.size(), leidas.size());
+        for (int i = 0; i < entradas.size(); i++) {
+            assertEquals(entradas.get(i).getNombre(), leidas.get(i).getNombre());
+            assertEquals(entradas.get(i).getPuntaje(), leidas.get(i).getPuntaje());
+            assertEquals(entradas.get(i).getFecha(), leidas.get(i).getFecha());
+        }
+    }
+
+    @Test
+    void leeDesdeUnBufferDeBytes() throws IOException {
+        byte[] json = "[{\"nombre\":\"ñoño\",\"puntaje\":3}]".getBytes(StandardCharsets.UTF_8);
+
+        List<EntradaPuntuacion> leidas = new LectorPuntuacionesJson(ByteBuffer.wrap(json)).leerTodas();
+
+        assertEquals(1, leidas.size());
+        assertEquals("ñoño", leidas.get(0).getNombre());
+    }
+
+    @Test
+    void saltaClavesDesconocidas() throws IOException {
+        String json = "[{\"extra\":{\"a\":[1,2,{\"b\":null}]},\"nombre\":\"Ana\",\"otro\":true,\"puntaje\":4}]";
+
+        List<EntradaPuntuacion> leidas = lector(json).leerTodas();
+
+        assertEquals(1, leidas.size());
+        assertEquals(4, leidas.get(0).getPuntaje());
+    }
+
+    @Test
+    void rechazaDocumentosMalFormados() {
+        assertThrows(PuntuacionesCorruptasException.class, () -> lector("{\"nombre\":\"Ana\"}").leerTodas());
+        assertThrows(PuntuacionesCorruptasException.class, () -> lector("[{\"nombre\":\"Ana\",\"puntaje\":1}").leerTodas());
+        assertThrows(PuntuacionesCorruptasException.class, () -> lector("[{\"nombre\":\"Ana\",\"puntaje\":1}] basura").leerTodas());
+    }
+
+    @Test
+    void registroConUltimaLineaCortadaConservaLasAnteriores() throws IOException {
+        String registro = "{\"nombre\":\"Ana\",\"puntaje\":3}\n"
+                + "{\"nombre\":\"Beto\",\"puntaje\":5}\n"
+                + "{\"nombre\":\"Car";
+        List<EntradaPuntuacion> leidas = new ArrayList<>();
+
+        int descartadas = lector(registro).leerRegistros(leidas::add);
+
+        assertEquals(1, descartadas);
+        assertEquals(2, leidas.size());
+        assertEquals("Beto", leidas.get(1).getNombre());
+    }
+
+    @Test
+    void registroSigueDespuesDeUnaLineaIlegible() throws IOException {
+        // Una línea cortada a la que después se le agregó el salto que falta, como hace el registro
+        String registro = "{\"nombre\":\"Ana\",\"pun\n"
+                + "{\"nombre\":\"Beto\",\"puntaje\":5}\n"
+                + "no es json\n"
+                + "{\"nombre\":\"Caro\",\"puntaje\":8}\n";
+        List<EntradaPuntuacion> leidas = new ArrayList<>();
+
+        int descartadas = lector(registro).leerRegistros(leidas::add);
+
+        assertEquals(2, descartadas);
+        assertEquals(List.of("Beto", "Caro"), leidas.stream().map(EntradaPuntuacion::getNombre).toList());
+    }
+
+    @Test
+    void instantaneaConElFormatoDeListaEsGeneracionCero() throws IOException {
+        String anterior = "[{\"nombre\":\"Ana\",\"puntaje\":9},{\"nombre\":\"Beto\",\"puntaje\":9},{\"nombre\":\"Caro\",\"puntaje\":2}]";
+
+        InstantaneaPuntuaciones instantanea = lector(anterior).leerInstantanea();
+
+        assertEquals(0, instantanea.generacion);
+        assertEquals(0, instantanea.desplazamiento);
+        assertEquals(3, instantanea.top.size());
+        assertTrue(instantanea.jugadores.isEmpty());
+        // Sin histograma guardado se arma con las partidas del top
+        assertEquals(3, instantanea.histograma.getTotal());
+        assertEquals(2, instantanea.histograma.contarMayoresQue(2));
+    }
+
+    @Test
+    void instantaneaCompleta() throws IOException {
+        String json = "{\"generacion\":4,\"desplazamiento\":120,"
+                + "\"top\":[{\"nombre\":\"Ana\",\"puntaje\":9}],"
+                + "\"jugadores\":[{\"nombre\":\"Ana\",\"puntaje\":9},{\"nombre\":\"Beto\",\"puntaje\":1}],"
+                + "\"histograma\":[[1,40],[9,2]],"
+                + "\"futuro\":{\"x\":1},"
+                + "\"recientes\":[{\"nombre\":\"Beto\",\"puntaje\":1,\"fecha\":1700000000000}]}";
+
+        InstantaneaPuntuaciones instantanea = lector(json).leerInstantanea();
+
+        assertEquals(4, instantanea.generacion);
+        assertEquals(120, instantanea.desplazamiento);
+        assertEquals(1, instantanea.top.size());
+        assertEquals(2, instantanea.jugadores.size());
+        assertEquals(42, instantanea.histograma.getTotal());
+        assertEquals(40, instantanea.histograma.contarMenoresQue(9));
+        assertEquals(1, instantanea.recientes.size());
+        assertTrue(instantanea.recientes.get(0).tieneFecha());
+    }
+
+    @Test
+    void instantaneaVaciaEsUnaTablaVacia() throws IOException {
+        InstantaneaPuntuaciones instantanea = lector("  ").leerInstantanea();
+
+        assertTrue(instantanea.top.isEmpty());
+        assertEquals(0, instantanea.histograma.getTotal());
+        assertTrue(instantanea.recientes.isEmpty());
+    }
+}
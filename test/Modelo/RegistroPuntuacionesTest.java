@@ -0,0 +1,299 @@
+package Modelo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegistroPuntuacionesTest {
+
+    private static final Clock RELOJ = Clock.fixed(Instant.parse("2025-03-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final int CAPACIDAD = 5;
+
+    @TempDir
+    Path directorio;
+
+    private final List<String> avisos = new ArrayList<>();
+
+    private Path instantanea() {
+        return directorio.resolve("tabla.json");
+    }
+
+    private Path registro() {
+        return directorio.resolve("tabla.log");
+    }
+
+    private Path historial() {
+        return directorio.resolve("tabla.bin");
+    }
+
+    private RegistroPuntuaciones abrir() throws IOException {
+        return abrir(false);
+    }
+
+    private RegistroPuntuaciones abrir(boolean conHistorial) throws IOException {
+        return RegistroPuntuaciones.abrir(instantanea().toString(), CAPACIDAD, RELOJ, conHistorial, avisos::add);
+    }
+
+    private static long total(RegistroPuntuaciones tabla) {
+        return tabla.posicionDe(0).getTotal();
+    }
+
+    private static List<Integer> puntajesDelTop(RegistroPuntuaciones tabla) {
+        return tabla.obtenerTop().stream().map(EntradaPuntuacion::getPuntaje).toList();
+    }
+
+    private boolean hayAvisoQueContiene(String texto) {
+        return avisos.stream().anyMatch(aviso -> aviso.contains(texto));
+    }
+
+    @Test
+    void loVolcadoSeRecuperaAlReabrir() throws IOException {
+        RegistroPuntuaciones tabla = abrir();
+        tabla.registrar("Ana", 4);
+        tabla.registrar("Beto", 9);
+        tabla.registrar("Ana", 6);
+        tabla.volcar();
+
+        RegistroPuntuaciones reabierta = abrir();
+
+        assertEquals(List.of(9, 6, 4), puntajesDelTop(reabierta));
+        assertEquals(3, total(reabierta));
+        assertEquals(6, reabierta.mejorDe("Ana").getPuntaje());
+        assertEquals(2, reabierta.posicionDe(6).getPosicion());
+        assertTrue(avisos.isEmpty());
+    }
+
+    @Test
+    void ultimaLineaCortadaSeDescartaYNoSePegaALaSiguiente() throws IOException {
+        RegistroPuntuaciones tabla = abrir();
+        tabla.registrar("Ana", 4);
+        tabla.registrar("Beto", 9);
+        tabla.volcar();
+        // Una caída a mitad de la escritura deja la última línea sin terminar
+        Files.writeString(registro(), "{\"nombre\":\"Caro\",\"pun", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        RegistroPuntuaciones reabierta = abrir();
+        assertEquals(2, total(reabierta));
+        assertTrue(hayAvisoQueContiene("Se descartaron 1"));
+
+        reabierta.registrar("Dani", 7);
+        reabierta.volcar();
+        avisos.clear();
+
+        RegistroPuntuaciones otraVez = abrir();
+        assertEquals(List.of(9, 7, 4), puntajesDelTop(otraVez));
+        assertEquals(3, total(otraVez));
+        assertTrue(hayAvisoQueContiene("Se descartaron 1"));
+    }
+
+    @Test
+    void registroSinCabeceraSeApartaComoCorrupto() throws IOException {
+        Files.writeString(registro(), "{\"nombre\":\"Ana\",\"puntaje\":4}\n", StandardCharsets.UTF_8);
+
+        RegistroPuntuaciones tabla = abrir();
+
+        assertEquals(0, total(tabla));
+        assertTrue(hayAvisoQueContiene("no tiene cabecera"));
+        assertFalse(Files.exists(registro()));
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            assertEquals(1, archivos.filter(p -> p.getFileName().toString().startsWith("tabla.log.corrupto-")).count());
+        }
+
+        // El registro nuevo arranca con su cabecera y se lee normalmente
+        tabla.registrar("Beto", 5);
+        tabla.volcar();
+        assertTrue(Files.readString(registro()).startsWith("DEATHDRAW-REGISTRO "));
+        assertEquals(1, total(abrir()));
+    }
+
+    @Test
+    void instantaneaConElFormatoDeListaSeMigraAlCompactar() throws IOException {
+        Files.writeString(instantanea(), "[{\"nombre\":\"Ana\",\"puntaje\":8},{\"nombre\":\"Beto\",\"puntaje\":3}]", StandardCharsets.UTF_8);
+
+        RegistroPuntuaciones tabla = abrir();
+        assertEquals(List.of(8, 3), puntajesDelTop(tabla));
+        assertEquals(8, tabla.mejorDe("Ana").getPuntaje());
+
+        tabla.registrar("Caro", 5);
+        tabla.compactar();
+
+        assertTrue(Files.readString(instantanea()).startsWith("{\"generacion\":"));
+        RegistroPuntuaciones reabierta = abrir();
+        assertEquals(List.of(8, 5, 3), puntajesDelTop(reabierta));
+        assertEquals(3, total(reabierta));
+        assertTrue(avisos.isEmpty());
+    }
+
+    @Test
+    void compactarPliegaElRegistroEnLaInstantanea() throws IOException {
+        RegistroPuntuaciones tabla = abrir();
+        for (int i = 1; i <= 8; i++) {
+            tabla.registrar("J" + i, i);
+        }
+        tabla.compactar();
+
+        assertEquals("DEATHDRAW-REGISTRO 2\n", Files.readString(registro()));
+        assertFalse(tabla.necesitaCompactar());
+        RegistroPuntuaciones reabierta = abrir();
+        assertEquals(List.of(8, 7, 6, 5, 4), puntajesDelTop(reabierta));
+        assertEquals(8, total(reabierta));
+
+        reabierta.registrar("J9", 9);
+        reabierta.compactar();
+        assertEquals("DEATHDRAW-REGISTRO 3\n", Files.readString(registro()));
+        assertEquals(9, total(abrir()));
+    }
+
+    @Test
+    void corteEntreInstantaneaYRotacionNoDuplicaPartidas() throws IOException {
+        RegistroPuntuaciones tabla = abrir();
+        tabla.registrar("Ana", 4);
+        tabla.registrar("Beto", 9);
+        tabla.volcar();
+        Path copiaRegistro = directorio.resolve("copia.log");
+        Files.copy(registro(), copiaRegistro);
+
+        tabla.compactar();
+        // La instantánea nueva quedó escrita pero el registro viejo no llegó a reemplazarse
+        Files.copy(copiaRegistro, registro(), StandardCopyOption.REPLACE_EXISTING);
+
+        RegistroPuntuaciones reabierta = abrir();
+        assertEquals(2, total(reabierta));
+
+        reabierta.registrar("Caro", 1);
+        reabierta.volcar();
+        reabierta.compactar();
+        assertEquals(3, total(abrir()));
+    }
+
+    @Test
+    void historialAdelantadoALaInstantaneaNoDuplicaPartidas() throws IOException {
+        RegistroPuntuaciones tabla = abrir(true);
+        tabla.registrar("Ana", 4);
+        tabla.registrar("Beto", 9);
+        tabla.registrar("Caro", 2);
+        tabla.compactar();
+        assertTrue(Files.exists(historial()));
+        assertEquals(3, tabla.obtenerHistorial().getCantidad());
+
+        tabla.registrar("Dani", 7);
+        tabla.registrar("Eli", 5);
+        tabla.volcar();
+        Path copiaInstantanea = directorio.resolve("copia.json");
+        Path copiaRegistro = directorio.resolve("copia.log");
+        Files.copy(instantanea(), copiaInstantanea);
+        Files.copy(registro(), copiaRegistro);
+
+        tabla.compactar();
+        // El historial se actualizó pero la caída llegó antes de la instantánea: queda un paso adelante
+        Files.copy(copiaInstantanea, instantanea(), StandardCopyOption.REPLACE_EXISTING);
+        Files.copy(copiaRegistro, registro(), StandardCopyOption.REPLACE_EXISTING);
+
+        RegistroPuntuaciones reabierta = abrir(true);
+        assertEquals(5, total(reabierta));
+        assertEquals(5, reabierta.obtenerHistorial().getCantidad());
+
+        reabierta.registrar("Fede", 1);
+        reabierta.compactar();
+        assertEquals(6, reabierta.obtenerHistorial().getCantidad());
+        assertEquals(6, total(abrir(true)));
+        assertEquals(List.of(9, 7, 5, 4, 2), reabierta.obtenerHistorial().top(CAPACIDAD)
+                .stream().map(EntradaPuntuacion::getPuntaje).toList());
+    }
+
+    @Test
+    void conHistorialTopYPosicionesSalenDelArchivoMapeado() throws IOException {
+        RegistroPuntuaciones tabla = abrir(true);
+        List<Integer> puntajes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int puntaje = (i * 37) % 101;
+            tabla.registrar("J" + (i % 17), puntaje);
+            puntajes.add(puntaje);
+        }
+        assertFalse(tabla.respondeDesdeHistorial()); // Todavía no hay .bin
+        tabla.compactar();
+        assertTrue(tabla.respondeDesdeHistorial());
+
+        // Posteriores a la compactación: viven en memoria hasta la próxima
+        tabla.registrar("Nuevo", 100);
+        tabla.registrar("Otro", 150);
+        puntajes.add(100);
+        puntajes.add(150);
+
+        RegistroPuntuaciones reabierta = abrir(true);
+        reabierta.registrar("Otro", 150);
+        puntajes.add(150);
+        tabla.volcar();
+        reabierta.volcar();
+        assertTrue(reabierta.respondeDesdeHistorial());
+
+        assertEquals(List.of(150, 150, 100, 100, 100), puntajesDelTop(reabierta));
+        for (int puntaje : new int[]{0, 1, 50, 99, 100, 101, 150, 151}) {
+            long mayores = puntajes.stream().filter(p -> p > puntaje).count();
+            long menores = puntajes.stream().filter(p -> p < puntaje).count();
+            PosicionRanking posicion = reabierta.posicionDe(puntaje);
+            assertEquals(mayores + 1, posicion.getPosicion(), "posición de " + puntaje);
+            assertEquals(puntajes.size(), posicion.getTotal());
+            assertEquals(Math.round(100.0 * menores / puntajes.size()), Math.round(posicion.getPercentil()));
+        }
+    }
+
+    @Test
+    void historialEmpezadoSobreUnaTablaConPartidasNoSeUsaParaPosiciones() throws IOException {
+        RegistroPuntuaciones sinHistorial = abrir(false);
+        sinHistorial.registrar("Ana", 8);
+        sinHistorial.registrar("Beto", 3);
+        sinHistorial.compactar();
+
+        RegistroPuntuaciones conHistorial = abrir(true);
+        conHistorial.registrar("Caro", 5);
+        conHistorial.compactar();
+
+        // El .bin solo tiene la partida de Caro: el total saldría mal, así que responde la memoria
+        assertEquals(1, conHistorial.obtenerHistorial().getCantidad());
+        assertFalse(conHistorial.respondeDesdeHistorial());
+        assertEquals(3, total(conHistorial));
+        assertEquals(List.of(8, 5, 3), puntajesDelTop(conHistorial));
+    }
+
+    @Test
+    void cadaVolcadoIncorporaLoQueAgregaronOtrosProcesos() throws IOException {
+        RegistroPuntuaciones uno = abrir();
+        RegistroPuntuaciones otro = abrir();
+
+        uno.registrar("Ana", 10);
+        uno.volcar();
+        otro.registrar("Beto", 5);
+        otro.volcar();
+        assertEquals(List.of(10, 5), puntajesDelTop(otro));
+
+        // Si el otro compacta, el registro cambia de generación y el primero recarga todo
+        otro.compactar();
+        uno.registrar("Ana", 3);
+        uno.volcar();
+        assertEquals(List.of(10, 5, 3), puntajesDelTop(uno));
+        assertEquals(3, total(uno));
+
+        otro.registrar("Beto", 7);
+        otro.volcar();
+        uno.volcar();
+        assertEquals(4, total(uno));
+        assertEquals(4, total(abrir()));
+    }
+}
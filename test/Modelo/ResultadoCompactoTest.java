@@ -0,0 +1,116 @@
+package Modelo;
+
+import Carta.Carta;
+import Carta.CatalogoCartas;
+import EfectosEspeciales.CategoriaEfecto;
+import EfectosEspeciales.TipoEfecto;
+import Moneda.Lado;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultadoCompactoTest {
+
+    @Test
+    void todasLasCartasSobrevivenLaIdaYVuelta() {
+        for (int id = 0; id < CatalogoCartas.TOTAL_CARTAS; id++) {
+            Carta anterior = CatalogoCartas.obtener(id);
+            Carta nueva = CatalogoCartas.obtener(CatalogoCartas.TOTAL_CARTAS - 1 - id);
+            long codigo = ResultadoCompacto.codificar(false, false, 0, false, 0, anterior, nueva, false);
+
+            assertSame(anterior, ResultadoCompacto.cartaAnterior(codigo));
+            assertSame(nueva, ResultadoCompacto.nuevaCarta(codigo));
+        }
+    }
+
+    @Test
+    void banderasYVidasSonIndependientes() {
+        Carta carta = CatalogoCartas.obtener(0);
+        for (int mascara = 0; mascara < 32; mascara++) {
+            boolean acerto = (mascara & 1) != 0;
+            boolean impacto = (mascara & 2) != 0;
+            boolean jugador2 = (mascara & 4) != 0;
+            int apuesta = (mascara >>> 3) & 1;
+            boolean solo = (mascara & 16) != 0;
+            for (int vidas : new int[]{0, 1, 3, 255}) {
+                long codigo = ResultadoCompacto.codificar(acerto, impacto, vidas, jugador2, apuesta, carta, carta, solo);
+
+                assertEquals(acerto, ResultadoCompacto.acerto(codigo));
+                assertEquals(impacto, ResultadoCompacto.huboImpacto(codigo));
+                assertEquals(jugador2, ResultadoCompacto.esJugador2(codigo));
+                assertEquals(apuesta, ResultadoCompacto.ordinalApuesta(codigo));
+                assertEquals(solo, ResultadoCompacto.esModoSolo(codigo));
+                assertEquals(vidas, ResultadoCompacto.vidasRestantes(codigo));
+                assertFalse(ResultadoCompacto.tieneEfecto(codigo));
+                assertNull(ResultadoCompacto.tipoEfecto(codigo));
+            }
+        }
+    }
+
+    @Test
+    void elEfectoNoPisaLosCamposDeLaApuesta() {
+        Carta anterior = CatalogoCartas.obtener(CatalogoCartas.TOTAL_CARTAS - 1);
+        Carta nueva = CatalogoCartas.obtener(17);
+        long base = ResultadoCompacto.codificar(true, true, 255, true, 1, anterior, nueva, false);
+        assertEquals(0L, base & ResultadoCompacto.MASCARA_CAMPOS_EFECTO);
+
+        for (TipoEfecto tipo : TipoEfecto.values()) {
+            for (CategoriaEfecto categoria : CategoriaEfecto.values()) {
+                for (Lado eleccion : Lado.values()) {
+                    for (Lado salio : Lado.values()) {
+                        for (int detalle : new int[]{0, 1, ResultadoCompacto.MAX_DETALLE}) {
+                            for (boolean error : new boolean[]{false, true}) {
+                                long efecto = ResultadoCompacto.codificarEfecto(tipo, categoria, eleccion, salio, detalle, error);
+                                assertEquals(efecto, efecto & ResultadoCompacto.MASCARA_CAMPOS_EFECTO);
+                                long codigo = base | efecto;
+
+                                assertTrue(ResultadoCompacto.tieneEfecto(codigo));
+                                assertSame(tipo, ResultadoCompacto.tipoEfecto(codigo));
+                                assertSame(categoria, ResultadoCompacto.categoriaEfecto(codigo));
+                                assertSame(eleccion, ResultadoCompacto.eleccionMoneda(codigo));
+                                assertSame(salio, ResultadoCompacto.resultadoMoneda(codigo));
+                                assertEquals(detalle, ResultadoCompacto.detalleEfecto(codigo));
+                                assertEquals(error, ResultadoCompacto.errorEfecto(codigo));
+
+                                assertTrue(ResultadoCompacto.acerto(codigo));
+                                assertTrue(ResultadoCompacto.huboImpacto(codigo));
+                                assertTrue(ResultadoCompacto.esJugador2(codigo));
+                                assertEquals(1, ResultadoCompacto.ordinalApuesta(codigo));
+                                assertEquals(255, ResultadoCompacto.vidasRestantes(codigo));
+                                assertSame(anterior, ResultadoCompacto.cartaAnterior(codigo));
+                                assertSame(nueva, ResultadoCompacto.nuevaCarta(codigo));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void resultadoApuestaSeReconstruyeDelCodigo() {
+        Carta anterior = CatalogoCartas.obtener(5);
+        Carta nueva = CatalogoCartas.obtener(40);
+        long codigo = ResultadoCompacto.codificar(true, false, 2, false, 0, anterior, nueva, true)
+                | ResultadoCompacto.codificarEfecto(TipoEfecto.VIDA_EXTRA, CategoriaEfecto.POSITIVA,
+                        Lado.CARA, Lado.CARA, 1, false);
+
+        ResultadoApuesta resultado = new ResultadoApuesta(codigo, "Ana", null, "MAYOR");
+
+        assertTrue(resultado.esCompacto());
+        assertEquals(codigo, resultado.getCodigo());
+        assertTrue(resultado.acerto());
+        assertFalse(resultado.huboImpacto());
+        assertEquals(2, resultado.getVidasRestantes());
+        assertEquals(0, resultado.getOrdinalApuesta());
+        assertSame(anterior, resultado.getCartaAnterior());
+        assertSame(nueva, resultado.getNuevaCarta());
+        assertTrue(resultado.esModoSolo());
+        assertTrue(resultado.tieneEfecto());
+        assertEquals(TipoEfecto.VIDA_EXTRA.name(), resultado.getTipoEfecto());
+    }
+}
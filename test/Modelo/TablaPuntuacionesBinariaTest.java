@@ -0,0 +1,94 @@
+package Modelo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TablaPuntuacionesBinariaTest {
+
+    @TempDir
+    Path directorio;
+
+    private static List<String> contenido(TablaPuntuacionesBinaria tabla) {
+        List<String> filas = new ArrayList<>();
+        for (int i = 0; i < tabla.getCantidad(); i++) {
+            filas.add(tabla.nombreEn(i) + ":" + tabla.puntajeEn(i) + ":" + tabla.fechaEn(i));
+        }
+        return filas;
+    }
+
+    private static List<EntradaPuntuacion> tanda(Random azar, int cantidad, long fechaInicial) {
+        List<EntradaPuntuacion> tanda = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            tanda.add(new EntradaPuntuacion("jugador" + azar.nextInt(20), azar.nextInt(50), fechaInicial + i));
+        }
+        return tanda;
+    }
+
+    @Test
+    void fusionarDaLoMismoQueEscribirTodoJunto() throws IOException {
+        Random azar = new Random(7);
+        Path binario = directorio.resolve("historial.bin");
+        List<EntradaPuntuacion> todas = new ArrayList<>();
+        TablaPuntuacionesBinaria tabla = null;
+
+        for (int vuelta = 0; vuelta < 5; vuelta++) {
+            List<EntradaPuntuacion> nuevas = tanda(azar, 300, vuelta * 1000L);
+            todas.addAll(nuevas);
+            TablaPuntuacionesBinaria.fusionar(tabla, nuevas, binario, vuelta, vuelta * 10L);
+            tabla = TablaPuntuacionesBinaria.abrir(binario);
+        }
+
+        Path completo = directorio.resolve("completo.bin");
+        TablaPuntuacionesBinaria.escribir(completo, todas);
+        assertEquals(contenido(TablaPuntuacionesBinaria.abrir(completo)), contenido(tabla));
+        assertEquals(4, tabla.getGeneracion());
+        assertEquals(40, tabla.getDesplazamiento());
+    }
+
+    @Test
+    void aIgualPuntajeLasAnterioresVanPrimero() throws IOException {
+        Path binario = directorio.resolve("historial.bin");
+        TablaPuntuacionesBinaria.escribir(binario, List.of(
+                new EntradaPuntuacion("ana", 10, 1), new EntradaPuntuacion("beto", Integer.MIN_VALUE, 2)));
+
+        TablaPuntuacionesBinaria.fusionar(TablaPuntuacionesBinaria.abrir(binario), List.of(
+                new EntradaPuntuacion("carla", Integer.MIN_VALUE, 3), new EntradaPuntuacion("dani", 10, 4),
+                new EntradaPuntuacion("eva", 99, 5)), binario, 1, 0);
+
+        assertEquals(List.of("eva:99:5", "ana:10:1", "dani:10:4",
+                        "beto:" + Integer.MIN_VALUE + ":2", "carla:" + Integer.MIN_VALUE + ":3"),
+                contenido(TablaPuntuacionesBinaria.abrir(binario)));
+    }
+
+    @Test
+    void losNombresAnterioresSeCopianSinReescribirse() throws IOException {
+        Path binario = directorio.resolve("historial.bin");
+        List<EntradaPuntuacion> primeras = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            primeras.add(new EntradaPuntuacion("ñandú", i, i));
+        }
+        TablaPuntuacionesBinaria.escribir(binario, primeras);
+        long tamanioAntes = Files.size(binario);
+
+        TablaPuntuacionesBinaria.fusionar(TablaPuntuacionesBinaria.abrir(binario),
+                List.of(new EntradaPuntuacion("ñandú", 50, 500)), binario, 1, 0);
+
+        // Un registro más y el nombre repetido una vez, en la tanda nueva
+        int nombre = 2 + "ñandú".getBytes(StandardCharsets.UTF_8).length;
+        assertEquals(tamanioAntes + TablaPuntuacionesBinaria.TAMANIO_REGISTRO + nombre, Files.size(binario));
+        TablaPuntuacionesBinaria tabla = TablaPuntuacionesBinaria.abrir(binario);
+        assertEquals(101, tabla.getCantidad());
+        assertEquals("ñandú", tabla.nombreEn(0));
+        assertEquals(500, tabla.fechaEn(50));
+    }
+}
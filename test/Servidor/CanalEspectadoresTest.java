@@ -0,0 +1,142 @@
+package Servidor;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CanalEspectadoresTest {
+
+    private static final int LOTE = 16;
+
+    // Todo lo que la suscripción tenga para entregar ahora, como texto sin el salto final
+    private static List<String> tomarTodo(SuscripcionEspectador suscripcion) {
+        List<String> lineas = new ArrayList<>();
+        ByteBuffer[] lote = new ByteBuffer[LOTE];
+        int tomados;
+        while ((tomados = suscripcion.tomar(lote, 0, LOTE)) > 0) {
+            for (int i = 0; i < tomados; i++) {
+                lineas.add(StandardCharsets.UTF_8.decode(lote[i]).toString().stripTrailing());
+            }
+        }
+        return lineas;
+    }
+
+    private static void publicar(CanalEspectadores canal, int desde, int hasta) {
+        for (int i = desde; i <= hasta; i++) {
+            canal.publicar("c" + i);
+        }
+    }
+
+    @Test
+    void cadaEspectadorRecibeLosMismosBytesConPosicionPropia() {
+        CanalEspectadores canal = new CanalEspectadores(8);
+        SuscripcionEspectador uno = canal.suscribir(4, PoliticaDesborde.DESCARTAR_NUEVO);
+        SuscripcionEspectador otro = canal.suscribir(4, PoliticaDesborde.DESCARTAR_NUEVO);
+        publicar(canal, 1, 3);
+
+        assertEquals(List.of("c1", "c2", "c3"), tomarTodo(uno));
+        assertEquals(List.of("c1", "c2", "c3"), tomarTodo(otro));
+        assertEquals(3, canal.getPublicados());
+        assertEquals(2, canal.getSuscriptores());
+    }
+
+    @Test
+    void elQueLlegaTardeArrancaConElUltimoCuadro() {
+        CanalEspectadores canal = new CanalEspectadores(8);
+        publicar(canal, 1, 3);
+
+        SuscripcionEspectador tarde = canal.suscribir(4, PoliticaDesborde.DESCARTAR_NUEVO);
+
+        assertEquals(List.of("c3"), tomarTodo(tarde));
+        assertEquals(0, tarde.getDescartados());
+    }
+
+    @Test
+    void descartarNuevoConservaLosPrimerosYPierdeElResto() {
+        CanalEspectadores canal = new CanalEspectadores(16);
+        SuscripcionEspectador suscripcion = canal.suscribir(3, PoliticaDesborde.DESCARTAR_NUEVO);
+        publicar(canal, 1, 6);
+
+        assertEquals(List.of("c1", "c2", "c3"), tomarTodo(suscripcion));
+        assertEquals(3, suscripcion.getDescartados());
+
+        publicar(canal, 7, 8);
+        assertEquals(List.of("c7", "c8"), tomarTodo(suscripcion));
+    }
+
+    @Test
+    void descartarAntiguoQuedaCercaDelPresente() {
+        CanalEspectadores canal = new CanalEspectadores(16);
+        SuscripcionEspectador suscripcion = canal.suscribir(3, PoliticaDesborde.DESCARTAR_ANTIGUO);
+        publicar(canal, 1, 6);
+
+        assertEquals(List.of("c4", "c5", "c6"), tomarTodo(suscripcion));
+        assertEquals(3, suscripcion.getDescartados());
+    }
+
+    @Test
+    void coalescerSeQuedaSoloConElUltimo() {
+        CanalEspectadores canal = new CanalEspectadores(16);
+        SuscripcionEspectador suscripcion = canal.suscribir(3, PoliticaDesborde.COALESCER);
+        publicar(canal, 1, 2);
+        assertEquals(List.of("c1", "c2"), tomarTodo(suscripcion));
+
+        publicar(canal, 3, 8);
+        assertEquals(List.of("c8"), tomarTodo(suscripcion));
+        assertEquals(5, suscripcion.getDescartados());
+    }
+
+    @Test
+    void loQuePisoElAnilloCuentaComoDescartado() {
+        CanalEspectadores canal = new CanalEspectadores(4);
+        SuscripcionEspectador suscripcion = canal.suscribir(4, PoliticaDesborde.DESCARTAR_NUEVO);
+        publicar(canal, 1, 10);
+
+        // La ventana c1..c4 ya no está en el anillo: se pierde y se salta a lo que llegó después
+        assertEquals(List.of(), tomarTodo(suscripcion));
+        assertEquals(10, suscripcion.getDescartados());
+        publicar(canal, 11, 11);
+        assertEquals(List.of("c11"), tomarTodo(suscripcion));
+    }
+
+    @Test
+    void tomarRespetaElMaximoYSigueDondeQuedo() {
+        CanalEspectadores canal = new CanalEspectadores(16);
+        SuscripcionEspectador suscripcion = canal.suscribir(8, PoliticaDesborde.DESCARTAR_NUEVO);
+        publicar(canal, 1, 5);
+
+        ByteBuffer[] lote = new ByteBuffer[4];
+        assertEquals(2, suscripcion.tomar(lote, 1, 2));
+        assertEquals(3, suscripcion.getPendientes());
+        assertEquals(List.of("c3", "c4", "c5"), tomarTodo(suscripcion));
+        assertEquals(0, suscripcion.getPendientes());
+    }
+
+    @Test
+    void cancelarDejaDeEntregarYSaleDelConteo() {
+        CanalEspectadores canal = new CanalEspectadores(8);
+        SuscripcionEspectador suscripcion = canal.suscribir(4, PoliticaDesborde.COALESCER);
+        publicar(canal, 1, 2);
+
+        suscripcion.cancelar();
+        suscripcion.cancelar();
+
+        assertTrue(suscripcion.estaCancelada());
+        assertEquals(0, canal.getSuscriptores());
+        assertEquals(List.of(), tomarTodo(suscripcion));
+    }
+
+    @Test
+    void laColaNoPuedeSuperarElAnillo() {
+        assertThrows(IllegalArgumentException.class, () -> new CanalEspectadores(6));
+        CanalEspectadores canal = new CanalEspectadores(8);
+        assertThrows(IllegalArgumentException.class, () -> canal.suscribir(9, PoliticaDesborde.COALESCER));
+    }
+}
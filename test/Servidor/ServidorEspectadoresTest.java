@@ -0,0 +1,98 @@
+package Servidor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@Timeout(30)
+class ServidorEspectadoresTest {
+
+    private CanalEspectadores canal;
+    private ServidorEspectadores servidor;
+    private final List<Socket> sockets = new ArrayList<>();
+
+    @BeforeEach
+    void iniciar() {
+        canal = new CanalEspectadores(64);
+        servidor = new ServidorEspectadores(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), canal,
+                64, PoliticaDesborde.DESCARTAR_NUEVO);
+        servidor.iniciar();
+    }
+
+    @AfterEach
+    void cerrar() throws IOException {
+        servidor.close();
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    // Un bloqueo en la lectura no lo corta @Timeout: el socket falla solo
+    private BufferedReader conectar() throws IOException, InterruptedException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), servidor.getPuerto());
+        socket.setSoTimeout(10_000);
+        sockets.add(socket);
+        int esperados = sockets.size();
+        while (canal.getSuscriptores() < esperados) {
+            Thread.sleep(5);
+        }
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void todosLosEspectadoresRecibenCadaCuadroEnOrden() throws Exception {
+        List<BufferedReader> lectores = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            lectores.add(conectar());
+        }
+
+        for (int turno = 1; turno <= 40; turno++) {
+            canal.publicar("{\"turno\":" + turno + "}");
+        }
+
+        for (BufferedReader lector : lectores) {
+            for (int turno = 1; turno <= 40; turno++) {
+                assertEquals("{\"turno\":" + turno + "}", lector.readLine());
+            }
+        }
+        assertEquals(5, servidor.getEspectadores());
+        assertEquals(0, servidor.getDescartados());
+    }
+
+    @Test
+    void alCerrarLosEspectadoresVenElFin() throws Exception {
+        BufferedReader lector = conectar();
+        canal.publicar("hola");
+        assertEquals("hola", lector.readLine());
+
+        servidor.close();
+
+        assertNull(lector.readLine());
+        assertEquals(0, canal.getSuscriptores());
+    }
+
+    @Test
+    void elQueSeVaLiberaSuSuscripcion() throws Exception {
+        conectar();
+        sockets.get(0).close();
+
+        while (canal.getSuscriptores() > 0 || servidor.getEspectadores() > 0) {
+            Thread.sleep(5);
+        }
+        canal.publicar("nadie escucha");
+    }
+}
@@ -0,0 +1,143 @@
+package Servidor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Timeout(30)
+class ServidorSelectorTest {
+
+    // Devuelve cada byte recibido; un '!' hace que atender reviente como si la clave se hubiera cancelado
+    private static final class ServidorEco extends ServidorSelector {
+        private final List<SocketChannel> canales = new ArrayList<>();
+        private volatile boolean fallarAlDespertar;
+
+        ServidorEco() {
+            super(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), "servidor de prueba", "prueba-selector");
+        }
+
+        @Override
+        void aceptada(SocketChannel canal) throws IOException {
+            registrar(canal, SelectionKey.OP_READ, canal);
+            canales.add(canal);
+        }
+
+        @Override
+        void atender(SelectionKey clave) {
+            SocketChannel canal = (SocketChannel) clave.attachment();
+            ByteBuffer leido = ByteBuffer.allocate(64);
+            try {
+                if (canal.read(leido) < 0) {
+                    cerrar(canal);
+                    return;
+                }
+                leido.flip();
+                if (leido.hasRemaining() && leido.get(0) == '!') {
+                    throw new CancelledKeyException();
+                }
+                canal.write(leido);
+            } catch (IOException e) {
+                cerrar(clave);
+            }
+        }
+
+        @Override
+        void alDespertar() {
+            if (fallarAlDespertar) {
+                fallarAlDespertar = false;
+                throw new IllegalStateException("falla de prueba");
+            }
+        }
+
+        @Override
+        void cerrar(SelectionKey clave) {
+            cerrar((SocketChannel) clave.attachment());
+        }
+
+        @Override
+        void cerrarConexiones() {
+            canales.forEach(ServidorEco::cerrar);
+        }
+
+        private static void cerrar(SocketChannel canal) {
+            try {
+                canal.close();
+            } catch (IOException e) {
+                // No importa en la prueba
+            }
+        }
+    }
+
+    private ServidorEco servidor;
+    private final List<Socket> sockets = new ArrayList<>();
+
+    @BeforeEach
+    void iniciar() {
+        servidor = new ServidorEco();
+        servidor.iniciar();
+    }
+
+    @AfterEach
+    void cerrar() throws IOException {
+        servidor.close();
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    // Un bloqueo en la lectura no lo corta @Timeout: el socket falla solo
+    private Socket conectar() throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), servidor.getPuerto());
+        socket.setSoTimeout(10_000);
+        sockets.add(socket);
+        return socket;
+    }
+
+    private static int eco(Socket socket, char letra) throws IOException {
+        socket.getOutputStream().write(letra);
+        socket.getOutputStream().flush();
+        return socket.getInputStream().read();
+    }
+
+    @Test
+    void unErrorAlAtenderCierraSoloEsaConexion() throws Exception {
+        Socket sana = conectar();
+        Socket rota = conectar();
+        assertEquals('a', eco(sana, 'a'));
+        assertEquals('b', eco(rota, 'b'));
+
+        InputStream entradaRota = rota.getInputStream();
+        assertEquals(-1, eco(rota, '!'));
+        assertEquals(-1, entradaRota.read());
+
+        assertEquals('c', eco(sana, 'c'));
+        assertEquals('d', eco(conectar(), 'd'));
+    }
+
+    @Test
+    void unErrorAlDespertarNoDetieneElSelector() throws Exception {
+        Socket socket = conectar();
+        servidor.fallarAlDespertar = true;
+        servidor.despertar();
+        while (servidor.fallarAlDespertar) {
+            Thread.sleep(5);
+        }
+
+        assertEquals('a', eco(socket, 'a'));
+    }
+}
@@ -0,0 +1,143 @@
+import Modelo.GestorPuntuacionesConcurrente;
+import Servidor.ServidorJuegoTcp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Por loopback y con SesionJuego de verdad: por eso vive en el paquete por defecto
+@Timeout(30)
+class ServidorJuegoTcpTest {
+
+    private GestorPuntuacionesConcurrente gestor;
+    private ServidorJuegoTcp servidor;
+
+    @BeforeEach
+    void iniciar() {
+        gestor = new GestorPuntuacionesConcurrente();
+        servidor = new ServidorJuegoTcp(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                consola -> new SesionJuego(consola, gestor));
+        servidor.iniciar();
+    }
+
+    @AfterEach
+    void cerrar() {
+        servidor.close();
+    }
+
+    // @Timeout no corta una lectura de socket bloqueada: si el guion se traba, falla la lectura
+    private Socket conectar() throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), servidor.getPuerto());
+        socket.setSoTimeout(10_000);
+        return socket;
+    }
+
+    // La sesión termina en su hilo virtual un poco después de que el cliente ve el cierre
+    private static void esperarQue(BooleanSupplier condicion) throws InterruptedException {
+        while (!condicion.getAsBoolean()) {
+            Thread.sleep(10);
+        }
+    }
+
+    // Contesta cada pregunta a medida que aparece: modo SOLO, apuesta MAYOR y CARA hasta perder, y salir
+    private static String jugarPartidaSolo(Socket socket) throws IOException {
+        Reader entrada = new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8);
+        OutputStream salida = socket.getOutputStream();
+        StringBuilder todo = new StringBuilder();
+        StringBuilder desdeUltimaRespuesta = new StringBuilder();
+        char[] bloque = new char[4096];
+        int leidos;
+        while ((leidos = entrada.read(bloque)) != -1) {
+            todo.append(bloque, 0, leidos);
+            desdeUltimaRespuesta.append(bloque, 0, leidos);
+            String respuesta = responder(desdeUltimaRespuesta.toString());
+            if (respuesta != null) {
+                salida.write((respuesta + "\n").getBytes(StandardCharsets.UTF_8));
+                salida.flush();
+                desdeUltimaRespuesta.setLength(0);
+            }
+        }
+        return todo.toString();
+    }
+
+    // El renderizador puede cerrar el cuadro con su propio fin de línea: se compara sin el blanco final
+    private static String responder(String salida) {
+        String pantalla = salida.stripTrailing();
+        if (pantalla.endsWith("Ingresa tu elección (1-6):")) {
+            return "4";
+        }
+        if (pantalla.endsWith("Nombre del Jugador 1:")) {
+            return "Ana";
+        }
+        if (pantalla.endsWith("(1-2):")) {
+            return "1";
+        }
+        if (pantalla.endsWith("Presiona ENTER para continuar...")) {
+            return "";
+        }
+        if (pantalla.endsWith("Ingresa tu elección (1-3):")) {
+            return "3";
+        }
+        return null;
+    }
+
+    @Test
+    void unaPartidaCompletaLiberaLaMesaAlTerminar() throws Exception {
+        String transcripcion;
+        try (Socket socket = conectar()) {
+            transcripcion = jugarPartidaSolo(socket);
+        }
+
+        assertTrue(transcripcion.contains("¡Gracias por jugar a DEATH DRAW!"));
+        assertEquals(1, gestor.obtenerPosicionDeModo("SOLO", 0).getTotal());
+        esperarQue(() -> servidor.getConexionesAbiertas() == 0 && servidor.getSesionesActivas() == 0);
+        assertEquals(1, servidor.getSesionesCreadas());
+    }
+
+    @Test
+    void clienteQueSeVaAMitadDeMenuLiberaLaMesa() throws Exception {
+        try (Socket socket = conectar()) {
+            Reader entrada = new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8);
+            entrada.read(new char[64]);
+            esperarQue(() -> servidor.getSesionesActivas() == 1);
+            assertEquals(1, servidor.getConexionesAbiertas());
+        }
+
+        esperarQue(() -> servidor.getConexionesAbiertas() == 0 && servidor.getSesionesActivas() == 0);
+    }
+
+    @Test
+    void variasMesasALaVez() throws Exception {
+        int mesas = 8;
+        Thread[] clientes = new Thread[mesas];
+        for (int i = 0; i < mesas; i++) {
+            clientes[i] = Thread.ofVirtual().start(() -> {
+                try (Socket socket = conectar()) {
+                    jugarPartidaSolo(socket);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        }
+        for (Thread cliente : clientes) {
+            cliente.join();
+        }
+
+        assertEquals(mesas, gestor.obtenerPosicionDeModo("SOLO", 0).getTotal());
+        esperarQue(() -> servidor.getConexionesAbiertas() == 0 && servidor.getSesionesActivas() == 0);
+        assertEquals(mesas, servidor.getSesionesCreadas());
+    }
+}
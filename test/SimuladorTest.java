@@ -0,0 +1,113 @@
+import EfectosEspeciales.TipoEfecto;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Simulador y sus estadísticas son del paquete por defecto
+class SimuladorTest {
+
+    private static final long SEMILLA = 9L;
+
+    // Más partidas que las de una sola tarea, para que el pool de verdad reparta
+    private static final int PARTIDAS_REPARTIDAS = 5_000;
+
+    // Todos los agregados y las semillas de los récords, para comparar dos simulaciones enteras
+    private static String agregados(ResultadoSimulacion resultado) {
+        StringBuilder texto = new StringBuilder(resultado.toString())
+                .append(" | J1 ").append(resultado.getVictoriasJugador1())
+                .append(" | J2 ").append(resultado.getVictoriasJugador2())
+                .append(" | turnos ").append(resultado.getTurnosTotales())
+                .append(" | aciertos ").append(resultado.getAciertos())
+                .append(" | racha ").append(resultado.getRachaMaxima())
+                .append(" | impactos ").append(resultado.getImpactos())
+                .append(" | semillas ").append(resultado.getSemillaTurnosMaximo())
+                .append('/').append(resultado.getSemillaRachaMaxima());
+        for (TipoEfecto tipo : TipoEfecto.values()) {
+            texto.append(' ').append(resultado.getConteoEfecto(tipo));
+        }
+        return texto.toString();
+    }
+
+    @Test
+    void lasPartidasSoloNoCuentanComoInconclusas() {
+        ResultadoSimulacion resultado = new Simulador(SEMILLA).simular(ModoJuego.SOLO, 2_000, SEMILLA);
+
+        assertEquals(2_000, resultado.getPartidas());
+        assertEquals(0, resultado.getPartidasInconclusas());
+        assertEquals(0, resultado.getPartidasEmpatadas());
+        assertEquals(0, resultado.getVictoriasJugador1() + resultado.getVictoriasJugador2());
+    }
+
+    @Test
+    void enMultijugadorCadaPartidaTieneUnDesenlace() {
+        for (ModoJuego modo : new ModoJuego[] {ModoJuego.CLASICO, ModoJuego.SOBRECARGA, ModoJuego.MUERTE_SUBITA}) {
+            ResultadoSimulacion resultado = new Simulador(SEMILLA).simular(modo, 1_000, SEMILLA);
+
+            assertEquals(0, resultado.getPartidasInconclusas(), modo.name());
+            assertEquals(resultado.getPartidas(), resultado.getVictoriasJugador1() + resultado.getVictoriasJugador2()
+                    + resultado.getPartidasEmpatadas(), modo.name());
+        }
+    }
+
+    @Test
+    void soloElCorteDeTurnosCuentaComoInconclusa() {
+        EstadisticasSimulacion clasico = new EstadisticasSimulacion(ModoJuego.CLASICO);
+        clasico.registrarPartida(Simulador.MAX_TURNOS_POR_PARTIDA, 10, 0, true, 1L);
+        clasico.registrarPartida(12, 3, 0, false, 2L);
+        clasico.registrarPartida(20, 5, 2, false, 3L);
+        ResultadoSimulacion resultado = clasico.aResultado(0L);
+        assertEquals(1, resultado.getPartidasInconclusas());
+        assertEquals(1, resultado.getPartidasEmpatadas());
+        assertEquals(1, resultado.getVictoriasJugador2());
+
+        EstadisticasSimulacion solo = new EstadisticasSimulacion(ModoJuego.SOLO);
+        solo.registrarPartida(4, 3, 0, false, 1L);
+        solo.registrarPartida(Simulador.MAX_TURNOS_POR_PARTIDA, Simulador.MAX_TURNOS_POR_PARTIDA, 0, true, 2L);
+        assertEquals(1, solo.aResultado(0L).getPartidasInconclusas());
+        assertEquals(0, solo.aResultado(0L).getPartidasEmpatadas());
+    }
+
+    @Test
+    void laMismaSemillaRaizRepiteLaSimulacionEnOtroSimulador() {
+        for (ModoJuego modo : ModoJuego.values()) {
+            ResultadoSimulacion uno = new Simulador(1L).simular(modo, 500, SEMILLA);
+            ResultadoSimulacion otro = new Simulador(2L).simular(modo, 500, SEMILLA);
+
+            assertEquals(agregados(uno), agregados(otro), modo.name());
+        }
+    }
+
+    @Test
+    void elTamanioDelPoolNoCambiaElResultado() {
+        ForkJoinPool unHilo = new ForkJoinPool(1);
+        ForkJoinPool cuatroHilos = new ForkJoinPool(4);
+        try {
+            for (ModoJuego modo : new ModoJuego[] {ModoJuego.CLASICO, ModoJuego.SOLO}) {
+                ResultadoSimulacion secuencial = new Simulador(unHilo, 1L).simular(modo, PARTIDAS_REPARTIDAS, SEMILLA);
+                ResultadoSimulacion paralelo = new Simulador(cuatroHilos, 2L).simular(modo, PARTIDAS_REPARTIDAS, SEMILLA);
+
+                assertEquals(agregados(secuencial), agregados(paralelo), modo.name());
+            }
+        } finally {
+            unHilo.shutdown();
+            cuatroHilos.shutdown();
+        }
+    }
+
+    @Test
+    void lasSemillasDeLosRecordsReproducenEsasPartidas() {
+        Simulador simulador = new Simulador(SEMILLA);
+        for (ModoJuego modo : ModoJuego.values()) {
+            ResultadoSimulacion resultado = simulador.simular(modo, PARTIDAS_REPARTIDAS, SEMILLA);
+
+            ResultadoSimulacion masLarga = simulador.reproducirPartida(modo, resultado.getSemillaTurnosMaximo());
+            assertEquals(1, masLarga.getPartidas());
+            assertEquals(resultado.getTurnosMaximo(), masLarga.getTurnosMaximo(), modo.name());
+
+            ResultadoSimulacion mejorRacha = simulador.reproducirPartida(modo, resultado.getSemillaRachaMaxima());
+            assertEquals(resultado.getRachaMaxima(), mejorRacha.getRachaMaxima(), modo.name());
+        }
+    }
+}